@@ -0,0 +1,59 @@
+package com.springboot.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files benchmark by benchmark:
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.springboot.benchmark.BenchmarkCompare base.json candidate.json
+ * </pre>
+ *
+ * The change column is candidate over base, so above 1.00 is faster for throughput
+ * modes and slower for time modes.
+ */
+public final class BenchmarkCompare {
+
+    private BenchmarkCompare() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkCompare <base.json> <candidate.json>");
+            System.exit(2);
+        }
+        Map<String, JsonNode> base = scores(Path.of(args[0]));
+        Map<String, JsonNode> candidate = scores(Path.of(args[1]));
+        System.out.printf(Locale.ROOT, "%-80s %14s %14s %-10s %7s%n", "Benchmark", "Base", "Candidate", "Unit", "Change");
+        candidate.forEach((name, result) -> {
+            JsonNode previous = base.get(name);
+            double score = result.path("score").asDouble();
+            String unit = result.path("scoreUnit").asText();
+            if (previous == null) {
+                System.out.printf(Locale.ROOT, "%-80s %14s %14.3f %-10s %7s%n", name, "-", score, unit, "new");
+            } else {
+                double before = previous.path("score").asDouble();
+                System.out.printf(Locale.ROOT, "%-80s %14.3f %14.3f %-10s %7.2f%n",
+                        name, before, score, unit, score / before);
+            }
+        });
+    }
+
+    private static Map<String, JsonNode> scores(Path file) throws IOException {
+        Map<String, JsonNode> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder name = new StringBuilder(run.path("benchmark").asText()).append(' ').append(run.path("mode").asText());
+            run.path("params").fields().forEachRemaining(param ->
+                    name.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+            scores.put(name.toString(), run.path("primaryMetric"));
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,48 @@
+package com.springboot.benchmark;
+
+import org.openjdk.jmh.Main;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of the benchmarks jar. Takes the usual JMH command line and, unless a
+ * result format or file is given, writes JSON results to
+ * {@code jmh-results/<git revision>-<time>.json} so runs can be compared across commits
+ * with {@link BenchmarkCompare}.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(List.of(args));
+        if (!jmhArgs.contains("-rf") && !jmhArgs.contains("-rff")) {
+            String time = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            Path results = Path.of("jmh-results", revision() + "-" + time + ".json");
+            Files.createDirectories(results.getParent());
+            jmhArgs.addAll(List.of("-rf", "json", "-rff", results.toString()));
+        }
+        Main.main(jmhArgs.toArray(String[]::new));
+    }
+
+    private static String revision() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String output = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return git.waitFor() == 0 && !output.isEmpty() ? output : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.springboot.benchmark;
+
+import com.springboot.SpringBootExampleApplication;
+import com.springboot.fastpath.FastPathServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text greeting throughput of the running application, over one keep-alive connection per
+ * benchmark thread: through Tomcat on the main port, and through the fast path listener.
+ * Tomcat is measured both as deployed, where Basic authentication runs BCrypt on every
+ * request, and answering a request without credentials, which still passes the whole
+ * servlet and security filter chain and so bounds what the container costs by itself.
+ * The rate limit is lifted so that neither side is throttled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class FastPathBenchmark {
+
+    private static final String TOKEN = "benchmark-token";
+    private static final String CREDENTIALS = Base64.getEncoder()
+        .encodeToString("greeting-user:benchmark-password".getBytes(StandardCharsets.US_ASCII));
+    private static final String AUTHORIZED = "GET /?lang=es HTTP/1.1\r\nHost: localhost\r\n"
+        + "Authorization: Basic " + CREDENTIALS + "\r\n\r\n";
+    private static final String UNAUTHORIZED = "GET /?lang=es HTTP/1.1\r\nHost: localhost\r\n\r\n";
+    private static final String FAST_PATH = "GET /?lang=es HTTP/1.1\r\nHost: localhost\r\n"
+        + "X-Fast-Path-Token: " + TOKEN + "\r\n\r\n";
+
+    @State(Scope.Benchmark)
+    public static class Application {
+
+        ConfigurableApplicationContext context;
+        int serverPort;
+        int fastPathPort;
+
+        @Setup
+        public void start() {
+            context = SpringApplication.run(SpringBootExampleApplication.class,
+                "--server.port=0",
+                "--management.server.port=0",
+                "--app.fast-path.enabled=true",
+                "--app.fast-path.port=0",
+                "--app.fast-path.token=" + TOKEN,
+                "--app.security.user.password=benchmark-password",
+                "--app.security.rate-limit.requests-per-second=1000000000",
+                "--logging.level.root=WARN",
+                "--logging.level.com.springboot=WARN",
+                "--logging.level.org.springframework.security=WARN");
+            serverPort = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            fastPathPort = context.getBean(FastPathServer.class).port();
+        }
+
+        @TearDown
+        public void stop() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Connections {
+
+        Client tomcat;
+        Client fastPath;
+
+        @Setup(Level.Trial)
+        public void open(Application application) throws IOException {
+            tomcat = new Client(application.serverPort);
+            fastPath = new Client(application.fastPathPort);
+            // A misconfigured run would otherwise measure 401s or 429s
+            if (tomcat.exchange(AUTHORIZED) != 200 || fastPath.exchange(FAST_PATH) != 200) {
+                throw new IllegalStateException("Greeting requests are not answered with 200");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            tomcat.close();
+            fastPath.close();
+        }
+    }
+
+    @Benchmark
+    public int tomcat(Connections connections) throws IOException {
+        return connections.tomcat.exchange(AUTHORIZED);
+    }
+
+    @Benchmark
+    public int tomcatUnauthorized(Connections connections) throws IOException {
+        return connections.tomcat.exchange(UNAUTHORIZED);
+    }
+
+    @Benchmark
+    public int fastPath(Connections connections) throws IOException {
+        return connections.fastPath.exchange(FAST_PATH);
+    }
+
+    /**
+     * A blocking HTTP/1.1 client that sends one request and reads its response in full,
+     * by Content-Length or chunked encoding, keeping the connection for the next one.
+     * Reconnects when the server closes it, as Tomcat does every 100 requests.
+     */
+    static final class Client {
+
+        private final int port;
+        private final StringBuilder line = new StringBuilder();
+        private Socket socket;
+        private OutputStream out;
+        private InputStream in;
+
+        Client(int port) throws IOException {
+            this.port = port;
+            connect();
+        }
+
+        private void connect() throws IOException {
+            socket = new Socket("localhost", port);
+            socket.setTcpNoDelay(true);
+            out = socket.getOutputStream();
+            in = new BufferedInputStream(socket.getInputStream());
+        }
+
+        int exchange(String request) throws IOException {
+            out.write(request.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            int status = Integer.parseInt(readLine().substring(9, 12));
+            long length = 0;
+            boolean chunked = false;
+            boolean close = false;
+            for (String header = readLine(); !header.isEmpty(); header = readLine()) {
+                String name = header.substring(0, header.indexOf(':')).trim();
+                String value = header.substring(header.indexOf(':') + 1).trim();
+                if (name.equalsIgnoreCase("Content-Length")) {
+                    length = Long.parseLong(value);
+                } else if (name.equalsIgnoreCase("Transfer-Encoding")) {
+                    chunked = value.equalsIgnoreCase("chunked");
+                } else if (name.equalsIgnoreCase("Connection")) {
+                    close = value.equalsIgnoreCase("close");
+                }
+            }
+            if (chunked) {
+                for (long size = Long.parseLong(readLine(), 16); size > 0; size = Long.parseLong(readLine(), 16)) {
+                    in.skipNBytes(size + 2);
+                }
+                readLine();
+            } else {
+                in.skipNBytes(length);
+            }
+            if (close) {
+                socket.close();
+                connect();
+            }
+            return status;
+        }
+
+        private String readLine() throws IOException {
+            line.setLength(0);
+            for (int b = in.read(); b != '\n'; b = in.read()) {
+                if (b < 0) {
+                    throw new IOException("Connection closed");
+                }
+                if (b != '\r') {
+                    line.append((char) b);
+                }
+            }
+            return line.toString();
+        }
+
+        void close() throws IOException {
+            socket.close();
+        }
+    }
+}
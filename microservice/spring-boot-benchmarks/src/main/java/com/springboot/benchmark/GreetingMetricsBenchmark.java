@@ -0,0 +1,50 @@
+package com.springboot.benchmark;
+
+import com.springboot.metrics.GreetingMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metric recording done on every greeting request, against the Prometheus registry
+ * used in production. The meters are looked up by name and tags on each call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class GreetingMetricsBenchmark {
+
+    private final GreetingMetrics metrics = new GreetingMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+
+    @Benchmark
+    public void incrementRequests() {
+        metrics.incrementRequests("es", "v2");
+    }
+
+    @Benchmark
+    public void startAndRecordTimer() {
+        Timer.Sample sample = metrics.startTimer();
+        metrics.recordTimer(sample, "es");
+    }
+
+    @Benchmark
+    public void incrementRateLimitExceeded() {
+        metrics.incrementRateLimitExceeded();
+    }
+}
@@ -0,0 +1,90 @@
+package com.springboot.benchmark;
+
+import com.springboot.backend.BatchingGreetingLoader;
+import com.springboot.backend.GreetingBackend;
+import com.springboot.backend.LastKnownGreetings;
+import com.springboot.backend.LocalGreetingBackend;
+import com.springboot.cache.CacheRemovals;
+import com.springboot.config.CacheConfig;
+import com.springboot.config.TenantProperties;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.service.GreetingCatalog;
+import com.springboot.service.GreetingService;
+import com.springboot.tenant.TenantCatalogs;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Greeting lookup through the {@code @Cacheable} proxy (always a hit after setup),
+ * straight from the Caffeine cache, and from the catalog the local backend serves on a
+ * miss. The backend runs without its simulated latency so setup does not wait for it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GreetingServiceBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private GreetingService proxiedService;
+    private Cache greetingsCache;
+    private GreetingCatalog catalog;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.register(CacheConfig.class, CacheRemovals.class, GreetingService.class, TenantProperties.class,
+            TenantCatalogs.class);
+        GreetingMetrics greetingMetrics = new GreetingMetrics(new SimpleMeterRegistry());
+        context.registerBean(GreetingMetrics.class, () -> greetingMetrics);
+        context.registerBean("lastKnownGreetings", LastKnownGreetings.class, LastKnownGreetings::new);
+        catalog = new GreetingCatalog("en");
+        context.registerBean(GreetingCatalog.class, () -> catalog);
+        GreetingBackend backend = new LocalGreetingBackend(catalog, Duration.ZERO, Duration.ZERO, Runnable::run);
+        context.registerBean(GreetingBackend.class, () -> backend);
+        context.registerBean(BatchingGreetingLoader.class, () -> new BatchingGreetingLoader(
+            backend, Duration.ZERO, 1, greetingMetrics));
+        context.refresh();
+        proxiedService = context.getBean(GreetingService.class);
+        greetingsCache = context.getBean(CacheManager.class).getCache("greetings");
+        proxiedService.getGreeting("es");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String proxiedCacheHit() {
+        return proxiedService.getGreeting("es");
+    }
+
+    @Benchmark
+    public Object cacheLookup() {
+        return greetingsCache.get("es").get();
+    }
+
+    @Benchmark
+    public String catalogLookup() {
+        return catalog.greetingOrDefault("es");
+    }
+}
@@ -0,0 +1,70 @@
+package com.springboot.benchmark;
+
+import com.springboot.template.GreetingTemplate;
+import com.springboot.util.SecurityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Personalized greeting throughput from every available thread: a compiled template
+ * written into a reused buffer (as the response buffer is reused by Tomcat) against
+ * {@code String.replace} on the template source with the name run through
+ * {@link SecurityUtils#sanitizeInput} and encoded to bytes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class GreetingTemplateBenchmark {
+
+    private static final String SOURCE = "¡Hola, {name}!";
+
+    @Param({"Ana", "José <b>Müller</b>"})
+    public String name;
+
+    private GreetingTemplate template;
+
+    @State(Scope.Thread)
+    public static class Buffer {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+    }
+
+    @Setup(Level.Trial)
+    public void compile() {
+        template = GreetingTemplate.compile(SOURCE);
+    }
+
+    @Benchmark
+    public int compiled(Buffer buffer) throws IOException {
+        buffer.out.reset();
+        template.writeTo(name, buffer.out);
+        return template.length(name) + buffer.out.size();
+    }
+
+    @Benchmark
+    public void replaceAndSanitize(Blackhole blackhole) {
+        String greeting = SOURCE.replace("{name}", SecurityUtils.sanitizeInput(name));
+        blackhole.consume(greeting.getBytes(StandardCharsets.UTF_8));
+    }
+}
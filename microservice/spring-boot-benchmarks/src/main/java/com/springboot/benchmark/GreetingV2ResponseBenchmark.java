@@ -0,0 +1,72 @@
+package com.springboot.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.model.GreetingV2Response;
+import com.springboot.util.CoarseClock;
+import com.springboot.web.GreetingV2JsonEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former map-based /api/v2/greeting serialization with the typed record
+ * and the pre-encoded fragment path. Run with {@code -prof gc} to see bytes allocated
+ * per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GreetingV2ResponseBenchmark {
+
+    private static final String GREETING = "¡Hola Mundo!";
+    private static final String LANGUAGE = "es";
+    private static final String CLIENT_IP = "203.0.113.42";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CoarseClock coarseClock = new CoarseClock(Clock.systemDefaultZone(), Duration.ofMillis(10));
+    private final GreetingV2JsonEncoder encoder = new GreetingV2JsonEncoder(coarseClock);
+
+    @Benchmark
+    public byte[] mapWithJackson() throws Exception {
+        Map<String, Object> response = Map.of(
+            "message", GREETING,
+            "language", LANGUAGE,
+            "timestamp", LocalDateTime.now().toString(),
+            "version", "v2",
+            "metadata", Map.of(
+                "isSupported", true,
+                "characterCount", GREETING.length(),
+                "encoding", "UTF-8",
+                "clientIP", CLIENT_IP
+            )
+        );
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] recordWithJackson() throws Exception {
+        return objectMapper.writeValueAsBytes(
+            GreetingV2Response.of(GREETING, LANGUAGE, coarseClock.tick().text(), true, CLIENT_IP));
+    }
+
+    @Benchmark
+    public byte[] recordPreEncoded() {
+        return encoder.encode(
+            GreetingV2Response.of(GREETING, LANGUAGE, coarseClock.tick().text(), true, CLIENT_IP));
+    }
+}
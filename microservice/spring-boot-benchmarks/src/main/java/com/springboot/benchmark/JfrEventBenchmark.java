@@ -0,0 +1,68 @@
+package com.springboot.benchmark;
+
+import com.springboot.profiling.GreetingRequestEvent;
+import com.springboot.profiling.RateLimitRejectedEvent;
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the custom JFR events on the request path with no recording running versus
+ * a recording that has them enabled. Run with {@code -prof gc} to confirm the disabled
+ * events allocate nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JfrEventBenchmark {
+
+    @Param({"off", "on"})
+    private String recording;
+
+    private Recording active;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("on".equals(recording)) {
+            active = new Recording();
+            active.enable("com.springboot.GreetingRequest");
+            active.enable("com.springboot.RateLimitRejected");
+            active.setToDisk(false);
+            active.start();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (active != null) {
+            active.close();
+        }
+    }
+
+    @Benchmark
+    public void greetingRequest() {
+        GreetingRequestEvent event = GreetingRequestEvent.start();
+        event.finish("/", "en", false);
+    }
+
+    @Benchmark
+    public void rateLimitRejected() {
+        RateLimitRejectedEvent.emit("203.0.113.7", "/");
+    }
+}
@@ -0,0 +1,87 @@
+package com.springboot.benchmark;
+
+import com.springboot.model.LanguageMatch;
+import com.springboot.search.LanguageSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code /languages/search} query latency on a synthetic catalog of regional variants:
+ * every available JDK locale repeated with private-use suffixes up to {@code entries},
+ * each greeting carrying one of a few thousand pseudo-words. Covers a selective prefix,
+ * a one-letter prefix (the bounded worst case), a misspelling answered by trigrams and
+ * a two-word query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LanguageSearchIndexBenchmark {
+
+    private static final String[] GREETINGS = {"Hello World!", "¡Hola Mundo!", "Bonjour le Monde!", "Hallo Welt!",
+        "Ciao Mondo!", "Olá Mundo!", "Привет мир!", "こんにちは世界!", "你好世界!"};
+
+    @Param({"100000"})
+    public int entries;
+
+    private LanguageSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        Locale[] locales = Arrays.stream(Locale.getAvailableLocales())
+            .filter(locale -> !locale.getLanguage().isEmpty())
+            .toArray(Locale[]::new);
+        Random random = new Random(42);
+        String[] words = new String[4096];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = Integer.toString(46656 + random.nextInt(1_600_000), 36);
+        }
+        SortedMap<String, String> catalog = new TreeMap<>();
+        for (int i = 0; catalog.size() < entries; i++) {
+            Locale locale = locales[i % locales.length];
+            String code = locale.toLanguageTag() + "-x-v" + Integer.toString(i / locales.length, 36);
+            catalog.put(code, GREETINGS[i % GREETINGS.length] + " " + words[random.nextInt(words.length)]);
+        }
+        index = LanguageSearchIndex.build(catalog);
+    }
+
+    @Benchmark
+    public List<LanguageMatch> prefix() {
+        return index.search("portug", 10);
+    }
+
+    @Benchmark
+    public List<LanguageMatch> singleLetter() {
+        return index.search("p", 10);
+    }
+
+    @Benchmark
+    public List<LanguageMatch> fuzzy() {
+        return index.search("portugese", 10);
+    }
+
+    @Benchmark
+    public List<LanguageMatch> twoWords() {
+        return index.search("hola mun", 10);
+    }
+}
@@ -0,0 +1,83 @@
+package com.springboot.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.springboot.model.GreetingV2Response;
+import com.springboot.model.LanguageCatalog;
+import com.springboot.service.GreetingCatalog;
+import com.springboot.web.GreetingProtobufCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of the v2 greeting and /languages payloads in each negotiable
+ * format. Encoded sizes are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"greeting", "languages"})
+    public String payload;
+
+    private final GreetingProtobufCodec protobufCodec = new GreetingProtobufCodec();
+    private ObjectMapper mapper;
+    private GreetingV2Response greeting;
+    private Map<String, String> languages;
+    private LanguageCatalog catalog;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> new ObjectMapper();
+        };
+        greeting = GreetingV2Response.of("¡Hola Mundo!", "es", "2024-01-15T10:30:00.120", true, "203.0.113.42");
+        languages = new GreetingCatalog("en").greetings();
+        catalog = LanguageCatalog.of(languages);
+        encoded = encode();
+        System.out.printf("%n%s %s payload: %d bytes%n", format, payload, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        boolean isGreeting = "greeting".equals(payload);
+        if ("protobuf".equals(format)) {
+            return isGreeting ? protobufCodec.encode(greeting) : protobufCodec.encode(catalog);
+        }
+        return mapper.writeValueAsBytes(isGreeting ? greeting : languages);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        boolean isGreeting = "greeting".equals(payload);
+        if ("protobuf".equals(format)) {
+            return isGreeting ? protobufCodec.decodeGreeting(encoded) : protobufCodec.decodeCatalog(encoded);
+        }
+        return isGreeting ? mapper.readValue(encoded, GreetingV2Response.class) : mapper.readValue(encoded, Map.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.springboot.benchmark;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code tryAcquire} on the single shared limiter every request goes through, with all
+ * benchmark threads contending for it. {@code granted} never runs out of permits,
+ * {@code rejected} is exhausted. Vary the contention with {@code -t}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private RateLimiter plentiful;
+    private RateLimiter exhausted;
+
+    @Setup
+    public void setUp() {
+        plentiful = RateLimiter.create(1e9);
+        exhausted = RateLimiter.create(0.001);
+        exhausted.tryAcquire();
+    }
+
+    @Benchmark
+    public boolean granted() {
+        return plentiful.tryAcquire();
+    }
+
+    @Benchmark
+    public boolean rejected() {
+        return exhausted.tryAcquire();
+    }
+}
@@ -0,0 +1,64 @@
+package com.springboot.benchmark;
+
+import com.springboot.util.SecurityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request input handling in the controllers: sanitizing and validating the
+ * {@code lang} parameter and resolving the client IP, with and without a proxy header.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityUtilsBenchmark {
+
+    @Param({"es", "<script>alert('x')</script>"})
+    public String language;
+
+    private MockHttpServletRequest direct;
+    private MockHttpServletRequest proxied;
+
+    @Setup
+    public void setUp() {
+        direct = new MockHttpServletRequest("GET", "/");
+        direct.setRemoteAddr("203.0.113.42");
+        proxied = new MockHttpServletRequest("GET", "/");
+        proxied.addHeader("X-Forwarded-For", "198.51.100.23, 10.0.0.1, 10.0.0.2");
+    }
+
+    @Benchmark
+    public String sanitizeInput() {
+        return SecurityUtils.sanitizeInput(language);
+    }
+
+    @Benchmark
+    public boolean isValidLanguageCode() {
+        return SecurityUtils.isValidLanguageCode(language);
+    }
+
+    @Benchmark
+    public String getClientIPDirect() {
+        return SecurityUtils.getClientIP(direct);
+    }
+
+    @Benchmark
+    public String getClientIPForwarded() {
+        return SecurityUtils.getClientIP(proxied);
+    }
+}
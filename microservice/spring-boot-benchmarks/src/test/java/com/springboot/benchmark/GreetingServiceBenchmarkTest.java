@@ -0,0 +1,25 @@
+package com.springboot.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Refreshes the benchmark's hand-built context, which breaks silently when a bean it
+ * wires gains a constructor dependency.
+ */
+class GreetingServiceBenchmarkTest {
+
+    @Test
+    void testContextRefreshesAndServesFromTheCache() {
+        GreetingServiceBenchmark benchmark = new GreetingServiceBenchmark();
+        benchmark.setUp();
+        try {
+            assertThat(benchmark.proxiedCacheHit()).isEqualTo("¡Hola Mundo!");
+            assertThat(benchmark.cacheLookup()).isEqualTo("¡Hola Mundo!");
+            assertThat(benchmark.catalogLookup()).isEqualTo("¡Hola Mundo!");
+        } finally {
+            benchmark.tearDown();
+        }
+    }
+}
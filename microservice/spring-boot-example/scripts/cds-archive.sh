@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Builds an AppCDS archive (target/app.jsa) from a training run that stops right after
+# the context refresh. The archive is only valid for the exact classpath printed below,
+# so start the application with the same one (time-to-first-request.sh does). Set
+# SKIP_BUILD=true to reuse target/lib.
+#
+#   scripts/cds-archive.sh                  # local profile
+#   SPRING_PROFILES_ACTIVE=prod,fast-startup scripts/cds-archive.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+if [[ "${SKIP_BUILD:-false}" != "true" ]]; then
+    mvn -B -q -f ../pom.xml -pl spring-boot-example package dependency:copy-dependencies \
+        -DskipTests -DincludeScope=runtime -DoutputDirectory=target/lib
+    # The Spring Boot jar nests its dependencies, which CDS cannot archive
+    mkdir -p target/lib/app
+    jar --create --file target/lib/app/spring-boot-example.jar -C target/classes .
+fi
+
+source scripts/classpath.sh
+
+rm -f target/app.jsa
+java -XX:ArchiveClassesAtExit=target/app.jsa \
+     -Dspring.context.exit=onRefresh \
+     -Dspring.profiles.active="${SPRING_PROFILES_ACTIVE:-local}" \
+     -Dapp.security.user.password=cds-training \
+     -Dapp.security.admin.password=cds-training \
+     -Dapp.journal.enabled=false \
+     -cp "$APP_CLASSPATH" com.springboot.SpringBootExampleApplication > target/cds-training.log 2>&1
+
+echo "Archive: target/app.jsa ($(du -h target/app.jsa | cut -f1))"
+echo "Classpath: $APP_CLASSPATH"
@@ -0,0 +1,8 @@
+# Sourced by the startup scripts: a fixed, sorted classpath of the application jar and
+# the runtime dependencies copied to target/lib. CDS only archives classes from jars and
+# rejects an archive whose classpath differs from the one it was created with.
+APP_CLASSPATH="target/lib/app/spring-boot-example.jar"
+for jar in $(ls target/lib/*.jar | sort); do
+    APP_CLASSPATH="$APP_CLASSPATH:$jar"
+done
+export APP_CLASSPATH
@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# Starts the application and prints the milliseconds until the first authenticated
+# GET / answers 200. Pass "cds" to start with target/app.jsa from cds-archive.sh.
+#
+#   scripts/time-to-first-request.sh
+#   SPRING_PROFILES_ACTIVE=local,fast-startup scripts/time-to-first-request.sh cds
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+source scripts/classpath.sh
+
+PORT="${PORT:-18080}"
+PASSWORD="ttfr-$RANDOM"
+JAVA_OPTS=()
+if [[ "${1:-}" == "cds" ]]; then
+    JAVA_OPTS+=(-XX:SharedArchiveFile=target/app.jsa -Xshare:auto)
+fi
+
+start=$(date +%s%N)
+java "${JAVA_OPTS[@]}" \
+     -Dspring.profiles.active="${SPRING_PROFILES_ACTIVE:-local}" \
+     -Dserver.port="$PORT" \
+     -Dapp.security.user.password="$PASSWORD" \
+     -Dapp.journal.enabled=false \
+     -cp "$APP_CLASSPATH" com.springboot.SpringBootExampleApplication > target/ttfr.log 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null || true' EXIT
+
+until [[ "$(curl -s -o /dev/null -w '%{http_code}' -u "greeting-user:$PASSWORD" "http://localhost:$PORT/")" == "200" ]]; do
+    if ! kill -0 $pid 2>/dev/null; then
+        echo "Application exited, see target/ttfr.log" >&2
+        exit 1
+    fi
+    sleep 0.05
+done
+end=$(date +%s%N)
+
+echo "Time to first request: $(( (end - start) / 1000000 )) ms ${1:+(with CDS)}"
+grep -o 'Started SpringBootExampleApplication in .*' target/ttfr.log || true
@@ -1,14 +1,50 @@
 package com.springboot;
 
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.actuate.autoconfigure.web.ManagementContextConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
 
-@SpringBootApplication
+// @SpringBootApplication's scan, minus the management child context configuration
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@ComponentScan(excludeFilters = {
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+    @ComponentScan.Filter(ManagementContextConfiguration.class)
+})
 @EnableConfigurationProperties
 public class SpringBootExampleApplication {
 
+    private static final int STARTUP_STEP_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(SpringBootExampleApplication.class, args);
+        SpringApplication application = new SpringApplication(SpringBootExampleApplication.class);
+        application.addListeners(new StartupTimeline());
+        application.run(args);
+    }
+
+    /**
+     * Keeps the startup timeline for {@code /actuator/startup} when
+     * {@code app.startup.timeline} is set, as the fast-startup profile does. Installed once
+     * the environment is known, which is before the context records its steps.
+     */
+    private static final class StartupTimeline implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+        @Override
+        public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+            if (event.getEnvironment().getProperty("app.startup.timeline", Boolean.class, false)) {
+                event.getSpringApplication().setApplicationStartup(
+                    new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+            }
+        }
     }
-}
\ No newline at end of file
+}
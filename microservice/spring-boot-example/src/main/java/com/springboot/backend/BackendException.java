@@ -0,0 +1,17 @@
+package com.springboot.backend;
+
+/**
+ * A greeting backend call that failed or was refused; the service answers 503.
+ */
+public class BackendException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BackendException(String message) {
+        super(message);
+    }
+
+    public BackendException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,116 @@
+package com.springboot.backend;
+
+import com.springboot.metrics.GreetingMetrics;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges greeting loads into {@link GreetingBackend#fetchGreetings} calls: languages
+ * requested within {@code window} of the first one, or until {@code maxBatchSize}
+ * distinct languages are waiting, go out as one batch and each caller is completed from
+ * its result. A language already waiting or in flight joins that load instead of
+ * starting another. A zero window sends every load at once, keeping only the joining.
+ */
+public class BatchingGreetingLoader {
+
+    private final GreetingBackend backend;
+    private final int maxBatchSize;
+    private final GreetingMetrics greetingMetrics;
+    private final Executor windowTimer;
+
+    private final Object lock = new Object();
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private Map<String, Pending> batch = new LinkedHashMap<>();
+    private long generation;
+
+    public BatchingGreetingLoader(GreetingBackend backend, Duration window, int maxBatchSize,
+                                  GreetingMetrics greetingMetrics) {
+        this.backend = backend;
+        this.maxBatchSize = window.isZero() ? 1 : maxBatchSize;
+        this.greetingMetrics = greetingMetrics;
+        this.windowTimer = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public CompletableFuture<String> load(String language) {
+        CompletableFuture<String> result;
+        Map<String, Pending> full = null;
+        long scheduled = -1;
+        synchronized (lock) {
+            CompletableFuture<String> existing = inFlight.get(language);
+            if (existing != null) {
+                return existing;
+            }
+            result = new CompletableFuture<>();
+            inFlight.put(language, result);
+            if (batch.isEmpty()) {
+                scheduled = generation;
+            }
+            batch.put(language, new Pending(result, System.nanoTime()));
+            if (batch.size() >= maxBatchSize) {
+                full = takeBatch();
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        } else if (scheduled >= 0) {
+            long expected = scheduled;
+            windowTimer.execute(() -> flush(expected));
+        }
+        return result;
+    }
+
+    private void flush(long expected) {
+        Map<String, Pending> due;
+        synchronized (lock) {
+            // The batch this timer was started for already went out when it filled up
+            if (generation != expected || batch.isEmpty()) {
+                return;
+            }
+            due = takeBatch();
+        }
+        dispatch(due);
+    }
+
+    private Map<String, Pending> takeBatch() {
+        Map<String, Pending> taken = batch;
+        batch = new LinkedHashMap<>();
+        generation++;
+        return taken;
+    }
+
+    private void dispatch(Map<String, Pending> due) {
+        long now = System.nanoTime();
+        greetingMetrics.recordGreetingBatch(due.size());
+        due.values().forEach(pending -> greetingMetrics.recordGreetingBatchWait(now - pending.enqueuedNanos()));
+
+        CompletableFuture<Map<String, String>> fetched;
+        try {
+            fetched = backend.fetchGreetings(Collections.unmodifiableSet(due.keySet()));
+        } catch (RuntimeException e) {
+            fetched = CompletableFuture.failedFuture(e);
+        }
+        fetched.whenComplete((greetings, failure) -> due.forEach((language, pending) -> {
+            inFlight.remove(language, pending.result());
+            if (failure != null) {
+                pending.result().completeExceptionally(failure);
+                return;
+            }
+            String greeting = greetings.get(language);
+            if (greeting == null) {
+                pending.result().completeExceptionally(new BackendException("No greeting returned for " + language));
+            } else {
+                pending.result().complete(greeting);
+            }
+        }));
+    }
+
+    private record Pending(CompletableFuture<String> result, long enqueuedNanos) {
+    }
+}
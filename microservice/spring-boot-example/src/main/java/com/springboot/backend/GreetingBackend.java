@@ -0,0 +1,53 @@
+package com.springboot.backend;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Where {@code GreetingService} loads greetings from on a cache miss. Calls return
+ * immediately; the futures complete on the backend's own threads, so no caller thread
+ * is held while a lookup is in flight.
+ */
+public interface GreetingBackend extends AutoCloseable {
+
+    /**
+     * Greeting for a lowercase language code, or the default-language greeting when the
+     * backend has none for it.
+     */
+    CompletableFuture<String> fetchGreeting(String language);
+
+    /**
+     * Greetings for several languages in one round trip, keyed by the requested codes
+     * with the same default-language rule as {@link #fetchGreeting}. Backends without a
+     * bulk call fall back to one call per language.
+     */
+    default CompletableFuture<Map<String, String>> fetchGreetings(Set<String> languages) {
+        List<String> requested = List.copyOf(languages);
+        List<CompletableFuture<String>> calls = requested.stream().map(this::fetchGreeting).toList();
+        return CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            Map<String, String> greetings = new LinkedHashMap<>();
+            for (int i = 0; i < requested.size(); i++) {
+                greetings.put(requested.get(i), calls.get(i).join());
+            }
+            return greetings;
+        });
+    }
+
+    /**
+     * All greetings keyed by language code, in code order. The map is immutable.
+     */
+    CompletableFuture<SortedMap<String, String>> fetchAll();
+
+    /**
+     * Short name used to tag metrics, e.g. {@code local} or {@code http}.
+     */
+    String name();
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,190 @@
+package com.springboot.backend;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Loads greetings from a remote service over HTTP/1.1 with the JDK client's async API:
+ * {@code GET {base}/greetings/{language}} answers the greeting as text,
+ * {@code GET {base}/greetings?languages=de,fr} the requested greetings and
+ * {@code GET {base}/greetings} the whole catalog, both as a JSON object.
+ * <p>
+ * At most {@code maxConnections} requests are in flight, which bounds the client's
+ * connection pool; up to {@code maxPending} further calls wait in a queue without
+ * holding a thread and anything beyond that fails fast.
+ */
+public class HttpGreetingBackend implements GreetingBackend {
+
+    private static final TypeReference<Map<String, String>> GREETINGS = new TypeReference<>() {};
+
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final int maxPending;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+
+    private final Semaphore connections;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    public HttpGreetingBackend(URI baseUri, Duration connectTimeout, Duration requestTimeout, int maxConnections,
+                               int maxPending, Executor executor, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+        this.maxPending = maxPending;
+        this.objectMapper = objectMapper;
+        this.connections = new Semaphore(maxConnections);
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(connectTimeout)
+            .executor(executor)
+            .build();
+    }
+
+    @Override
+    public CompletableFuture<String> fetchGreeting(String language) {
+        return submit("/greetings/" + URLEncoder.encode(language, StandardCharsets.UTF_8), body -> body);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> fetchGreetings(Set<String> languages) {
+        String query = languages.stream()
+            .map(language -> URLEncoder.encode(language, StandardCharsets.UTF_8))
+            .collect(Collectors.joining(","));
+        return submit("/greetings?languages=" + query, this::parseGreetings);
+    }
+
+    @Override
+    public CompletableFuture<SortedMap<String, String>> fetchAll() {
+        return submit("/greetings", this::parseGreetings);
+    }
+
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    @Override
+    public void close() {
+        client.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(String path, Function<String, T> parser) {
+        if (connections.tryAcquire()) {
+            return send(path, parser);
+        }
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            return CompletableFuture.failedFuture(new BackendException("Greeting backend saturated"));
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        pending.add(() -> {
+            if (result.isDone()) {
+                // Cancelled while queued; the caller's drain loop hands the permit on
+                connections.release();
+                return;
+            }
+            CompletableFuture<T> sent = send(path, parser);
+            sent.whenComplete((value, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(value);
+                }
+            });
+            cancelOnCancellation(result, sent);
+        });
+        // A connection may have been released between tryAcquire and add
+        drain();
+        return result;
+    }
+
+    /**
+     * Sends with an acquired connection permit and releases it when the exchange ends.
+     */
+    private <T> CompletableFuture<T> send(String path, Function<String, T> parser) {
+        CompletableFuture<HttpResponse<String>> exchange;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+            exchange = client.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            release();
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<T> result = exchange
+            .whenComplete((response, failure) -> release())
+            .thenApply(response -> {
+                if (response.statusCode() != 200) {
+                    throw new BackendException("Greeting backend answered " + response.statusCode() + " for " + path);
+                }
+                return parser.apply(response.body());
+            });
+        cancelOnCancellation(result, exchange);
+        return result;
+    }
+
+    /**
+     * Cancelling a caller's future, as a timeout above this backend does, aborts the
+     * exchange behind it and so frees its connection at once instead of at
+     * {@code request-timeout}.
+     */
+    private static void cancelOnCancellation(CompletableFuture<?> result, CompletableFuture<?> source) {
+        result.whenComplete((value, failure) -> {
+            if (failure instanceof CancellationException) {
+                source.cancel(true);
+            }
+        });
+    }
+
+    private void release() {
+        connections.release();
+        drain();
+    }
+
+    private void drain() {
+        while (!pending.isEmpty() && connections.tryAcquire()) {
+            Runnable next = pending.poll();
+            if (next == null) {
+                connections.release();
+                return;
+            }
+            pendingCount.decrementAndGet();
+            next.run();
+        }
+    }
+
+    private SortedMap<String, String> parseGreetings(String body) {
+        try {
+            return Collections.unmodifiableSortedMap(new TreeMap<>(objectMapper.readValue(body, GREETINGS)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.springboot.backend;
+
+import com.springboot.metrics.GreetingMetrics;
+
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Records the latency and outcome ({@code success}, {@code timeout} or {@code error})
+ * of every call to the wrapped backend.
+ */
+public class InstrumentedGreetingBackend implements GreetingBackend {
+
+    private final GreetingBackend delegate;
+    private final GreetingMetrics greetingMetrics;
+
+    public InstrumentedGreetingBackend(GreetingBackend delegate, GreetingMetrics greetingMetrics) {
+        this.delegate = delegate;
+        this.greetingMetrics = greetingMetrics;
+    }
+
+    @Override
+    public CompletableFuture<String> fetchGreeting(String language) {
+        return record("greeting", delegate.fetchGreeting(language));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> fetchGreetings(Set<String> languages) {
+        return record("greetings", delegate.fetchGreetings(languages));
+    }
+
+    @Override
+    public CompletableFuture<SortedMap<String, String>> fetchAll() {
+        return record("languages", delegate.fetchAll());
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private <T> CompletableFuture<T> record(String operation, CompletableFuture<T> call) {
+        long start = System.nanoTime();
+        CompletableFuture<T> recorded = call.whenComplete((result, failure) -> greetingMetrics.recordBackendCall(
+            delegate.name(), operation, outcome(failure), System.nanoTime() - start));
+        // A caller's cancellation is passed on to the delegate's call; the recording stage
+        // is complete by then and skips its action, so it is counted here
+        recorded.whenComplete((result, failure) -> {
+            if (failure instanceof CancellationException && call.cancel(true)) {
+                greetingMetrics.recordBackendCall(delegate.name(), operation, "cancelled", System.nanoTime() - start);
+            }
+        });
+        return recorded;
+    }
+
+    static String outcome(Throwable failure) {
+        if (failure == null) {
+            return "success";
+        }
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+            ? failure.getCause() : failure;
+        if (cause instanceof CancellationException) {
+            return "cancelled";
+        }
+        return cause instanceof HttpTimeoutException || cause instanceof TimeoutException ? "timeout" : "error";
+    }
+}
@@ -0,0 +1,54 @@
+package com.springboot.backend;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Collections;
+import java.util.SortedMap;
+
+/**
+ * The last greetings successfully loaded from the backend, kept without expiry so a
+ * failing backend can still be answered, however stale.
+ * <p>
+ * Values handed out as fallbacks are fresh instances remembered by identity, which lets
+ * the greeting caches refuse them with {@code unless = "@lastKnownGreetings.isFallback(#result)"}
+ * and load the real value again once the backend recovers.
+ */
+public class LastKnownGreetings {
+
+    private final Cache<String, String> greetings = Caffeine.newBuilder().maximumSize(1000).build();
+    private final Cache<Object, Boolean> fallbacks = Caffeine.newBuilder().weakKeys().build();
+    private volatile SortedMap<String, String> all;
+
+    public void remember(String language, String greeting) {
+        greetings.put(language, greeting);
+    }
+
+    public void rememberAll(SortedMap<String, String> greetings) {
+        this.all = greetings;
+    }
+
+    public String greeting(String language) {
+        return greetings.getIfPresent(language);
+    }
+
+    public SortedMap<String, String> all() {
+        return all;
+    }
+
+    public String fallback(String greeting) {
+        String fallback = new String(greeting);
+        fallbacks.put(fallback, Boolean.TRUE);
+        return fallback;
+    }
+
+    public SortedMap<String, String> fallback(SortedMap<String, String> greetings) {
+        SortedMap<String, String> fallback = Collections.unmodifiableSortedMap(greetings);
+        fallbacks.put(fallback, Boolean.TRUE);
+        return fallback;
+    }
+
+    public boolean isFallback(Object value) {
+        return value != null && fallbacks.getIfPresent(value) != null;
+    }
+}
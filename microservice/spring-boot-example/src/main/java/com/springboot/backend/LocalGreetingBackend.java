@@ -0,0 +1,61 @@
+package com.springboot.backend;
+
+import com.springboot.service.GreetingCatalog;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the in-process {@link GreetingCatalog} after a simulated lookup latency. The
+ * delay is a scheduled completion on {@code executor}, not a sleeping thread.
+ */
+public class LocalGreetingBackend implements GreetingBackend {
+
+    private final GreetingCatalog catalog;
+    private final Executor greetingExecutor;
+    private final Executor languagesExecutor;
+
+    public LocalGreetingBackend(GreetingCatalog catalog, Duration greetingLatency, Duration languagesLatency,
+                                Executor executor) {
+        this.catalog = catalog;
+        this.greetingExecutor = delayed(greetingLatency, executor);
+        this.languagesExecutor = delayed(languagesLatency, executor);
+    }
+
+    @Override
+    public CompletableFuture<String> fetchGreeting(String language) {
+        return CompletableFuture.supplyAsync(() -> catalog.greetingOrDefault(language), greetingExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> fetchGreetings(Set<String> languages) {
+        return CompletableFuture.supplyAsync(() -> {
+            Map<String, String> greetings = new LinkedHashMap<>();
+            languages.forEach(language -> greetings.put(language, catalog.greetingOrDefault(language)));
+            return greetings;
+        }, greetingExecutor);
+    }
+
+    @Override
+    public CompletableFuture<SortedMap<String, String>> fetchAll() {
+        return CompletableFuture.supplyAsync(catalog::greetings, languagesExecutor);
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    private static Executor delayed(Duration latency, Executor executor) {
+        if (latency.isZero()) {
+            return Runnable::run;
+        }
+        return CompletableFuture.delayedExecutor(latency.toNanos(), TimeUnit.NANOSECONDS, executor);
+    }
+}
@@ -0,0 +1,156 @@
+package com.springboot.backend;
+
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.service.GreetingCatalog;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Guards the wrapped backend with a circuit breaker and a per-call timeout. Failed,
+ * timed-out and short-circuited greeting loads are answered from
+ * {@link LastKnownGreetings}: the language's last value, else the default language's
+ * last value, else the built-in default greeting. The catalog only falls back to a
+ * last-known copy and fails with {@link BackendException} when there is none.
+ */
+public class ResilientGreetingBackend implements GreetingBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientGreetingBackend.class);
+
+    private final GreetingBackend delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final LastKnownGreetings lastKnown;
+    private final GreetingCatalog catalog;
+    private final Duration callTimeout;
+    private final GreetingMetrics greetingMetrics;
+
+    public ResilientGreetingBackend(GreetingBackend delegate, CircuitBreaker circuitBreaker,
+                                    LastKnownGreetings lastKnown, GreetingCatalog catalog, Duration callTimeout,
+                                    GreetingMetrics greetingMetrics) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.lastKnown = lastKnown;
+        this.catalog = catalog;
+        this.callTimeout = callTimeout;
+        this.greetingMetrics = greetingMetrics;
+    }
+
+    @Override
+    public CompletableFuture<String> fetchGreeting(String language) {
+        return guarded(() -> delegate.fetchGreeting(language))
+            .thenApply(greeting -> {
+                lastKnown.remember(language, greeting);
+                return greeting;
+            })
+            .exceptionally(failure -> {
+                logFailure(language, failure);
+                return fallbackGreeting(language);
+            });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> fetchGreetings(Set<String> languages) {
+        return guarded(() -> delegate.fetchGreetings(languages))
+            .thenApply(greetings -> {
+                greetings.forEach(lastKnown::remember);
+                return greetings;
+            })
+            .exceptionally(failure -> {
+                logFailure(String.join(",", languages), failure);
+                Map<String, String> fallbacks = new LinkedHashMap<>();
+                languages.forEach(language -> fallbacks.put(language, fallbackGreeting(language)));
+                return fallbacks;
+            });
+    }
+
+    @Override
+    public CompletableFuture<SortedMap<String, String>> fetchAll() {
+        return guarded(delegate::fetchAll)
+            .thenApply(greetings -> {
+                lastKnown.rememberAll(greetings);
+                return greetings;
+            })
+            .exceptionally(failure -> {
+                SortedMap<String, String> stale = lastKnown.all();
+                if (stale == null) {
+                    throw new CompletionException(new BackendException("Greeting backend unavailable", unwrap(failure)));
+                }
+                greetingMetrics.incrementBackendFallback(name(), "stale");
+                return lastKnown.fallback(stale);
+            });
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private <T> CompletableFuture<T> guarded(Supplier<CompletableFuture<T>> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+        }
+        long start = System.nanoTime();
+        CompletableFuture<T> source;
+        CompletableFuture<T> result;
+        try {
+            source = call.get();
+            result = source.copy().orTimeout(callTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((value, failure) -> {
+            long elapsed = System.nanoTime() - start;
+            if (failure == null) {
+                circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            } else {
+                if (failure instanceof TimeoutException) {
+                    // Aborts the call underneath, so it stops holding its connection
+                    source.cancel(true);
+                }
+                circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, unwrap(failure));
+            }
+        });
+    }
+
+    private static void logFailure(String languages, Throwable failure) {
+        Throwable cause = unwrap(failure);
+        if (!(cause instanceof CallNotPermittedException)) {
+            logger.warn("Greeting backend failed for language {}: {}", languages, cause.toString());
+        }
+    }
+
+    private String fallbackGreeting(String language) {
+        String stale = lastKnown.greeting(language);
+        if (stale == null) {
+            stale = lastKnown.greeting(catalog.defaultLanguage());
+        }
+        if (stale != null) {
+            greetingMetrics.incrementBackendFallback(name(), "stale");
+            return lastKnown.fallback(stale);
+        }
+        greetingMetrics.incrementBackendFallback(name(), "default");
+        return lastKnown.fallback(catalog.greetingOrDefault(catalog.defaultLanguage()));
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
@@ -0,0 +1,149 @@
+package com.springboot.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.springboot.metrics.GreetingMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts cache removals by cache and cause. The listeners only offer an event to a
+ * bounded queue, so a removal never waits on logging or the meter registry; one thread
+ * drains the queue in batches and adds each batch's counts to
+ * {@code greeting_cache_removals_total{cache,cause}}. Events arriving while the queue is
+ * full are dropped and counted instead.
+ */
+@Component
+public class CacheRemovals implements SmartLifecycle {
+
+    private static final int MAX_BATCH = 256;
+    private static final RemovalCause[] CAUSES = RemovalCause.values();
+
+    private final GreetingMetrics greetingMetrics;
+    private final BlockingQueue<Removal> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, AtomicLongArray> totals = new ConcurrentHashMap<>();
+
+    private volatile Thread drainer;
+
+    public CacheRemovals(GreetingMetrics greetingMetrics,
+                         @Value("${app.cache.removals.buffer-size:1024}") int bufferSize) {
+        this.greetingMetrics = greetingMetrics;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        greetingMetrics.bindCacheRemovals(dropped::sum, queue::size);
+    }
+
+    /**
+     * A listener for the cache called {@code cache}; keys and values are not kept.
+     */
+    public RemovalListener<Object, Object> listener(String cache) {
+        totals.computeIfAbsent(cache, name -> new AtomicLongArray(CAUSES.length));
+        return (key, value, cause) -> offer(cache, cause);
+    }
+
+    void offer(String cache, RemovalCause cause) {
+        if (!queue.offer(new Removal(cache, cause))) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Removals counted so far for each cache, by lower-case cause, leaving out causes
+     * that have not happened.
+     */
+    public Map<String, Long> totals(String cache) {
+        Map<String, Long> counts = new TreeMap<>();
+        AtomicLongArray causes = totals.get(cache);
+        if (causes != null) {
+            for (RemovalCause cause : CAUSES) {
+                long count = causes.get(cause.ordinal());
+                if (count > 0) {
+                    counts.put(name(cause), count);
+                }
+            }
+        }
+        return counts;
+    }
+
+    long droppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Records whatever is queued now. Called by the drainer, and by tests instead of it.
+     */
+    int drain() {
+        List<Removal> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        record(batch);
+        return batch.size();
+    }
+
+    private void run() {
+        List<Removal> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH - 1);
+                record(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // Stopping; count what is left
+            drain();
+        }
+    }
+
+    private void record(List<Removal> batch) {
+        Map<String, Map<RemovalCause, Integer>> counts = new HashMap<>();
+        for (Removal removal : batch) {
+            counts.computeIfAbsent(removal.cache(), cache -> new EnumMap<>(RemovalCause.class))
+                .merge(removal.cause(), 1, Integer::sum);
+        }
+        counts.forEach((cache, causes) -> causes.forEach((cause, count) -> {
+            totals.computeIfAbsent(cache, name -> new AtomicLongArray(CAUSES.length))
+                .addAndGet(cause.ordinal(), count);
+            greetingMetrics.recordCacheRemovals(cache, name(cause), count);
+        }));
+    }
+
+    private static String name(RemovalCause cause) {
+        return cause.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void start() {
+        drainer = Thread.ofPlatform().name("cache-removals").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = drainer;
+        drainer = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return drainer != null;
+    }
+
+    private record Removal(String cache, RemovalCause cause) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.springboot.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.springboot.tenant.TenantGreetingKey;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The hottest keys of each cache at {@code /actuator/hotkeys}, most likely to be kept
+ * first as Caffeine's eviction policy ranks them, with the cache's size, hit rate and
+ * removals by cause. {@code ?limit=} caps the keys listed per cache.
+ */
+@Component
+@WebEndpoint(id = "hotkeys")
+public class HotKeysEndpoint {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 100;
+
+    private final CacheManager cacheManager;
+    private final CacheRemovals cacheRemovals;
+
+    public HotKeysEndpoint(CacheManager cacheManager, CacheRemovals cacheRemovals) {
+        this.cacheManager = cacheManager;
+        this.cacheRemovals = cacheRemovals;
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Map<String, Object>> hotKeys(@Nullable Integer limit) {
+        int keys = limit != null ? limit : DEFAULT_LIMIT;
+        if (keys < 1 || keys > MAX_LIMIT) {
+            return new WebEndpointResponse<>(Map.of("error", "Limit must be 1 to " + MAX_LIMIT),
+                WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        Map<String, Object> caches = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                caches.put(name, describe(name, cache.getNativeCache(), keys));
+            }
+        }
+        return new WebEndpointResponse<>(caches);
+    }
+
+    private Map<String, Object> describe(String name, Cache<Object, Object> cache, int limit) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("size", cache.estimatedSize());
+        description.put("hitRate", cache.stats().hitRate());
+        description.put("removals", cacheRemovals.totals(name));
+        description.put("hottest", cache.policy().eviction()
+            .map(eviction -> eviction.hottest(limit).keySet().stream().map(HotKeysEndpoint::key).toList())
+            .orElse(List.of()));
+        return description;
+    }
+
+    private static String key(Object key) {
+        return key instanceof TenantGreetingKey tenantKey ? tenantKey.tenant() + "/" + tenantKey.language() : String.valueOf(key);
+    }
+}
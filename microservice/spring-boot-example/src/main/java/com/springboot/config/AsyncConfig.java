@@ -1,5 +1,6 @@
 package com.springboot.config;
 
+import com.springboot.profiling.ExecutorQueueEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -20,6 +21,7 @@ public class AsyncConfig {
         executor.setThreadNamePrefix("greeting-async-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
+        executor.setTaskDecorator(task -> ExecutorQueueEvent.decorate("greetingTaskExecutor", executor, task));
         executor.initialize();
         return executor;
     }
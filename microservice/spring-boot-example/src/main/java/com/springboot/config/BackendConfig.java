@@ -0,0 +1,122 @@
+package com.springboot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.backend.BatchingGreetingLoader;
+import com.springboot.backend.GreetingBackend;
+import com.springboot.backend.HttpGreetingBackend;
+import com.springboot.backend.InstrumentedGreetingBackend;
+import com.springboot.backend.LastKnownGreetings;
+import com.springboot.backend.LocalGreetingBackend;
+import com.springboot.backend.ResilientGreetingBackend;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.peer.PeerClient;
+import com.springboot.peer.PeerGreetingBackend;
+import com.springboot.service.GreetingCatalog;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Selects the {@link GreetingBackend} with {@code app.backend.type}. Backend futures
+ * complete on {@code greetingTaskExecutor}; either backend is guarded by the
+ * {@code greetingBackend} circuit breaker with last-known-value fallbacks.
+ */
+@Configuration
+public class BackendConfig {
+
+    @Bean
+    public CircuitBreaker greetingBackendCircuitBreaker(
+            GreetingMetrics greetingMetrics,
+            @Value("${app.backend.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${app.backend.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${app.backend.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${app.backend.circuit-breaker.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+            @Value("${app.backend.circuit-breaker.slow-call-duration:500ms}") Duration slowCallDuration,
+            @Value("${app.backend.circuit-breaker.wait-in-open-state:10s}") Duration waitInOpenState,
+            @Value("${app.backend.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("greetingBackend", CircuitBreakerConfig.custom()
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(minimumCalls)
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallRateThreshold(slowCallRateThreshold)
+            .slowCallDurationThreshold(slowCallDuration)
+            .waitDurationInOpenState(waitInOpenState)
+            .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+            .build());
+        greetingMetrics.bindCircuitBreaker(circuitBreaker);
+        return circuitBreaker;
+    }
+
+    /**
+     * Batches greeting loads and, with the peer cache enabled, sends each batch's
+     * languages to their owning peers; see {@link PeerCacheConfig}.
+     */
+    @Bean
+    public BatchingGreetingLoader greetingLoader(
+            GreetingBackend greetingBackend,
+            GreetingMetrics greetingMetrics,
+            ObjectProvider<PeerClient> peerClient,
+            @Value("${app.backend.batch.window:5ms}") Duration window,
+            @Value("${app.backend.batch.max-size:32}") int maxSize) {
+        PeerClient peers = peerClient.getIfAvailable();
+        GreetingBackend loads = peers != null
+            ? new PeerGreetingBackend(greetingBackend, peers, greetingMetrics)
+            : greetingBackend;
+        return new BatchingGreetingLoader(loads, window, maxSize, greetingMetrics);
+    }
+
+    @Bean
+    public LastKnownGreetings lastKnownGreetings() {
+        return new LastKnownGreetings();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.backend.type", havingValue = "local", matchIfMissing = true)
+    public GreetingBackend localGreetingBackend(
+            GreetingCatalog catalog,
+            GreetingMetrics greetingMetrics,
+            CircuitBreaker greetingBackendCircuitBreaker,
+            LastKnownGreetings lastKnownGreetings,
+            @Value("${app.backend.circuit-breaker.call-timeout:2s}") Duration callTimeout,
+            @Qualifier("greetingTaskExecutor") Executor executor,
+            @Value("${app.backend.local.greeting-latency:100ms}") Duration greetingLatency,
+            @Value("${app.backend.local.languages-latency:50ms}") Duration languagesLatency) {
+        return new ResilientGreetingBackend(
+            new InstrumentedGreetingBackend(
+                new LocalGreetingBackend(catalog, greetingLatency, languagesLatency, executor), greetingMetrics),
+            greetingBackendCircuitBreaker, lastKnownGreetings, catalog, callTimeout, greetingMetrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.backend.type", havingValue = "http")
+    public GreetingBackend httpGreetingBackend(
+            GreetingCatalog catalog,
+            GreetingMetrics greetingMetrics,
+            CircuitBreaker greetingBackendCircuitBreaker,
+            LastKnownGreetings lastKnownGreetings,
+            @Value("${app.backend.circuit-breaker.call-timeout:2s}") Duration callTimeout,
+            ObjectMapper objectMapper,
+            @Qualifier("greetingTaskExecutor") Executor executor,
+            @Value("${app.backend.http.base-url}") URI baseUrl,
+            @Value("${app.backend.http.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${app.backend.http.request-timeout:2s}") Duration requestTimeout,
+            @Value("${app.backend.http.max-connections:20}") int maxConnections,
+            @Value("${app.backend.http.max-pending:200}") int maxPending) {
+        return new ResilientGreetingBackend(
+            new InstrumentedGreetingBackend(
+                new HttpGreetingBackend(baseUrl, connectTimeout, requestTimeout, maxConnections, maxPending, executor,
+                    objectMapper),
+                greetingMetrics),
+            greetingBackendCircuitBreaker, lastKnownGreetings, catalog, callTimeout, greetingMetrics);
+    }
+}
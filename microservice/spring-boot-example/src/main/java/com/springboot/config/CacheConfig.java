@@ -1,8 +1,12 @@
 package com.springboot.config;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.cache.CacheRemovals;
+import com.springboot.tenant.TenantCatalogs;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,21 +17,39 @@ import java.time.Duration;
 @EnableCaching
 public class CacheConfig {
 
+    private static final String[] CACHE_NAMES = {"greetings", "languages"};
+
+    /**
+     * Each cache is built separately so its removal listener knows which cache it
+     * belongs to.
+     */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("greetings", "languages");
-        cacheManager.setCaffeine(caffeineConfig());
+    public CacheManager cacheManager(CacheRemovals cacheRemovals) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CACHE_NAMES);
+        // Lets @Cacheable methods return CompletableFuture without blocking on a miss
+        cacheManager.setAsyncCacheMode(true);
+        for (String name : CACHE_NAMES) {
+            AsyncCache<Object, Object> cache = caffeine().removalListener(cacheRemovals.listener(name)).buildAsync();
+            cacheManager.registerCustomCache(name, cache);
+        }
         return cacheManager;
     }
 
+    /**
+     * Keys a greeting by its language, or by tenant and language when the request's
+     * tenant overrides it, so the cache grows with the overrides rather than with
+     * tenants times the catalog.
+     */
     @Bean
-    public Caffeine<Object, Object> caffeineConfig() {
+    public KeyGenerator tenantKeyGenerator(TenantCatalogs tenantCatalogs) {
+        return (target, method, params) -> tenantCatalogs.current().cacheKey((String) params[0]);
+    }
+
+    private static Caffeine<Object, Object> caffeine() {
         return Caffeine.newBuilder()
                 .maximumSize(1000)
                 .expireAfterWrite(Duration.ofMinutes(30))
                 .expireAfterAccess(Duration.ofMinutes(10))
-                .recordStats()
-                .removalListener((key, value, cause) -> 
-                    System.out.println("Cache evicted: " + key + " -> " + value + " (" + cause + ")"));
+                .recordStats();
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.springboot.config;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.springboot.fastpath.FastPathServer;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.service.GreetingCatalog;
+import com.springboot.service.GreetingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+/**
+ * Fast path listener, enabled with {@code app.fast-path.enabled}: the text greeting on
+ * {@code app.fast-path.port}, behind a shared token instead of the user accounts of the
+ * main port. It shares the greeting cache and rate limiter with the main port.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.fast-path", name = "enabled", havingValue = "true")
+public class FastPathConfig {
+
+    @Bean
+    public FastPathServer fastPathServer(
+            GreetingService greetingService,
+            GreetingCatalog catalog,
+            RateLimiter rateLimiter,
+            GreetingMetrics greetingMetrics,
+            @Value("${app.fast-path.address:localhost}") String address,
+            @Value("${app.fast-path.port:8088}") int port,
+            @Value("${app.fast-path.token:}") String token,
+            @Value("${app.fast-path.io-threads:2}") int ioThreads,
+            @Value("${app.fast-path.idle-timeout:60s}") Duration idleTimeout) {
+        if (token.isBlank()) {
+            throw new IllegalStateException("app.fast-path.token must be set when the fast path is enabled");
+        }
+        return new FastPathServer(new InetSocketAddress(address, port), ioThreads, idleTimeout, token,
+            greetingService, catalog, rateLimiter, greetingMetrics);
+    }
+}
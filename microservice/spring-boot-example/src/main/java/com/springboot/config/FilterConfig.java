@@ -0,0 +1,141 @@
+package com.springboot.config;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.springboot.exception.ErrorBodies;
+import com.springboot.journal.RequestJournal;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.service.GreetingCatalog;
+import com.springboot.tenant.TenantCatalogs;
+import com.springboot.util.CoarseClock;
+import com.springboot.web.BulkheadFilter;
+import com.springboot.web.CatalogRepresentations;
+import com.springboot.web.ConditionalGetFilter;
+import com.springboot.web.LanguageNegotiator;
+import com.springboot.web.LanguageValidationFilter;
+import com.springboot.web.RateLimitFilter;
+import com.springboot.web.RequestJournalFilter;
+import com.springboot.web.ResponseCache;
+import com.springboot.web.ResponseCacheFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Application servlet filters. All of them run after the Spring Security filter chain
+ * (order -100), so requests are authenticated before any of them can answer.
+ */
+@Configuration
+public class FilterConfig {
+
+    public static final int REQUEST_JOURNAL_ORDER = 5;
+    public static final int RATE_LIMIT_ORDER = 10;
+    public static final int LANGUAGE_VALIDATION_ORDER = 15;
+    public static final int CONDITIONAL_GET_ORDER = 20;
+    public static final int RESPONSE_CACHE_ORDER = 30;
+    // Last, so 304s and cached responses are never refused for lack of a permit
+    public static final int BULKHEAD_ORDER = 40;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.journal", name = "enabled", havingValue = "true")
+    public RequestJournal requestJournal(
+            @Value("${app.journal.directory:journal}") Path directory,
+            @Value("${app.journal.segment-size:64MB}") DataSize segmentSize,
+            @Value("${app.journal.max-segments:16}") int maxSegments) {
+        return new RequestJournal(directory, segmentSize.toBytes(), maxSegments);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.journal", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<RequestJournalFilter> requestJournalFilter(
+            RequestJournal requestJournal,
+            LanguageNegotiator languageNegotiator) {
+        FilterRegistrationBean<RequestJournalFilter> registration = new FilterRegistrationBean<>(
+                new RequestJournalFilter(requestJournal, languageNegotiator));
+        registration.setOrder(REQUEST_JOURNAL_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimiter rateLimiter,
+            GreetingMetrics greetingMetrics,
+            ErrorBodies errorBodies,
+            CoarseClock coarseClock) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(rateLimiter, greetingMetrics, errorBodies, coarseClock));
+        registration.setOrder(RATE_LIMIT_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<LanguageValidationFilter> languageValidationFilter(
+            ErrorBodies errorBodies,
+            CoarseClock coarseClock) {
+        FilterRegistrationBean<LanguageValidationFilter> registration = new FilterRegistrationBean<>(
+                new LanguageValidationFilter(errorBodies, coarseClock));
+        registration.setOrder(LANGUAGE_VALIDATION_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConditionalGetFilter> conditionalGetFilter(
+            CatalogRepresentations representations,
+            LanguageNegotiator languageNegotiator,
+            TenantCatalogs tenantCatalogs,
+            GreetingMetrics greetingMetrics,
+            @Value("${app.http-cache.max-age:60s}") Duration maxAge) {
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePrivate().mustRevalidate();
+        FilterRegistrationBean<ConditionalGetFilter> registration = new FilterRegistrationBean<>(
+                new ConditionalGetFilter(representations, languageNegotiator, tenantCatalogs, greetingMetrics,
+                        cacheControl));
+        registration.setOrder(CONDITIONAL_GET_ORDER);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.response-cache", name = "enabled", havingValue = "true")
+    public ResponseCache responseCache(
+            @Value("${app.response-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.response-cache.time-to-live:30m}") Duration timeToLive) {
+        return new ResponseCache(maximumSize, timeToLive);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.response-cache", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            ResponseCache responseCache,
+            LanguageNegotiator languageNegotiator,
+            TenantCatalogs tenantCatalogs,
+            GreetingCatalog catalog,
+            GreetingMetrics greetingMetrics) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(
+                new ResponseCacheFilter(responseCache, languageNegotiator, tenantCatalogs, catalog,
+                        greetingMetrics));
+        registration.setOrder(RESPONSE_CACHE_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(
+            GreetingMetrics greetingMetrics,
+            ErrorBodies errorBodies,
+            CoarseClock coarseClock,
+            @Value("${app.bulkhead.greeting:64}") int greeting,
+            @Value("${app.bulkhead.async:128}") int async,
+            @Value("${app.bulkhead.languages:16}") int languages,
+            @Value("${app.bulkhead.search:32}") int search,
+            @Value("${app.bulkhead.v2:64}") int v2) {
+        BulkheadFilter.Limits limits = new BulkheadFilter.Limits(greeting, async, languages, search, v2);
+        FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(
+                new BulkheadFilter(limits, greetingMetrics, errorBodies, coarseClock));
+        registration.setOrder(BULKHEAD_ORDER);
+        return registration;
+    }
+}
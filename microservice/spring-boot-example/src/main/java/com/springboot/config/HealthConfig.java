@@ -4,6 +4,7 @@ import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
 import com.google.common.util.concurrent.RateLimiter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.info.InfoContributor;
 import org.springframework.boot.actuate.info.Info;
@@ -18,12 +19,14 @@ import java.util.concurrent.atomic.AtomicLong;
 public class HealthConfig implements HealthIndicator, InfoContributor {
 
     private final RateLimiter rateLimiter;
+    private final CircuitBreaker backendCircuitBreaker;
     private final AtomicLong requestCount = new AtomicLong(0);
     private final long startTime = System.currentTimeMillis();
 
     @Autowired
-    public HealthConfig(RateLimiter rateLimiter) {
+    public HealthConfig(RateLimiter rateLimiter, CircuitBreaker backendCircuitBreaker) {
         this.rateLimiter = rateLimiter;
+        this.backendCircuitBreaker = backendCircuitBreaker;
     }
 
     @Override
@@ -36,6 +39,8 @@ public class HealthConfig implements HealthIndicator, InfoContributor {
                     .withDetail("uptime-seconds", (System.currentTimeMillis() - startTime) / 1000)
                     .withDetail("total-requests", requestCount.get())
                     .withDetail("memory-usage", getMemoryUsage())
+                    // An open breaker is reported but not DOWN: fallbacks keep answering
+                    .withDetail("greeting-backend", getBackendCircuitBreaker())
                     .build();
         } else {
             return Health.down()
@@ -82,6 +87,17 @@ public class HealthConfig implements HealthIndicator, InfoContributor {
         return rateLimiterHealthy && memoryHealthy;
     }
 
+    private Map<String, Object> getBackendCircuitBreaker() {
+        CircuitBreaker.Metrics metrics = backendCircuitBreaker.getMetrics();
+        return Map.of(
+                "circuit-breaker", backendCircuitBreaker.getState().name(),
+                "failure-rate-percent", metrics.getFailureRate(),
+                "slow-call-rate-percent", metrics.getSlowCallRate(),
+                "buffered-calls", metrics.getNumberOfBufferedCalls(),
+                "short-circuited-calls", metrics.getNumberOfNotPermittedCalls()
+        );
+    }
+
     private Map<String, Object> getMemoryUsage() {
         Runtime runtime = Runtime.getRuntime();
         long usedMemory = runtime.totalMemory() - runtime.freeMemory();
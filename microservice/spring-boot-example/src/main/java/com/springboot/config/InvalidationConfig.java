@@ -0,0 +1,62 @@
+package com.springboot.config;
+
+import com.springboot.invalidation.CacheInvalidator;
+import com.springboot.invalidation.FileLogInvalidationTransport;
+import com.springboot.invalidation.InvalidationTransport;
+import com.springboot.invalidation.MulticastInvalidationTransport;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.service.GreetingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Selects how greeting invalidations reach the other instances with
+ * {@code app.invalidation.transport}: {@code none} (this instance only), {@code multicast}
+ * or {@code file}.
+ */
+@Configuration
+public class InvalidationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "none", matchIfMissing = true)
+    public InvalidationTransport localInvalidationTransport() {
+        return InvalidationTransport.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "multicast")
+    public InvalidationTransport multicastInvalidationTransport(
+            @Value("${app.invalidation.multicast.group:239.255.27.1}") InetAddress group,
+            @Value("${app.invalidation.multicast.port:45600}") int port,
+            @Value("${app.invalidation.multicast.interface:lo}") String networkInterface,
+            @Value("${app.invalidation.multicast.ttl:1}") int ttl) throws IOException {
+        return new MulticastInvalidationTransport(group, port, networkInterface, ttl);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "file")
+    public InvalidationTransport fileLogInvalidationTransport(
+            @Value("${app.invalidation.file.path:invalidations.log}") Path path,
+            @Value("${app.invalidation.file.poll-interval:100ms}") Duration pollInterval) throws IOException {
+        return new FileLogInvalidationTransport(path, pollInterval);
+    }
+
+    @Bean
+    public CacheInvalidator cacheInvalidator(
+            GreetingService greetingService,
+            InvalidationTransport invalidationTransport,
+            GreetingMetrics greetingMetrics,
+            @Value("${app.invalidation.coalesce-window:50ms}") Duration coalesceWindow) throws IOException {
+        CacheInvalidator cacheInvalidator = new CacheInvalidator(greetingService, invalidationTransport,
+            greetingMetrics, coalesceWindow);
+        cacheInvalidator.start();
+        return cacheInvalidator;
+    }
+}
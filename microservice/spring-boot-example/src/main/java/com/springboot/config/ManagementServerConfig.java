@@ -0,0 +1,35 @@
+package com.springboot.config;
+
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.web.ManagementContextConfiguration;
+import org.springframework.boot.actuate.autoconfigure.web.ManagementContextType;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Sizes the connector that serves actuator on {@code management.server.port}. Applies
+ * only to the management child context: it is listed in
+ * {@code META-INF/spring/...ManagementContextConfiguration.imports} and excluded from
+ * component scanning, so the application connector keeps the {@code server.tomcat.*}
+ * settings. Scrapes and health checks get their own few threads and greeting traffic
+ * cannot queue them out.
+ */
+@ManagementContextConfiguration(value = ManagementContextType.CHILD, proxyBeanMethods = false)
+public class ManagementServerConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> managementThreadPool(
+            @Value("${app.management.threads.max:4}") int maxThreads,
+            @Value("${app.management.threads.min-spare:1}") int minSpareThreads,
+            @Value("${app.management.accept-count:20}") int acceptCount) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            if (connector.getProtocolHandler() instanceof AbstractProtocol<?> protocol) {
+                protocol.setMaxThreads(maxThreads);
+                protocol.setMinSpareThreads(minSpareThreads);
+                protocol.setAcceptCount(acceptCount);
+            }
+        });
+    }
+}
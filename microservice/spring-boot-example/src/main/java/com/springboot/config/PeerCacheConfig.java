@@ -0,0 +1,51 @@
+package com.springboot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.peer.PeerClient;
+import com.springboot.peer.PeerRing;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Peer greeting cache, enabled with {@code app.cache.peers.enabled}: instances listed in
+ * {@code app.cache.peers.members} (or the file named by {@code app.cache.peers.file}) split
+ * the languages between them and load only their own from the backend.
+ * {@link BackendConfig} routes the batched greeting loads through the peers when the
+ * {@link PeerClient} exists.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.cache.peers", name = "enabled", havingValue = "true")
+public class PeerCacheConfig {
+
+    @Bean
+    public PeerRing peerRing(
+            @Value("${app.cache.peers.self}") String self,
+            @Value("${app.cache.peers.members:}") List<String> members,
+            @Value("${app.cache.peers.file:}") String file,
+            @Value("${app.cache.peers.virtual-nodes:128}") int virtualNodes,
+            @Value("${app.cache.peers.file-check-interval:10s}") Duration fileCheckInterval) {
+        return new PeerRing(self, members, file.isBlank() ? null : Path.of(file), virtualNodes, fileCheckInterval);
+    }
+
+    @Bean
+    public PeerClient peerClient(
+            PeerRing peerRing,
+            ObjectMapper objectMapper,
+            @Qualifier("greetingTaskExecutor") Executor executor,
+            @Value("${app.cache.peers.secret:}") String secret,
+            @Value("${app.cache.peers.connect-timeout:200ms}") Duration connectTimeout,
+            @Value("${app.cache.peers.request-timeout:500ms}") Duration requestTimeout) {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("app.cache.peers.secret must be set when the peer cache is enabled");
+        }
+        return new PeerClient(peerRing, secret, connectTimeout, requestTimeout, executor, objectMapper);
+    }
+}
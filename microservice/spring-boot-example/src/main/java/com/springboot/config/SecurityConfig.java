@@ -40,6 +40,8 @@ public class SecurityConfig {
                 .requestMatchers("/actuator/health").permitAll()
                 .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").hasRole("ADMIN")
+                // Peers authenticate with the shared secret, checked by PeerCacheController
+                .requestMatchers("/internal/peers/**").permitAll()
                 .anyRequest().authenticated()
             )
             .httpBasic(withDefaults())
@@ -0,0 +1,49 @@
+package com.springboot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.web.servlet.RegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Under {@code spring.main.lazy-initialization} (the {@code fast-startup} profile) keeps
+ * the application's own beans and the infrastructure every request goes through eager,
+ * so only auto-configured extras nobody asks for are deferred and the first request
+ * does not pay for the rest. OpenAPI stays lazy; springdoc pins most of its own beans
+ * with {@code @Lazy(false)} but {@code springdoc.pre-loading-enabled=false} defers the scan.
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final Class<?>[] REQUEST_PATH_TYPES = {
+        Filter.class, RegistrationBean.class, SecurityFilterChain.class, UserDetailsService.class,
+        HandlerMapping.class, ObjectMapper.class, CacheManager.class, MeterRegistry.class
+    };
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerRequestPath() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && isRequestPath(beanType);
+    }
+
+    static boolean isRequestPath(Class<?> beanType) {
+        if (beanType == OpenApiConfig.class) {
+            return false;
+        }
+        if (beanType.getName().startsWith("com.springboot.")) {
+            return true;
+        }
+        for (Class<?> type : REQUEST_PATH_TYPES) {
+            if (type.isAssignableFrom(beanType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package com.springboot.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Greeting overrides per tenant, layered over the base catalog. A request belongs to
+ * the tenant its principal is listed under or, failing that, the one named by the
+ * tenant header.
+ */
+@ConfigurationProperties("app.tenants")
+@Validated
+@Component
+public class TenantProperties {
+
+    public static final String TENANT_ID = "[a-z0-9][a-z0-9-]{0,31}";
+
+    @NotBlank(message = "Tenant header cannot be blank")
+    private String header = "X-Tenant";
+
+    @Valid
+    private Map<@Pattern(regexp = TENANT_ID, message = "Tenant ids must be lowercase letters, digits and dashes") String,
+            Tenant> overlays = new LinkedHashMap<>();
+
+    public String getHeader() {
+        return header;
+    }
+
+    public void setHeader(String header) {
+        this.header = header;
+    }
+
+    public Map<String, Tenant> getOverlays() {
+        return overlays;
+    }
+
+    public void setOverlays(Map<String, Tenant> overlays) {
+        this.overlays = overlays;
+    }
+
+    public static class Tenant {
+
+        private List<String> users = new ArrayList<>();
+
+        private Map<@Pattern(regexp = "[a-z]{2}", message = "Each language must be a 2-letter code") String,
+                @NotBlank @Size(max = 200) String> greetings = new LinkedHashMap<>();
+
+        public List<String> getUsers() {
+            return users;
+        }
+
+        public void setUsers(List<String> users) {
+            this.users = users;
+        }
+
+        public Map<String, String> getGreetings() {
+            return greetings;
+        }
+
+        public void setGreetings(Map<String, String> greetings) {
+            this.greetings = greetings;
+        }
+    }
+}
@@ -25,6 +25,13 @@ public class UserDetailsConfig {
     @Value("${app.security.admin.password:#{T(java.util.UUID).randomUUID().toString()}}")
     private String adminPassword;
 
+    // Pre-computed BCrypt hashes skip encoding at boot, which is costly on a cold JVM
+    @Value("${app.security.user.password-hash:}")
+    private String userPasswordHash;
+
+    @Value("${app.security.admin.password-hash:}")
+    private String adminPasswordHash;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -35,14 +42,18 @@ public class UserDetailsConfig {
         return new InMemoryUserDetailsManager(
             User.builder()
                 .username(userUsername)
-                .password(passwordEncoder.encode(userPassword))
+                .password(encoded(passwordEncoder, userPasswordHash, userPassword))
                 .roles("USER")
                 .build(),
             User.builder()
                 .username(adminUsername)
-                .password(passwordEncoder.encode(adminPassword))
+                .password(encoded(passwordEncoder, adminPasswordHash, adminPassword))
                 .roles("USER", "ADMIN")
                 .build()
         );
     }
+
+    private static String encoded(PasswordEncoder passwordEncoder, String hash, String rawPassword) {
+        return hash.isEmpty() ? passwordEncoder.encode(rawPassword) : hash;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.springboot.config;
+
+import com.springboot.util.CoarseClock;
+import com.springboot.web.GreetingProtobufCodec;
+import com.springboot.web.GreetingProtobufHttpMessageConverter;
+import com.springboot.web.GreetingV2JsonEncoder;
+import com.springboot.web.GreetingV2JsonHttpMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final GreetingV2JsonEncoder greetingV2JsonEncoder;
+
+    public WebConfig(GreetingV2JsonEncoder greetingV2JsonEncoder) {
+        this.greetingV2JsonEncoder = greetingV2JsonEncoder;
+    }
+
+    @Bean
+    public static CoarseClock coarseClock() {
+        return new CoarseClock(Clock.systemDefaultZone(), Duration.ofMillis(10));
+    }
+
+    @Bean
+    public GreetingProtobufCodec greetingProtobufCodec() {
+        return new GreetingProtobufCodec();
+    }
+
+    /**
+     * CBOR and Smile converters are registered by Spring MVC because the Jackson
+     * dataformats are on the classpath; protobuf needs the schema-driven converter.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Must precede the Jackson converter so it wins for application/json
+        converters.add(0, new GreetingV2JsonHttpMessageConverter(greetingV2JsonEncoder));
+        converters.add(new GreetingProtobufHttpMessageConverter(greetingProtobufCodec()));
+    }
+
+    /**
+     * Streaming bodies ({@code /languages} as NDJSON) block on slow clients, so they run
+     * on virtual threads; the {@code languages} bulkhead bounds how many are in flight.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-stream-");
+        executor.setVirtualThreads(true);
+        configurer.setTaskExecutor(executor);
+    }
+}
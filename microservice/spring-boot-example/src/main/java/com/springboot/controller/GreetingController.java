@@ -1,10 +1,21 @@
 package com.springboot.controller;
 
-import com.google.common.util.concurrent.RateLimiter;
-import com.springboot.exception.TooManyRequestsException;
+import com.springboot.events.CatalogEventSink;
+import com.springboot.events.CatalogEvents;
 import com.springboot.metrics.GreetingMetrics;
+import com.springboot.model.LanguageCursor;
+import com.springboot.model.LanguageMatch;
+import com.springboot.model.LanguagePage;
+import com.springboot.profiling.GreetingRequestEvent;
+import com.springboot.search.LanguageSearch;
 import com.springboot.service.GreetingService;
+import com.springboot.template.GreetingTemplate;
+import com.springboot.template.GreetingTemplates;
+import com.springboot.tenant.TenantCatalogs;
 import com.springboot.util.SecurityUtils;
+import com.springboot.web.ConditionalGetFilter;
+import com.springboot.web.LanguageNdjsonWriter;
+import com.springboot.web.LanguageNegotiator;
 import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,18 +26,32 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 
 @RestController
@@ -35,15 +60,35 @@ import java.util.concurrent.CompletableFuture;
 public class GreetingController {
 
     private static final Logger logger = LoggerFactory.getLogger(GreetingController.class);
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_QUERY_LENGTH = 64;
+    static final int MAX_SEARCH_RESULTS = 50;
+    static final int MAX_NAME_LENGTH = 64;
+    private static final String TEXT_PLAIN_UTF8 = "text/plain;charset=UTF-8";
+
     private final GreetingService greetingService;
-    private final RateLimiter rateLimiter;
     private final GreetingMetrics greetingMetrics;
+    private final LanguageNdjsonWriter ndjsonWriter;
+    private final LanguageSearch languageSearch;
+    private final LanguageNegotiator languageNegotiator;
+    private final GreetingTemplates greetingTemplates;
+    private final TenantCatalogs tenantCatalogs;
+    private final CatalogEvents catalogEvents;
 
     @Autowired
-    public GreetingController(GreetingService greetingService, RateLimiter rateLimiter, GreetingMetrics greetingMetrics) {
+    public GreetingController(GreetingService greetingService, GreetingMetrics greetingMetrics,
+                              LanguageNdjsonWriter ndjsonWriter, LanguageSearch languageSearch,
+                              LanguageNegotiator languageNegotiator, GreetingTemplates greetingTemplates,
+                              TenantCatalogs tenantCatalogs, CatalogEvents catalogEvents) {
         this.greetingService = greetingService;
-        this.rateLimiter = rateLimiter;
         this.greetingMetrics = greetingMetrics;
+        this.ndjsonWriter = ndjsonWriter;
+        this.languageSearch = languageSearch;
+        this.languageNegotiator = languageNegotiator;
+        this.greetingTemplates = greetingTemplates;
+        this.tenantCatalogs = tenantCatalogs;
+        this.catalogEvents = catalogEvents;
     }
 
     @Operation(
@@ -51,6 +96,9 @@ public class GreetingController {
         description = """
             Returns a greeting message in the requested language. 
             Supports 9 languages with automatic fallback to English for unsupported languages.
+            With a name, returns the language's personalized greeting, e.g. "¡Hola, Ana!".
+            Personalized greetings are rendered from the built-in catalog templates:
+            tenant overrides and the greeting backend do not apply to them.
             Includes rate limiting, input validation, and caching for optimal performance.
             """,
         tags = {"Greeting API"}
@@ -81,24 +129,25 @@ public class GreetingController {
     })
     @GetMapping("/")
     public ResponseEntity<String> home(
-            @RequestParam(value = "lang", defaultValue = "en")
-            @Pattern(regexp = "^[a-z]{2}$", message = "Language code must be exactly 2 lowercase letters")
-            @Size(min = 2, max = 2, message = "Language code must be exactly 2 characters")
-            @NotBlank(message = "Language code cannot be blank")
-            String language,
-            HttpServletRequest request) {
+            @Parameter(description = "Language code; negotiated from Accept-Language when absent")
+            @RequestParam(value = "lang", required = false)
+            @Pattern(regexp = "^([a-z]{2})?$", message = "Language code must be exactly 2 lowercase letters")
+            @Size(max = 2, message = "Language code must be exactly 2 characters")
+            String lang,
+            @Parameter(description = "Name to greet; renders the language's greeting template, e.g. \"¡Hola, Ana!\"")
+            @RequestParam(value = "name", required = false)
+            @Size(max = MAX_NAME_LENGTH, message = "Name must be at most " + MAX_NAME_LENGTH + " characters")
+            String name,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        String language = languageNegotiator.language(lang, request, response);
         
         Timer.Sample sample = greetingMetrics.startTimer();
+        GreetingRequestEvent event = GreetingRequestEvent.start();
+        boolean failed = true;
+        String recordedLanguage = GreetingMetrics.INVALID_LANGUAGE;
         
         try {
-            // Rate limiting check
-            if (!rateLimiter.tryAcquire()) {
-                String clientIP = SecurityUtils.getClientIP(request);
-                logger.warn("Rate limit exceeded for IP: {}", clientIP);
-                greetingMetrics.incrementRateLimitExceeded(clientIP);
-                throw new TooManyRequestsException("Rate limit exceeded. Please try again later.");
-            }
-            
             // Advanced input sanitization
             String sanitizedLanguage = SecurityUtils.sanitizeInput(language);
             if (!SecurityUtils.isValidLanguageCode(sanitizedLanguage)) {
@@ -106,26 +155,73 @@ public class GreetingController {
                            language, SecurityUtils.getClientIP(request));
                 throw new IllegalArgumentException("Invalid language code format");
             }
+            recordedLanguage = sanitizedLanguage;
             
             String clientIP = SecurityUtils.getClientIP(request);
             logger.info("Greeting requested for language: {} from IP: {}", sanitizedLanguage, clientIP);
             
+            int nameStart = name == null ? 0 : stripStart(name);
+            int nameEnd = name == null ? 0 : stripEnd(name, nameStart);
+            if (nameStart < nameEnd) {
+                GreetingTemplate template = greetingTemplates.template(sanitizedLanguage);
+                greetingMetrics.incrementRequests(sanitizedLanguage, "template");
+                failed = false;
+                if (!ConditionalGetFilter.prefers(request, MediaType.TEXT_PLAIN)) {
+                    return ResponseEntity.ok(template.render(name.substring(nameStart, nameEnd)));
+                }
+                writeTemplate(template, name, nameStart, nameEnd, response);
+                // Written to the response already, nothing left for message conversion
+                return null;
+            }
+            
             String greeting = greetingService.getGreeting(sanitizedLanguage);
             logger.debug("Returning greeting: {}", greeting);
             
             greetingMetrics.incrementRequests(sanitizedLanguage, "sync");
+            failed = false;
             return ResponseEntity.ok(greeting);
             
         } finally {
-            greetingMetrics.recordTimer(sample, language);
+            greetingMetrics.recordTimer(sample, recordedLanguage);
+            event.finish("/", recordedLanguage, failed);
         }
     }
+
+    /**
+     * Renders a personalized greeting from its compiled template straight into the
+     * response buffer; the greeting cache is left to unnamed requests. Only used when
+     * the client prefers text/plain; other types go through message conversion.
+     */
+    private static void writeTemplate(GreetingTemplate template, String name, int start, int end,
+                                      HttpServletResponse response) throws IOException {
+        response.setContentType(TEXT_PLAIN_UTF8);
+        response.setContentLength(template.length(name, start, end));
+        template.writeTo(name, start, end, response.getOutputStream());
+    }
+
+    // Bounds of the name without the whitespace String.strip would remove, without copying it
+    private static int stripStart(String name) {
+        int start = 0;
+        while (start < name.length() && Character.isWhitespace(name.codePointAt(start))) {
+            start += Character.charCount(name.codePointAt(start));
+        }
+        return start;
+    }
+
+    private static int stripEnd(String name, int start) {
+        int end = name.length();
+        while (end > start && Character.isWhitespace(name.codePointBefore(end))) {
+            end -= Character.charCount(name.codePointBefore(end));
+        }
+        return end;
+    }
     
     @Operation(
         summary = "Get all available languages",
         description = """
             Returns a map of all supported language codes and their corresponding greeting messages.
             Useful for discovering available languages and their exact greeting format.
+            With cursor or limit, returns one page in code order and links the next one in the Link header.
             """,
         tags = {"Greeting API"}
     )
@@ -157,19 +253,109 @@ public class GreetingController {
         )
     })
     @GetMapping("/languages")
-    public ResponseEntity<Map<String, String>> getAvailableLanguages(HttpServletRequest request) {
-        // Rate limiting check
-        if (!rateLimiter.tryAcquire()) {
-            String clientIP = SecurityUtils.getClientIP(request);
-            logger.warn("Rate limit exceeded for IP: {}", clientIP);
-            throw new TooManyRequestsException("Rate limit exceeded. Please try again later.");
-        }
-        
+    public ResponseEntity<Map<String, String>> getAvailableLanguages(
+            @Parameter(description = "Cursor from the previous page's Link header")
+            @RequestParam(value = "cursor", required = false) LanguageCursor cursor,
+            @Parameter(description = "Page size; without cursor or limit the whole catalog is returned")
+            @RequestParam(value = "limit", required = false)
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = MAX_PAGE_SIZE, message = "Limit must be at most " + MAX_PAGE_SIZE)
+            Integer limit,
+            HttpServletRequest request) {
         String clientIP = SecurityUtils.getClientIP(request);
         logger.info("Available languages requested from IP: {}", clientIP);
         
-        Map<String, String> languages = greetingService.getAllLanguages();
-        return ResponseEntity.ok(languages);
+        SortedMap<String, String> languages = tenantCatalogs.current().apply(greetingService.getAllLanguages());
+        if (cursor == null && limit == null) {
+            return ResponseEntity.ok(languages);
+        }
+        LanguagePage page = LanguagePage.of(languages, cursor, limit != null ? limit : DEFAULT_PAGE_SIZE);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.next() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", page.next())
+                .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.languages());
+    }
+
+    @Operation(
+        summary = "Stream all available languages",
+        description = """
+            Streams the catalog as newline-delimited JSON, one {"code","greeting"} object per line in code order.
+            Accepts the same cursor and limit as the JSON form.
+            """,
+        tags = {"Greeting API"}
+    )
+    @GetMapping(value = "/languages", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamLanguages(
+            @RequestParam(value = "cursor", required = false) LanguageCursor cursor,
+            @RequestParam(value = "limit", required = false)
+            @Min(value = 1, message = "Limit must be at least 1")
+            Integer limit) {
+        SortedMap<String, String> languages = tenantCatalogs.current().apply(greetingService.getAllLanguages());
+        SortedMap<String, String> entries = cursor == null ? languages : cursor.tail(languages);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(ndjsonWriter.body(entries, limit != null ? limit : Integer.MAX_VALUE));
+    }
+
+    @Operation(
+        summary = "Search languages",
+        description = """
+            Type-ahead search over language codes, English and native language names and greeting text.
+            Every word must match the start of a term; single words also match close misspellings.
+            """,
+        tags = {"Greeting API"}
+    )
+    @GetMapping("/languages/search")
+    public ResponseEntity<List<LanguageMatch>> searchLanguages(
+            @Parameter(description = "Search text, e.g. \"por\"")
+            @RequestParam(value = "q", defaultValue = "")
+            @NotBlank(message = "Query cannot be blank")
+            @Size(max = MAX_QUERY_LENGTH, message = "Query must be at most " + MAX_QUERY_LENGTH + " characters")
+            String query,
+            @RequestParam(value = "limit", defaultValue = "10")
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = MAX_SEARCH_RESULTS, message = "Limit must be at most " + MAX_SEARCH_RESULTS)
+            int limit) {
+        return ResponseEntity.ok(languageSearch.search(query, limit));
+    }
+
+    @Operation(
+        summary = "Stream catalog changes",
+        description = """
+            Server-Sent Events: a "snapshot" event with the whole catalog, then a "delta" event with the changed
+            and removed languages whenever it changes. Event ids are catalog versions; reconnecting with
+            Last-Event-ID skips the snapshot when the client is current or one delta behind.
+            Tenant catalogs are not streamed.
+            """,
+        tags = {"Greeting API"}
+    )
+    @GetMapping(value = "/languages/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamCatalogEvents(
+            @Parameter(description = "Version of the catalog the client holds")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletRequest request) {
+        if (!tenantCatalogs.overlay(request).isEmpty()) {
+            // Frames are shared by all subscribers, so they carry the base catalog only
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(catalogEvents.maxConnectionAge().toMillis());
+        CatalogEvents.Subscription subscription = catalogEvents.subscribe(lastEventId, CatalogEventSink.of(emitter));
+        if (subscription == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(subscription::close);
+        emitter.onError(failure -> subscription.close());
+        return ResponseEntity.ok()
+            .contentType(MediaType.TEXT_EVENT_STREAM)
+            .cacheControl(CacheControl.noStore())
+            // Keeps buffering reverse proxies from holding events back
+            .header("X-Accel-Buffering", "no")
+            .body(emitter);
     }
 
     @Operation(
@@ -204,25 +390,22 @@ public class GreetingController {
     })
     @GetMapping("/async")
     public CompletableFuture<ResponseEntity<String>> getGreetingAsync(
-            @RequestParam(value = "lang", defaultValue = "en")
-            @Pattern(regexp = "^[a-z]{2}$", message = "Language code must be exactly 2 lowercase letters")
-            @Size(min = 2, max = 2, message = "Language code must be exactly 2 characters")
-            @NotBlank(message = "Language code cannot be blank")
-            String language,
-            HttpServletRequest request) {
-        
-        // Rate limiting check
-        if (!rateLimiter.tryAcquire()) {
-            String clientIP = SecurityUtils.getClientIP(request);
-            logger.warn("Rate limit exceeded for IP: {}", clientIP);
-            throw new TooManyRequestsException("Rate limit exceeded. Please try again later.");
-        }
+            @Parameter(description = "Language code; negotiated from Accept-Language when absent")
+            @RequestParam(value = "lang", required = false)
+            @Pattern(regexp = "^([a-z]{2})?$", message = "Language code must be exactly 2 lowercase letters")
+            @Size(max = 2, message = "Language code must be exactly 2 characters")
+            String lang,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        String language = languageNegotiator.language(lang, request, response);
         
+        GreetingRequestEvent event = GreetingRequestEvent.start();
         // Advanced input sanitization
         String sanitizedLanguage = SecurityUtils.sanitizeInput(language);
         if (!SecurityUtils.isValidLanguageCode(sanitizedLanguage)) {
             logger.warn("Invalid language code received: {} from IP: {}", 
                        language, SecurityUtils.getClientIP(request));
+            event.finish("/async", GreetingMetrics.INVALID_LANGUAGE, true);
             throw new IllegalArgumentException("Invalid language code format");
         }
         
@@ -230,6 +413,7 @@ public class GreetingController {
         logger.info("Async greeting requested for language: {} from IP: {}", sanitizedLanguage, clientIP);
         
         return greetingService.getGreetingAsync(sanitizedLanguage)
+                .whenComplete((greeting, throwable) -> event.finish("/async", sanitizedLanguage, throwable != null))
                 .thenApply(ResponseEntity::ok)
                 .exceptionally(throwable -> {
                     logger.error("Async greeting failed for language: {}", sanitizedLanguage, throwable);
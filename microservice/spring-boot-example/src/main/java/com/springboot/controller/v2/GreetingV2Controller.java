@@ -1,19 +1,24 @@
 package com.springboot.controller.v2;
 
-import com.google.common.util.concurrent.RateLimiter;
-import com.springboot.exception.TooManyRequestsException;
 import com.springboot.metrics.GreetingMetrics;
+import com.springboot.profiling.GreetingRequestEvent;
+import com.springboot.model.ApiInfo;
+import com.springboot.model.GreetingV2Response;
 import com.springboot.service.GreetingService;
+import com.springboot.util.CoarseClock;
 import com.springboot.util.SecurityUtils;
+import com.springboot.web.LanguageNegotiator;
 import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import org.slf4j.Logger;
@@ -26,8 +31,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.LocalDateTime;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v2")
@@ -37,14 +40,17 @@ public class GreetingV2Controller {
 
     private static final Logger logger = LoggerFactory.getLogger(GreetingV2Controller.class);
     private final GreetingService greetingService;
-    private final RateLimiter rateLimiter;
     private final GreetingMetrics greetingMetrics;
+    private final CoarseClock coarseClock;
+    private final LanguageNegotiator languageNegotiator;
 
     @Autowired
-    public GreetingV2Controller(GreetingService greetingService, RateLimiter rateLimiter, GreetingMetrics greetingMetrics) {
+    public GreetingV2Controller(GreetingService greetingService, GreetingMetrics greetingMetrics,
+                                CoarseClock coarseClock, LanguageNegotiator languageNegotiator) {
         this.greetingService = greetingService;
-        this.rateLimiter = rateLimiter;
         this.greetingMetrics = greetingMetrics;
+        this.coarseClock = coarseClock;
+        this.languageNegotiator = languageNegotiator;
     }
 
     @Operation(
@@ -61,16 +67,18 @@ public class GreetingV2Controller {
             description = "Enhanced greeting retrieved successfully",
             content = @Content(
                 mediaType = "application/json",
+                schema = @Schema(implementation = GreetingV2Response.class),
                 examples = @ExampleObject(value = """
                     {
                         "message": "¡Hola Mundo!",
                         "language": "es",
-                        "timestamp": "2024-01-15T10:30:00",
+                        "timestamp": "2024-01-15T10:30:00.120",
                         "version": "v2",
                         "metadata": {
                             "isSupported": true,
                             "characterCount": 12,
-                            "encoding": "UTF-8"
+                            "encoding": "UTF-8",
+                            "clientIP": "127.0.0.1"
                         }
                     }
                     """)
@@ -88,25 +96,22 @@ public class GreetingV2Controller {
         )
     })
     @GetMapping("/greeting")
-    public ResponseEntity<Map<String, Object>> getEnhancedGreeting(
-            @RequestParam(value = "lang", defaultValue = "en")
-            @Pattern(regexp = "^[a-z]{2}$", message = "Language code must be exactly 2 lowercase letters")
-            @Size(min = 2, max = 2, message = "Language code must be exactly 2 characters")
-            @NotBlank(message = "Language code cannot be blank")
-            String language,
-            HttpServletRequest request) {
+    public ResponseEntity<GreetingV2Response> getEnhancedGreeting(
+            @Parameter(description = "Language code; negotiated from Accept-Language when absent")
+            @RequestParam(value = "lang", required = false)
+            @Pattern(regexp = "^([a-z]{2})?$", message = "Language code must be exactly 2 lowercase letters")
+            @Size(max = 2, message = "Language code must be exactly 2 characters")
+            String lang,
+            HttpServletRequest request,
+            HttpServletResponse servletResponse) {
+        String language = languageNegotiator.language(lang, request, servletResponse);
         
         Timer.Sample sample = greetingMetrics.startTimer();
+        GreetingRequestEvent event = GreetingRequestEvent.start();
+        boolean failed = true;
+        String recordedLanguage = GreetingMetrics.INVALID_LANGUAGE;
         
         try {
-            // Rate limiting check
-            if (!rateLimiter.tryAcquire()) {
-                String clientIP = SecurityUtils.getClientIP(request);
-                logger.warn("Rate limit exceeded for IP: {}", clientIP);
-                greetingMetrics.incrementRateLimitExceeded(clientIP);
-                throw new TooManyRequestsException("Rate limit exceeded. Please try again later.");
-            }
-            
             // Advanced input sanitization
             String sanitizedLanguage = SecurityUtils.sanitizeInput(language);
             if (!SecurityUtils.isValidLanguageCode(sanitizedLanguage)) {
@@ -114,6 +119,7 @@ public class GreetingV2Controller {
                            language, SecurityUtils.getClientIP(request));
                 throw new IllegalArgumentException("Invalid language code format");
             }
+            recordedLanguage = sanitizedLanguage;
             
             String clientIP = SecurityUtils.getClientIP(request);
             logger.info("Enhanced greeting requested for language: {} from IP: {}", sanitizedLanguage, clientIP);
@@ -121,24 +127,16 @@ public class GreetingV2Controller {
             String greeting = greetingService.getGreeting(sanitizedLanguage);
             boolean isSupported = greetingService.isLanguageSupported(sanitizedLanguage);
             
-            Map<String, Object> response = Map.of(
-                "message", greeting,
-                "language", sanitizedLanguage,
-                "timestamp", LocalDateTime.now().toString(),
-                "version", "v2",
-                "metadata", Map.of(
-                    "isSupported", isSupported,
-                    "characterCount", greeting.length(),
-                    "encoding", "UTF-8",
-                    "clientIP", clientIP
-                )
-            );
+            GreetingV2Response response = GreetingV2Response.of(
+                greeting, sanitizedLanguage, coarseClock.tick().text(), isSupported, clientIP);
             
             greetingMetrics.incrementRequests(sanitizedLanguage, "v2");
+            failed = false;
             return ResponseEntity.ok(response);
             
         } finally {
-            greetingMetrics.recordTimer(sample, language);
+            greetingMetrics.recordTimer(sample, recordedLanguage);
+            event.finish("/api/v2/greeting", recordedLanguage, failed);
         }
     }
 
@@ -148,27 +146,7 @@ public class GreetingV2Controller {
         tags = {"Greeting API v2"}
     )
     @GetMapping("/info")
-    public ResponseEntity<Map<String, Object>> getApiInfo() {
-        Map<String, Object> apiInfo = Map.of(
-            "version", "2.0",
-            "description", "Enhanced Greeting API with metadata support",
-            "features", new String[]{
-                "Enhanced response format",
-                "Request metadata",
-                "Timestamp tracking",
-                "Character count",
-                "Language support detection"
-            },
-            "endpoints", Map.of(
-                "greeting", "/api/v2/greeting",
-                "info", "/api/v2/info"
-            ),
-            "compatibility", Map.of(
-                "v1", "Available at /",
-                "v2", "Current version"
-            )
-        );
-        
-        return ResponseEntity.ok(apiInfo);
+    public ResponseEntity<ApiInfo> getApiInfo() {
+        return ResponseEntity.ok(ApiInfo.V2);
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.springboot.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Encodes Server-Sent Events frames. Each is built once and the same bytes are queued
+ * for every subscriber. The event id is the catalog version the frame brings the client
+ * to, so a reconnecting client's {@code Last-Event-ID} says what it already holds.
+ */
+final class CatalogEventFrames {
+
+    static final byte[] HEARTBEAT = ascii(": heartbeat\n\n");
+
+    private final ObjectWriter writer;
+
+    CatalogEventFrames(ObjectMapper objectMapper) {
+        // SSE data must stay on one line
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    static byte[] retry(Duration delay) {
+        return ascii("retry: " + delay.toMillis() + "\n\n");
+    }
+
+    /**
+     * The whole catalog: {@code {"version":..,"languages":{code: greeting}}}.
+     */
+    byte[] snapshot(String version, SortedMap<String, String> languages) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("version", version);
+        data.put("languages", languages);
+        return frame("snapshot", version, data);
+    }
+
+    /**
+     * Changes from {@code previous}: {@code {"version","previous","changed":{code: greeting},"removed":[code]}}.
+     */
+    byte[] delta(String version, String previous, SortedMap<String, String> changed, List<String> removed) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("version", version);
+        data.put("previous", previous);
+        data.put("changed", changed);
+        data.put("removed", removed);
+        return frame("delta", version, data);
+    }
+
+    private byte[] frame(String event, String id, Object data) {
+        try {
+            String json = writer.writeValueAsString(data);
+            return ("id: " + id + "\nevent: " + event + "\ndata: " + json + "\n\n").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to encode the " + event + " event", e);
+        }
+    }
+
+    private static byte[] ascii(String frame) {
+        return frame.getBytes(StandardCharsets.US_ASCII);
+    }
+}
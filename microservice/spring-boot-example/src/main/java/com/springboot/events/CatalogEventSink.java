@@ -0,0 +1,34 @@
+package com.springboot.events;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+
+/**
+ * Where a subscriber's frames are written. Only the subscriber's own thread calls it, so
+ * a blocking write holds up that client alone.
+ */
+public interface CatalogEventSink {
+
+    void send(byte[] frame) throws IOException;
+
+    void complete();
+
+    /**
+     * Writes frames as they are, already encoded, to an MVC response emitter.
+     */
+    static CatalogEventSink of(ResponseBodyEmitter emitter) {
+        return new CatalogEventSink() {
+            @Override
+            public void send(byte[] frame) throws IOException {
+                emitter.send(frame, MediaType.TEXT_EVENT_STREAM);
+            }
+
+            @Override
+            public void complete() {
+                emitter.complete();
+            }
+        };
+    }
+}
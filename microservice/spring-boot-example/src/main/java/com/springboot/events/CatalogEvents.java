@@ -0,0 +1,339 @@
+package com.springboot.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.springboot.backend.BackendException;
+import com.springboot.backend.GreetingBackend;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.service.GreetingCacheEvictedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Pushes catalog changes to subscribers of {@code /languages/events}, so clients can keep
+ * the catalog locally instead of polling {@code /languages}.
+ * <p>
+ * One thread reads the catalog from the backend every {@code check-interval}, and at once
+ * when the greeting caches are cleared, and when it changed encodes a single delta frame
+ * that is queued for every subscriber. The backend is read rather than the cached
+ * {@code /languages} catalog, which would hold a change back until its entry expires;
+ * while nobody is subscribed the checks are skipped and the next subscriber reads it. Each subscriber has a
+ * bounded queue drained by its own virtual thread; a subscriber whose queue is full when
+ * a frame arrives has fallen too far behind and is disconnected, so one slow client never
+ * delays the others or holds frames without bound. Heartbeats go through the same queues
+ * and keep idle connections from being timed out by proxies.
+ */
+@Component
+public class CatalogEvents implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogEvents.class);
+
+    private final Supplier<SortedMap<String, String>> languages;
+    private final CatalogEventFrames frames;
+    private final GreetingMetrics greetingMetrics;
+    private final Duration checkInterval;
+    private final Duration heartbeatInterval;
+    private final Duration maxConnectionAge;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final byte[] retryFrame;
+    private final Set<Subscription> subscribers = ConcurrentHashMap.newKeySet();
+
+    private volatile Snapshot current;
+    // The map last read; a backend may return the same instance while nothing changed
+    private SortedMap<String, String> lastRead;
+    private volatile ScheduledExecutorService scheduler;
+
+    @Autowired
+    public CatalogEvents(GreetingBackend backend, ObjectMapper objectMapper, GreetingMetrics greetingMetrics,
+                         @Value("${app.catalog-events.check-interval:1s}") Duration checkInterval,
+                         @Value("${app.catalog-events.heartbeat-interval:15s}") Duration heartbeatInterval,
+                         @Value("${app.catalog-events.retry:5s}") Duration retry,
+                         @Value("${app.catalog-events.max-connection-age:30m}") Duration maxConnectionAge,
+                         @Value("${app.catalog-events.buffer-size:16}") int bufferSize,
+                         @Value("${app.catalog-events.max-subscribers:1000}") int maxSubscribers) {
+        this(() -> fetchAll(backend), objectMapper, greetingMetrics, checkInterval, heartbeatInterval,
+            retry, maxConnectionAge, bufferSize, maxSubscribers);
+    }
+
+    CatalogEvents(Supplier<SortedMap<String, String>> languages, ObjectMapper objectMapper,
+                  GreetingMetrics greetingMetrics, Duration checkInterval, Duration heartbeatInterval,
+                  Duration retry, Duration maxConnectionAge, int bufferSize, int maxSubscribers) {
+        this.languages = languages;
+        this.frames = new CatalogEventFrames(objectMapper);
+        this.greetingMetrics = greetingMetrics;
+        this.checkInterval = checkInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.maxConnectionAge = maxConnectionAge;
+        // Room for the retry and first catalog frames at least
+        this.bufferSize = Math.max(bufferSize, 2);
+        this.maxSubscribers = maxSubscribers;
+        this.retryFrame = CatalogEventFrames.retry(retry);
+        greetingMetrics.bindCatalogSubscribers(subscribers::size);
+    }
+
+    /**
+     * How long a connection is kept before it is closed; the client reconnects with its
+     * {@code Last-Event-ID} and so resumes without a new snapshot.
+     */
+    public Duration maxConnectionAge() {
+        return maxConnectionAge;
+    }
+
+    /**
+     * Starts streaming to {@code sink}: the current catalog as a snapshot, unless
+     * {@code lastEventId} shows the client already has it or only lacks the latest delta,
+     * then every change. Returns {@code null} when {@code max-subscribers} are connected.
+     */
+    public Subscription subscribe(String lastEventId, CatalogEventSink sink) {
+        if (current == null) {
+            // Before the first scheduled check; a backend failure reaches the caller
+            update(languages.get());
+        } else if (subscribers.isEmpty()) {
+            // Not checked while nobody was listening
+            refresh();
+        }
+        synchronized (this) {
+            if (subscribers.size() >= maxSubscribers) {
+                greetingMetrics.incrementCatalogSubscribersRejected("at_capacity");
+                return null;
+            }
+            Snapshot snapshot = current;
+            Subscription subscription = new Subscription(sink);
+            subscription.frames.add(retryFrame);
+            if (snapshot.version.equals(lastEventId)) {
+                // Nothing to send until the next change
+            } else if (snapshot.delta != null && snapshot.previousVersion.equals(lastEventId)) {
+                subscription.frames.add(snapshot.delta);
+            } else {
+                subscription.frames.add(snapshot.snapshotFrame());
+                greetingMetrics.recordCatalogEvent("snapshot");
+            }
+            subscribers.add(subscription);
+            subscription.thread = Thread.ofVirtual().name("catalog-events-subscriber").unstarted(subscription::run);
+            subscription.thread.start();
+            return subscription;
+        }
+    }
+
+    @EventListener
+    public void onGreetingCacheEvicted(GreetingCacheEvictedEvent event) {
+        ScheduledExecutorService checks = scheduler;
+        if (event.isAll() && checks != null) {
+            try {
+                checks.execute(this::check);
+            } catch (RejectedExecutionException e) {
+                // Stopping
+            }
+        }
+    }
+
+    void check() {
+        if (current == null || !subscribers.isEmpty()) {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        try {
+            update(languages.get());
+        } catch (RuntimeException e) {
+            logger.debug("Catalog check failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Broadcasts the delta from the last catalog when {@code latest} differs from it.
+     */
+    private void update(SortedMap<String, String> latest) {
+        synchronized (this) {
+            Snapshot previous = current;
+            boolean unchanged = previous != null && (latest == lastRead || previous.languages.equals(latest));
+            lastRead = latest;
+            if (unchanged) {
+                return;
+            }
+            SortedMap<String, String> copy = new TreeMap<>(latest);
+            String version = version(copy);
+            if (previous == null) {
+                current = new Snapshot(version, copy, null, null);
+                return;
+            }
+            SortedMap<String, String> changed = new TreeMap<>();
+            copy.forEach((code, greeting) -> {
+                if (!greeting.equals(previous.languages.get(code))) {
+                    changed.put(code, greeting);
+                }
+            });
+            List<String> removed = new ArrayList<>();
+            for (String code : previous.languages.keySet()) {
+                if (!copy.containsKey(code)) {
+                    removed.add(code);
+                }
+            }
+            byte[] delta = frames.delta(version, previous.version, changed, removed);
+            current = new Snapshot(version, copy, previous.version, delta);
+            logger.info("Catalog changed from {} to {}: {} changed, {} removed",
+                previous.version, version, changed.size(), removed.size());
+            greetingMetrics.recordCatalogEvent("delta");
+            broadcast(delta);
+        }
+    }
+
+    void heartbeat() {
+        broadcast(CatalogEventFrames.HEARTBEAT);
+    }
+
+    private void broadcast(byte[] frame) {
+        for (Subscription subscription : subscribers) {
+            subscription.offer(frame);
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private static SortedMap<String, String> fetchAll(GreetingBackend backend) {
+        try {
+            return backend.fetchAll().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BackendException("Greeting backend call failed", e.getCause());
+        }
+    }
+
+    private static String version(SortedMap<String, String> languages) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        languages.forEach((code, greeting) -> hasher
+            .putString(code, StandardCharsets.UTF_8)
+            .putByte((byte) 0)
+            .putString(greeting, StandardCharsets.UTF_8)
+            .putByte((byte) 0));
+        return hasher.hash().toString().substring(0, 16);
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("catalog-events").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval.toMillis(),
+            heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        scheduler.shutdownNow();
+        scheduler = null;
+        subscribers.forEach(Subscription::close);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private final class Snapshot {
+
+        private final String version;
+        private final SortedMap<String, String> languages;
+        private final String previousVersion;
+        private final byte[] delta;
+        private byte[] snapshotFrame;
+
+        private Snapshot(String version, SortedMap<String, String> languages, String previousVersion, byte[] delta) {
+            this.version = version;
+            this.languages = languages;
+            this.previousVersion = previousVersion;
+            this.delta = delta;
+        }
+
+        // Encoded on the first subscribe that needs it; callers hold the CatalogEvents lock
+        private byte[] snapshotFrame() {
+            if (snapshotFrame == null) {
+                snapshotFrame = frames.snapshot(version, languages);
+            }
+            return snapshotFrame;
+        }
+    }
+
+    /**
+     * One connected client. Closed when the client goes away, when it falls behind, or
+     * on shutdown; the sink is only ever written and completed by the subscriber's own
+     * thread.
+     */
+    public final class Subscription {
+
+        private final CatalogEventSink sink;
+        private final BlockingQueue<byte[]> frames = new ArrayBlockingQueue<>(bufferSize);
+        private volatile Thread thread;
+        private volatile boolean closed;
+
+        private Subscription(CatalogEventSink sink) {
+            this.sink = sink;
+        }
+
+        private void offer(byte[] frame) {
+            if (!closed && !frames.offer(frame)) {
+                logger.debug("Disconnecting a catalog subscriber with {} frames pending", bufferSize);
+                greetingMetrics.incrementCatalogSubscribersRejected("slow_consumer");
+                close();
+            }
+        }
+
+        private void run() {
+            try {
+                while (!closed) {
+                    sink.send(frames.take());
+                }
+                sink.complete();
+            } catch (InterruptedException e) {
+                sink.complete();
+            } catch (IOException | RuntimeException e) {
+                // The client went away; the container ends the response itself
+                logger.debug("Catalog subscriber write failed: {}", e.getMessage());
+            } finally {
+                close();
+            }
+        }
+
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            Thread writer = thread;
+            if (writer != null && writer != Thread.currentThread()) {
+                writer.interrupt();
+            }
+        }
+    }
+}
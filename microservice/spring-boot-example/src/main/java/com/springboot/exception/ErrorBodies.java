@@ -0,0 +1,91 @@
+package com.springboot.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.springboot.util.CoarseClock;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pre-encoded JSON bodies for the high-volume rejections: rate limiting, full bulkheads
+ * and malformed language codes. Only the timestamp varies and it comes from the {@link CoarseClock},
+ * so each body is assembled at most once per clock tick. Returned arrays are shared
+ * and must not be modified.
+ */
+@Component
+public class ErrorBodies {
+
+    public static final String RATE_LIMIT_MESSAGE = "Rate limit exceeded. Please try again later.";
+    public static final String BULKHEAD_MESSAGE = "Too many concurrent requests for this endpoint. Please try again later.";
+    public static final String LANGUAGE_PATTERN_MESSAGE = "Language code must be exactly 2 lowercase letters";
+    public static final String LANGUAGE_SIZE_MESSAGE = "Language code must be exactly 2 characters";
+
+    private final CoarseClock clock;
+    private final Template tooManyRequests;
+    private final Template bulkheadFull;
+    private final Template invalidLanguagePattern;
+    private final Template invalidLanguageSize;
+
+    public ErrorBodies(CoarseClock clock) {
+        this.clock = clock;
+        this.tooManyRequests = new Template(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                RATE_LIMIT_MESSAGE, ",\"retryAfter\":\"1 second\"");
+        this.bulkheadFull = new Template(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+                BULKHEAD_MESSAGE, ",\"retryAfter\":\"1 second\"");
+        this.invalidLanguagePattern = new Template(HttpStatus.BAD_REQUEST, "Validation Failed",
+                LANGUAGE_PATTERN_MESSAGE, ",\"path\":\"/\"");
+        this.invalidLanguageSize = new Template(HttpStatus.BAD_REQUEST, "Validation Failed",
+                LANGUAGE_PATTERN_MESSAGE + ", " + LANGUAGE_SIZE_MESSAGE, ",\"path\":\"/\"");
+    }
+
+    public byte[] tooManyRequests() {
+        return tooManyRequests.render(clock.tick());
+    }
+
+    public byte[] bulkheadFull() {
+        return bulkheadFull.render(clock.tick());
+    }
+
+    /**
+     * Body for a {@code lang} value that is not two lowercase letters, carrying the same
+     * constraint messages the controller validation would report.
+     */
+    public byte[] invalidLanguage(String language) {
+        Template template = language.length() == 2 ? invalidLanguagePattern : invalidLanguageSize;
+        return template.render(clock.tick());
+    }
+
+    private static final class Template {
+
+        private final byte[] prefix;
+        private final byte[] suffix;
+        private volatile Rendered last;
+
+        Template(HttpStatus status, String error, String message, String extraFields) {
+            JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+            this.prefix = "{\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+            this.suffix = ("\",\"status\":" + status.value()
+                    + ",\"error\":\"" + new String(encoder.quoteAsString(error))
+                    + "\",\"message\":\"" + new String(encoder.quoteAsString(message))
+                    + "\"" + extraFields + "}").getBytes(StandardCharsets.UTF_8);
+        }
+
+        byte[] render(CoarseClock.Tick tick) {
+            Rendered rendered = last;
+            if (rendered != null && rendered.tick() == tick) {
+                return rendered.body();
+            }
+            byte[] timestamp = tick.utf8();
+            byte[] body = new byte[prefix.length + timestamp.length + suffix.length];
+            System.arraycopy(prefix, 0, body, 0, prefix.length);
+            System.arraycopy(timestamp, 0, body, prefix.length, timestamp.length);
+            System.arraycopy(suffix, 0, body, prefix.length + timestamp.length, suffix.length);
+            last = new Rendered(tick, body);
+            return body;
+        }
+    }
+
+    private record Rendered(CoarseClock.Tick tick, byte[] body) {
+    }
+}
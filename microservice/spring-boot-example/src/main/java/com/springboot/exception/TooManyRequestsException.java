@@ -5,7 +5,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
 public class TooManyRequestsException extends RuntimeException {
-    
+
     public TooManyRequestsException(String message) {
         super(message);
     }
@@ -13,4 +13,4 @@ public class TooManyRequestsException extends RuntimeException {
     public TooManyRequestsException(String message, Throwable cause) {
         super(message, cause);
     }
-}
\ No newline at end of file
+}
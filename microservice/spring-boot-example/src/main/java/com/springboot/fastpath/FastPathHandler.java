@@ -0,0 +1,71 @@
+package com.springboot.fastpath;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.service.GreetingCatalog;
+import com.springboot.service.GreetingService;
+import io.micrometer.core.instrument.Counter;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Answers an authorized fast-path request: the shared rate limiter first, then the
+ * greeting from {@link GreetingService}'s cache, as a pre-encoded response. A cache hit
+ * completes at once; a miss completes when the backend answers. Outcomes are counted on
+ * counters registered up front, once the response is known, so the selector thread
+ * never looks up a meter.
+ */
+final class FastPathHandler {
+
+    private final GreetingService greetingService;
+    private final GreetingCatalog catalog;
+    private final RateLimiter rateLimiter;
+    private final byte[] token;
+    private final FastPathResponses responses = new FastPathResponses();
+    private final Counter served;
+    private final Counter unavailable;
+    private final Counter rejected;
+
+    FastPathHandler(GreetingService greetingService, GreetingCatalog catalog, RateLimiter rateLimiter,
+                    GreetingMetrics greetingMetrics, byte[] token) {
+        this.greetingService = greetingService;
+        this.catalog = catalog;
+        this.rateLimiter = rateLimiter;
+        this.token = token;
+        this.served = greetingMetrics.fastPathRequests("served");
+        this.unavailable = greetingMetrics.fastPathRequests("unavailable");
+        this.rejected = greetingMetrics.fastPathRequests("rate_limited");
+    }
+
+    byte[] token() {
+        return token;
+    }
+
+    CompletableFuture<ByteBuffer> handle(String requested) {
+        if (!rateLimiter.tryAcquire()) {
+            rejected.increment();
+            return CompletableFuture.completedFuture(FastPathResponses.TOO_MANY_REQUESTS);
+        }
+        String language = requested != null ? requested : catalog.defaultLanguage();
+        CompletableFuture<String> greeting;
+        try {
+            greeting = greetingService.getGreetingAsync(language);
+        } catch (RuntimeException e) {
+            unavailable.increment();
+            return CompletableFuture.completedFuture(FastPathResponses.SERVICE_UNAVAILABLE);
+        }
+        if (greeting.isDone() && !greeting.isCompletedExceptionally()) {
+            served.increment();
+            return CompletableFuture.completedFuture(responses.greeting(language, greeting.join()));
+        }
+        return greeting.handle((value, failure) -> {
+            if (failure != null) {
+                unavailable.increment();
+                return FastPathResponses.SERVICE_UNAVAILABLE;
+            }
+            served.increment();
+            return responses.greeting(language, value);
+        });
+    }
+}
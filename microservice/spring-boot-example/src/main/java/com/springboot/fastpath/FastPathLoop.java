@@ -0,0 +1,232 @@
+package com.springboot.fastpath;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One selector thread serving the connections handed to it. Each connection has a direct
+ * input and output buffer: pipelined requests are parsed from the input in order and their
+ * pre-encoded responses copied to the output, which is written once per read. A greeting
+ * not in the cache yet pauses the connection until it loads, so responses never overtake
+ * each other; the thread itself never waits.
+ */
+final class FastPathLoop implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FastPathLoop.class);
+
+    private static final int INPUT_BUFFER_SIZE = 8 * 1024;
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final long SELECT_TIMEOUT_MILLIS = 1000;
+
+    private final FastPathHandler handler;
+    private final long idleTimeoutNanos;
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    FastPathLoop(FastPathHandler handler, long idleTimeoutNanos) throws IOException {
+        this.handler = handler;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.selector = Selector.open();
+    }
+
+    void register(SocketChannel channel) {
+        execute(() -> {
+            try {
+                channel.configureBlocking(false);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                key.attach(new Connection(channel, key));
+            } catch (IOException e) {
+                closeQuietly(channel);
+            }
+        });
+    }
+
+    private void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        long lastIdleCheck = System.nanoTime();
+        try {
+            while (running) {
+                selector.select(SELECT_TIMEOUT_MILLIS);
+                for (Runnable task; (task = tasks.poll()) != null; ) {
+                    task.run();
+                }
+                for (SelectionKey key : selector.selectedKeys()) {
+                    Connection connection = (Connection) key.attachment();
+                    try {
+                        if (key.isWritable()) {
+                            connection.flush();
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            connection.read();
+                        }
+                    } catch (IOException | CancelledKeyException e) {
+                        connection.close();
+                    }
+                }
+                selector.selectedKeys().clear();
+                long now = System.nanoTime();
+                if (now - lastIdleCheck > TimeUnit.MILLISECONDS.toNanos(SELECT_TIMEOUT_MILLIS)) {
+                    closeIdle(now);
+                    lastIdleCheck = now;
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            logger.warn("Fast path loop stopped: {}", e.getMessage());
+        } finally {
+            selector.keys().forEach(key -> ((Connection) key.attachment()).close());
+            closeQuietly(selector);
+        }
+    }
+
+    private void closeIdle(long now) {
+        for (SelectionKey key : selector.keys()) {
+            Connection connection = (Connection) key.attachment();
+            if (!connection.waiting && now - connection.lastActive > idleTimeoutNanos) {
+                connection.close();
+            }
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            logger.debug("Close failed", e);
+        }
+    }
+
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ByteBuffer in = ByteBuffer.allocateDirect(INPUT_BUFFER_SIZE);
+        private final ByteBuffer out = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+        private final FastPathRequest request = new FastPathRequest();
+        private long lastActive = System.nanoTime();
+        private boolean waiting;
+        private boolean stalled;
+        private boolean closing;
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                close();
+                return;
+            }
+            lastActive = System.nanoTime();
+            process();
+        }
+
+        /**
+         * Serves every complete request in the input buffer, as far as output room allows.
+         */
+        private void process() throws IOException {
+            in.flip();
+            int position = in.position();
+            while (!waiting && !closing && out.remaining() >= FastPathResponses.MAX_RESPONSE_SIZE) {
+                int end = FastPathRequest.headEnd(in, position, in.limit());
+                if (end < 0) {
+                    break;
+                }
+                request.parse(in, position, end, handler.token());
+                position = end;
+                closing = request.close;
+                if (request.error != null) {
+                    write(request.error);
+                    continue;
+                }
+                if (!request.authorized) {
+                    closing = true;
+                    write(FastPathResponses.UNAUTHORIZED);
+                    continue;
+                }
+                CompletableFuture<ByteBuffer> response = handler.handle(request.language);
+                if (response.isDone()) {
+                    write(response.join());
+                } else {
+                    waiting = true;
+                    response.whenComplete((buffer, failure) -> execute(() -> resume(buffer)));
+                }
+            }
+            stalled = out.remaining() < FastPathResponses.MAX_RESPONSE_SIZE;
+            in.position(position);
+            in.compact();
+            if (!in.hasRemaining() && !waiting && !closing && !stalled) {
+                // A head that does not fit the buffer
+                closing = true;
+                write(FastPathResponses.HEADERS_TOO_LARGE);
+            }
+            flush();
+        }
+
+        private void resume(ByteBuffer response) {
+            waiting = false;
+            if (!channel.isOpen()) {
+                return;
+            }
+            try {
+                write(response != null ? response : FastPathResponses.SERVICE_UNAVAILABLE);
+                process();
+            } catch (IOException | CancelledKeyException e) {
+                close();
+            }
+        }
+
+        private void write(ByteBuffer response) {
+            int length = response.limit();
+            out.put(out.position(), response, 0, length);
+            out.position(out.position() + length);
+        }
+
+        void flush() throws IOException {
+            out.flip();
+            channel.write(out);
+            out.compact();
+            if (out.position() > 0) {
+                key.interestOps(SelectionKey.OP_WRITE);
+                return;
+            }
+            if (closing) {
+                close();
+                return;
+            }
+            key.interestOps(waiting ? 0 : SelectionKey.OP_READ);
+            if (stalled && !waiting) {
+                // Requests left behind while the output was full
+                process();
+            }
+        }
+
+        void close() {
+            key.cancel();
+            closeQuietly(channel);
+        }
+    }
+}
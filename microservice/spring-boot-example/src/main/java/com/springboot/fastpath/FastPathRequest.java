@@ -0,0 +1,207 @@
+package com.springboot.fastpath;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses the head of one HTTP/1.1 request in place in the connection's input buffer,
+ * without allocating: only {@code GET /} and {@code GET /?lang=xx} are understood, and
+ * of the headers only the token, {@code Connection} and anything announcing a body.
+ * One instance per connection is reused for every request on it.
+ */
+final class FastPathRequest {
+
+    static final String TOKEN_HEADER = "X-Fast-Path-Token";
+
+    private static final byte[] GET = "GET ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HTTP_1_1 = "HTTP/1.1".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HTTP_1_0 = "HTTP/1.0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LANG_QUERY = "?lang=".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TOKEN = (TOKEN_HEADER.toLowerCase() + ":").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CONNECTION = "connection:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CONTENT_LENGTH = "content-length:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRANSFER_ENCODING = "transfer-encoding:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CLOSE = "close".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] KEEP_ALIVE = "keep-alive".getBytes(StandardCharsets.US_ASCII);
+
+    private static final String[] LANGUAGES = new String[26 * 26];
+
+    static {
+        for (char a = 'a'; a <= 'z'; a++) {
+            for (char b = 'a'; b <= 'z'; b++) {
+                LANGUAGES[(a - 'a') * 26 + (b - 'a')] = ("" + a + b).intern();
+            }
+        }
+    }
+
+    /**
+     * The response for a request that cannot be served, or {@code null} for a greeting.
+     */
+    ByteBuffer error;
+    /**
+     * The requested language, or {@code null} for the default one.
+     */
+    String language;
+    boolean authorized;
+    boolean close;
+
+    /**
+     * Index just past the blank line ending the head that starts at {@code from}, or -1
+     * while the head is incomplete.
+     */
+    static int headEnd(ByteBuffer buffer, int from, int limit) {
+        for (int i = from; i + 3 < limit; i++) {
+            if (buffer.get(i) == '\r' && buffer.get(i + 1) == '\n' && buffer.get(i + 2) == '\r'
+                    && buffer.get(i + 3) == '\n') {
+                return i + 4;
+            }
+        }
+        return -1;
+    }
+
+    void parse(ByteBuffer buffer, int start, int end, byte[] token) {
+        error = null;
+        language = null;
+        authorized = false;
+        close = false;
+
+        int lineEnd = indexOf(buffer, start, end, (byte) '\r');
+        int space = indexOf(buffer, start, lineEnd, (byte) ' ');
+        if (space < 0) {
+            fail(FastPathResponses.BAD_REQUEST);
+            return;
+        }
+        if (!regionMatches(buffer, start, GET, false)) {
+            error = FastPathResponses.METHOD_NOT_ALLOWED;
+        }
+        int targetStart = space + 1;
+        int targetEnd = indexOf(buffer, targetStart, lineEnd, (byte) ' ');
+        if (targetEnd < 0 || lineEnd - targetEnd - 1 != HTTP_1_1.length) {
+            fail(FastPathResponses.BAD_REQUEST);
+            return;
+        }
+        if (regionMatches(buffer, targetEnd + 1, HTTP_1_0, false)) {
+            close = true;
+        } else if (!regionMatches(buffer, targetEnd + 1, HTTP_1_1, false)) {
+            fail(FastPathResponses.BAD_REQUEST);
+            return;
+        }
+        if (error == null) {
+            parseTarget(buffer, targetStart, targetEnd);
+        }
+        parseHeaders(buffer, lineEnd + 2, end - 2, token);
+    }
+
+    private void parseTarget(ByteBuffer buffer, int start, int end) {
+        if (buffer.get(start) != '/') {
+            error = FastPathResponses.BAD_REQUEST;
+        } else if (end - start == 1) {
+            language = null;
+        } else if (!regionMatches(buffer, start + 1, LANG_QUERY, false)) {
+            error = FastPathResponses.NOT_FOUND;
+        } else {
+            int codeStart = start + 1 + LANG_QUERY.length;
+            if (end == codeStart) {
+                language = null;
+            } else if (end - codeStart == 2 && isLetter(buffer.get(codeStart)) && isLetter(buffer.get(codeStart + 1))) {
+                language = LANGUAGES[(buffer.get(codeStart) - 'a') * 26 + (buffer.get(codeStart + 1) - 'a')];
+            } else {
+                error = FastPathResponses.BAD_REQUEST;
+            }
+        }
+    }
+
+    private void parseHeaders(ByteBuffer buffer, int start, int end, byte[] token) {
+        int line = start;
+        while (line < end) {
+            int lineEnd = indexOf(buffer, line, end, (byte) '\r');
+            if (lineEnd < 0) {
+                lineEnd = end;
+            }
+            int valueStart;
+            if (regionMatches(buffer, line, TOKEN, true)) {
+                valueStart = skipSpaces(buffer, line + TOKEN.length, lineEnd);
+                authorized = equalsConstantTime(buffer, valueStart, trimEnd(buffer, valueStart, lineEnd), token);
+            } else if (regionMatches(buffer, line, CONNECTION, true)) {
+                valueStart = skipSpaces(buffer, line + CONNECTION.length, lineEnd);
+                if (regionMatches(buffer, valueStart, CLOSE, true)) {
+                    close = true;
+                } else if (regionMatches(buffer, valueStart, KEEP_ALIVE, true)) {
+                    close = false;
+                }
+            } else if (regionMatches(buffer, line, TRANSFER_ENCODING, true)
+                    || (regionMatches(buffer, line, CONTENT_LENGTH, true)
+                        && !isZero(buffer, skipSpaces(buffer, line + CONTENT_LENGTH.length, lineEnd), lineEnd))) {
+                // A body would be read as the next request
+                fail(FastPathResponses.BAD_REQUEST);
+                return;
+            }
+            line = lineEnd + 2;
+        }
+    }
+
+    private void fail(ByteBuffer response) {
+        error = response;
+        close = true;
+    }
+
+    private static boolean isLetter(byte b) {
+        return b >= 'a' && b <= 'z';
+    }
+
+    private static boolean isZero(ByteBuffer buffer, int start, int end) {
+        return trimEnd(buffer, start, end) == start + 1 && buffer.get(start) == '0';
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipSpaces(ByteBuffer buffer, int from, int to) {
+        while (from < to && (buffer.get(from) == ' ' || buffer.get(from) == '\t')) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(ByteBuffer buffer, int from, int to) {
+        while (to > from && (buffer.get(to - 1) == ' ' || buffer.get(to - 1) == '\t')) {
+            to--;
+        }
+        return to;
+    }
+
+    // Lowercase ASCII expected; header names are matched case-insensitively
+    private static boolean regionMatches(ByteBuffer buffer, int offset, byte[] expected, boolean ignoreCase) {
+        if (offset + expected.length > buffer.limit()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            byte b = buffer.get(offset + i);
+            if (ignoreCase && b >= 'A' && b <= 'Z') {
+                b += 'a' - 'A';
+            }
+            if (b != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Same time for any value of the expected length, so the token cannot be guessed byte by byte
+    private static boolean equalsConstantTime(ByteBuffer buffer, int start, int end, byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        int difference = 0;
+        for (int i = 0; i < expected.length; i++) {
+            difference |= buffer.get(start + i) ^ expected[i];
+        }
+        return difference == 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.springboot.fastpath;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Complete HTTP responses of the fast path, encoded ahead of time. Greeting responses
+ * are encoded on first use and kept per language until the greeting the cache returns
+ * for it changes; status responses are constants. Buffers are never modified once built,
+ * so every connection copies from the same ones.
+ */
+final class FastPathResponses {
+
+    /**
+     * Upper bound on a response; a connection only takes the next request when its output
+     * buffer has this much room.
+     */
+    static final int MAX_RESPONSE_SIZE = 4096;
+
+    static final ByteBuffer BAD_REQUEST = status("400 Bad Request", true);
+    static final ByteBuffer UNAUTHORIZED = status("401 Unauthorized", true);
+    static final ByteBuffer NOT_FOUND = status("404 Not Found", false);
+    static final ByteBuffer METHOD_NOT_ALLOWED = status("405 Method Not Allowed", false);
+    static final ByteBuffer TOO_MANY_REQUESTS = status("429 Too Many Requests", false);
+    static final ByteBuffer HEADERS_TOO_LARGE = status("431 Request Header Fields Too Large", true);
+    static final ByteBuffer SERVICE_UNAVAILABLE = status("503 Service Unavailable", false);
+
+    private final Map<String, Encoded> greetings = new ConcurrentHashMap<>();
+
+    ByteBuffer greeting(String language, String greeting) {
+        Encoded encoded = greetings.get(language);
+        if (encoded == null || !encoded.greeting().equals(greeting)) {
+            encoded = new Encoded(greeting, encode("200 OK", greeting, false));
+            if (encoded.response().limit() > MAX_RESPONSE_SIZE) {
+                return SERVICE_UNAVAILABLE;
+            }
+            greetings.put(language, encoded);
+        }
+        return encoded.response();
+    }
+
+    private static ByteBuffer status(String status, boolean close) {
+        // The reason phrase doubles as the body
+        return encode(status, status.substring(4), close);
+    }
+
+    private static ByteBuffer encode(String status, String body, boolean close) {
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        String head = "HTTP/1.1 " + status + "\r\n"
+            + "Content-Type: text/plain;charset=UTF-8\r\n"
+            + "Content-Length: " + content.length + "\r\n"
+            + (status.startsWith("429") ? "Retry-After: 1\r\n" : "")
+            + (status.startsWith("405") ? "Allow: GET\r\n" : "")
+            + (close ? "Connection: close\r\n" : "")
+            + "\r\n";
+        byte[] headBytes = head.getBytes(StandardCharsets.US_ASCII);
+        return ByteBuffer.allocateDirect(headBytes.length + content.length)
+            .put(headBytes)
+            .put(content)
+            .flip()
+            .asReadOnlyBuffer();
+    }
+
+    private record Encoded(String greeting, ByteBuffer response) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.springboot.fastpath;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.service.GreetingCatalog;
+import com.springboot.service.GreetingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A second listener serving only the plain-text greeting ({@code GET /?lang=xx}) on its own
+ * port, without the servlet container, Spring Security or MVC. Callers authenticate with
+ * the shared token in {@value FastPathRequest#TOKEN_HEADER}; requests count against the
+ * same rate limiter as the main port and read the same greeting cache.
+ * <p>
+ * One thread accepts connections and hands them round-robin to {@code ioThreads}
+ * selector loops, see {@link FastPathLoop}.
+ */
+public class FastPathServer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(FastPathServer.class);
+
+    private final InetSocketAddress address;
+    private final int ioThreads;
+    private final long idleTimeoutNanos;
+    private final FastPathHandler handler;
+
+    private ServerSocketChannel serverChannel;
+    private final List<FastPathLoop> loops = new ArrayList<>();
+    private volatile boolean running;
+
+    public FastPathServer(InetSocketAddress address, int ioThreads, Duration idleTimeout, String token,
+                          GreetingService greetingService, GreetingCatalog catalog, RateLimiter rateLimiter,
+                          GreetingMetrics greetingMetrics) {
+        this.address = address;
+        this.ioThreads = ioThreads;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.handler = new FastPathHandler(greetingService, catalog, rateLimiter, greetingMetrics,
+            token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public void start() {
+        try {
+            serverChannel = ServerSocketChannel.open().bind(address, 1024);
+            for (int i = 0; i < ioThreads; i++) {
+                FastPathLoop loop = new FastPathLoop(handler, idleTimeoutNanos);
+                loops.add(loop);
+                Thread.ofPlatform().name("fast-path-" + i).start(loop);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start the fast path listener on " + address, e);
+        }
+        Thread.ofPlatform().name("fast-path-acceptor").start(this::accept);
+        running = true;
+        logger.info("Fast path listening on port {} with {} I/O threads", port(), ioThreads);
+    }
+
+    private void accept() {
+        int next = 0;
+        while (serverChannel.isOpen()) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.socket().setTcpNoDelay(true);
+                loops.get(next).register(channel);
+                next = (next + 1) % loops.size();
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                logger.warn("Fast path accept failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            logger.debug("Closing the fast path listener failed", e);
+        }
+        loops.forEach(FastPathLoop::shutdown);
+        loops.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * The bound port, which differs from the configured one when that is 0.
+     */
+    public int port() {
+        return serverChannel.socket().getLocalPort();
+    }
+}
@@ -0,0 +1,193 @@
+package com.springboot.invalidation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.service.GreetingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Invalidates greetings on this instance at once and on the others through the
+ * {@link InvalidationTransport}. Invalidations within {@code coalesceWindow} of the first
+ * go out as one message, a clear-all absorbing any single languages before it.
+ * <p>
+ * Received messages are applied once: each origin's sequence numbers are tracked in a
+ * 64-wide sliding window, so duplicates are dropped while messages overtaken by newer
+ * ones are still applied. The instance's own messages echoed back by the transport are
+ * skipped by origin.
+ */
+public class CacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidator.class);
+
+    private final GreetingService greetingService;
+    private final InvalidationTransport transport;
+    private final GreetingMetrics greetingMetrics;
+    private final Executor coalesceTimer;
+    private final long origin = ThreadLocalRandom.current().nextLong();
+    private final AtomicLong sequence = new AtomicLong();
+    // Origins change with every restart of an instance, so old ones are forgotten
+    private final Cache<Long, SequenceWindow> received = Caffeine.newBuilder()
+        .maximumSize(1024)
+        .expireAfterAccess(Duration.ofDays(1))
+        .build();
+
+    private final Object lock = new Object();
+    private boolean pendingAll;
+    private final Set<String> pendingLanguages = new LinkedHashSet<>();
+    private boolean flushScheduled;
+
+    public CacheInvalidator(GreetingService greetingService, InvalidationTransport transport,
+                            GreetingMetrics greetingMetrics, Duration coalesceWindow) {
+        this.greetingService = greetingService;
+        this.transport = transport;
+        this.greetingMetrics = greetingMetrics;
+        this.coalesceTimer = CompletableFuture.delayedExecutor(coalesceWindow.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public void start() throws IOException {
+        transport.start(this::receive);
+        logger.info("Greeting invalidations broadcast over {} as origin {}", transport.name(),
+            Long.toHexString(origin));
+    }
+
+    /**
+     * Clears every cached greeting and the cached language catalog, here and on peers.
+     */
+    public void invalidateAll() {
+        greetingService.clearCache();
+        enqueue(null);
+    }
+
+    public void invalidate(String language) {
+        greetingService.evictGreeting(language);
+        enqueue(language);
+    }
+
+    private void enqueue(String language) {
+        boolean schedule;
+        synchronized (lock) {
+            if (language == null || pendingLanguages.size() >= InvalidationMessage.MAX_LANGUAGES) {
+                pendingAll = true;
+                pendingLanguages.clear();
+            } else if (!pendingAll) {
+                pendingLanguages.add(language);
+            }
+            schedule = !flushScheduled;
+            flushScheduled = true;
+        }
+        if (schedule) {
+            coalesceTimer.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        InvalidationMessage message;
+        synchronized (lock) {
+            message = new InvalidationMessage(origin, sequence.incrementAndGet(), System.currentTimeMillis(),
+                pendingAll, pendingLanguages);
+            pendingAll = false;
+            pendingLanguages.clear();
+            flushScheduled = false;
+        }
+        try {
+            transport.send(message.encode());
+            greetingMetrics.recordInvalidationSent(transport.name(), "sent");
+        } catch (IOException | RuntimeException e) {
+            // Peers keep the stale entries until their TTL; nothing to retry against
+            logger.warn("Broadcasting invalidation {} over {} failed: {}", message.sequence(), transport.name(),
+                e.getMessage());
+            greetingMetrics.recordInvalidationSent(transport.name(), "failed");
+        }
+    }
+
+    void receive(byte[] bytes) {
+        InvalidationMessage message;
+        try {
+            message = InvalidationMessage.decode(bytes);
+        } catch (IllegalArgumentException e) {
+            greetingMetrics.recordInvalidationReceived("invalid");
+            return;
+        }
+        if (message.origin() == origin) {
+            return;
+        }
+        if (!received.get(message.origin(), ignored -> new SequenceWindow()).accept(message.sequence())) {
+            greetingMetrics.recordInvalidationReceived("duplicate");
+            return;
+        }
+        if (message.all()) {
+            greetingService.clearCache();
+        } else {
+            message.languages().forEach(greetingService::evictGreeting);
+        }
+        greetingMetrics.recordInvalidationReceived("applied");
+        greetingMetrics.recordInvalidationLag(Math.max(0, System.currentTimeMillis() - message.sentAtMillis()));
+    }
+
+    public String transport() {
+        return transport.name();
+    }
+
+    public String origin() {
+        return Long.toHexString(origin);
+    }
+
+    public long lastSent() {
+        return sequence.get();
+    }
+
+    /**
+     * Highest sequence number applied per origin seen recently.
+     */
+    public Map<String, Long> lastReceived() {
+        Map<String, Long> origins = new TreeMap<>();
+        received.asMap().forEach((id, window) -> origins.put(Long.toHexString(id), window.highest()));
+        return origins;
+    }
+
+    static final class SequenceWindow {
+
+        private static final int SIZE = Long.SIZE;
+
+        private long highest;
+        // Bit i set: sequence highest - i was applied
+        private long seen;
+
+        synchronized boolean accept(long sequence) {
+            if (sequence > highest) {
+                long shift = sequence - highest;
+                seen = shift >= SIZE ? 1 : (seen << shift) | 1;
+                highest = sequence;
+                return true;
+            }
+            long offset = highest - sequence;
+            if (offset >= SIZE) {
+                return false; // Too old to tell apart from a duplicate
+            }
+            long bit = 1L << offset;
+            if ((seen & bit) != 0) {
+                return false;
+            }
+            seen |= bit;
+            return true;
+        }
+
+        synchronized long highest() {
+            return highest;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.springboot.invalidation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Appends each message to a log file shared by all instances as a length-prefixed
+ * record, and tails the file for records appended by others. Each record is one write
+ * to a file opened for appending, so records from several processes never interleave
+ * on a local file system. Instances start reading at the end of the log: history is
+ * not replayed, since a starting instance has nothing cached yet.
+ */
+public class FileLogInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileLogInvalidationTransport.class);
+
+    private static final int MAX_RECORD = 2048;
+
+    private final Path file;
+    private final long pollIntervalMillis;
+    private final FileChannel writer;
+    private final ScheduledExecutorService poller;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(64 * 1024);
+    private long position;
+
+    public FileLogInvalidationTransport(Path file, Duration pollInterval) throws IOException {
+        this.file = file;
+        this.pollIntervalMillis = pollInterval.toMillis();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.writer = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+        this.poller = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("invalidation-log").factory());
+    }
+
+    @Override
+    public void start(Consumer<byte[]> receiver) throws IOException {
+        position = Files.size(file);
+        poller.scheduleWithFixedDelay(() -> poll(receiver), pollIntervalMillis, pollIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void send(byte[] message) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + message.length).putInt(message.length).put(message);
+        writer.write(record.flip());
+    }
+
+    private void poll(Consumer<byte[]> receiver) {
+        try (FileChannel reader = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (reader.size() < position) {
+                logger.warn("Invalidation log {} was truncated, reading from its start", file);
+                position = 0;
+            }
+            while (position < reader.size()) {
+                readBuffer.clear();
+                int read = reader.read(readBuffer, position);
+                if (read <= 0) {
+                    return;
+                }
+                readBuffer.flip();
+                int consumed = 0;
+                while (readBuffer.remaining() >= Integer.BYTES) {
+                    int length = readBuffer.getInt(readBuffer.position());
+                    if (length <= 0 || length > MAX_RECORD) {
+                        // Not a record boundary; skip to the end rather than misreading everything after it
+                        logger.warn("Corrupt record in invalidation log {} at {}, skipping the rest", file,
+                            position + consumed);
+                        position = reader.size();
+                        return;
+                    }
+                    if (readBuffer.remaining() < Integer.BYTES + length) {
+                        break; // Still being written, or cut by the buffer; read again from here
+                    }
+                    byte[] message = new byte[length];
+                    readBuffer.position(readBuffer.position() + Integer.BYTES).get(message);
+                    consumed += Integer.BYTES + length;
+                    receiver.accept(message);
+                }
+                if (consumed == 0) {
+                    return;
+                }
+                position += consumed;
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Reading invalidation log {} failed: {}", file, e.getMessage());
+        }
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void close() {
+        poller.shutdownNow();
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.debug("Closing invalidation log failed", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.springboot.invalidation;
+
+import com.springboot.util.SecurityUtils;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Greeting invalidation at {@code /actuator/invalidations}: {@code DELETE} clears every
+ * greeting, {@code DELETE /actuator/invalidations/{lang}} one language, on this instance
+ * right away and on the others through the broadcast. {@code GET} shows the transport
+ * and the sequence numbers sent and received.
+ */
+@Component
+@WebEndpoint(id = "invalidations")
+public class InvalidationEndpoint {
+
+    private final CacheInvalidator cacheInvalidator;
+
+    public InvalidationEndpoint(CacheInvalidator cacheInvalidator) {
+        this.cacheInvalidator = cacheInvalidator;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("transport", cacheInvalidator.transport());
+        status.put("origin", cacheInvalidator.origin());
+        status.put("lastSent", cacheInvalidator.lastSent());
+        status.put("lastReceived", cacheInvalidator.lastReceived());
+        return status;
+    }
+
+    @DeleteOperation
+    public Map<String, String> invalidateAll() {
+        cacheInvalidator.invalidateAll();
+        return Map.of("invalidated", "all");
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Map<String, String>> invalidate(@Selector String lang) {
+        if (!SecurityUtils.isValidLanguageCode(lang)) {
+            return new WebEndpointResponse<>(Map.of("error", "Invalid language code: " + lang),
+                WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        cacheInvalidator.invalidate(lang);
+        return new WebEndpointResponse<>(Map.of("invalidated", lang));
+    }
+}
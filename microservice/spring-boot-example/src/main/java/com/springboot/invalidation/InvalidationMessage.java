@@ -0,0 +1,76 @@
+package com.springboot.invalidation;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * One broadcast invalidation: either every greeting ({@code all}) or a set of languages,
+ * numbered per {@code origin} instance. Encoded as a fixed 30-byte header followed by two
+ * ASCII bytes per language, so even a coalesced burst fits one datagram.
+ *
+ * @param origin       random id of the sending instance, new on every start
+ * @param sequence     per-origin number, starting at 1
+ * @param sentAtMillis wall-clock send time, for the propagation lag metric
+ */
+public record InvalidationMessage(long origin, long sequence, long sentAtMillis, boolean all, Set<String> languages) {
+
+    static final int MAX_LANGUAGES = 512;
+
+    private static final short MAGIC = 0x4749; // "GI"
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 2 + 1 + 8 + 8 + 8 + 1 + 2;
+
+    public InvalidationMessage {
+        languages = all ? Set.of() : Set.copyOf(languages);
+    }
+
+    public byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 2 * languages.size())
+            .putShort(MAGIC)
+            .put(VERSION)
+            .putLong(origin)
+            .putLong(sequence)
+            .putLong(sentAtMillis)
+            .put((byte) (all ? 1 : 0))
+            .putShort((short) languages.size());
+        languages.forEach(language -> buffer.put(language.getBytes(StandardCharsets.US_ASCII)));
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a message, or throws {@link IllegalArgumentException} for anything that is
+     * not one; transports may see stray datagrams or a torn record.
+     */
+    public static InvalidationMessage decode(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.getShort() != MAGIC || buffer.get() != VERSION) {
+                throw new IllegalArgumentException("Not an invalidation message");
+            }
+            long origin = buffer.getLong();
+            long sequence = buffer.getLong();
+            long sentAtMillis = buffer.getLong();
+            boolean all = buffer.get() != 0;
+            int count = buffer.getShort();
+            if (count < 0 || count > MAX_LANGUAGES || buffer.remaining() != 2 * count) {
+                throw new IllegalArgumentException("Invalid language count: " + count);
+            }
+            Set<String> languages = new LinkedHashSet<>();
+            byte[] code = new byte[2];
+            for (int i = 0; i < count; i++) {
+                buffer.get(code);
+                String language = new String(code, StandardCharsets.US_ASCII);
+                if (!language.matches("[a-z]{2}")) {
+                    throw new IllegalArgumentException("Invalid language code: " + language);
+                }
+                languages.add(language);
+            }
+            return new InvalidationMessage(origin, sequence, sentAtMillis, all, languages);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated invalidation message", e);
+        }
+    }
+}
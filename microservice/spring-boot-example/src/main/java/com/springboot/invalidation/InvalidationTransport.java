@@ -0,0 +1,48 @@
+package com.springboot.invalidation;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Carries encoded {@link InvalidationMessage}s between instances, selected with
+ * {@code app.invalidation.transport}. Delivery is best effort: messages may be lost,
+ * duplicated or reordered, and a transport may hand an instance its own messages back;
+ * {@link CacheInvalidator} copes with all of these.
+ */
+public interface InvalidationTransport extends AutoCloseable {
+
+    /**
+     * Starts delivering received messages to {@code receiver}, on a thread of the
+     * transport's own.
+     */
+    void start(Consumer<byte[]> receiver) throws IOException;
+
+    void send(byte[] message) throws IOException;
+
+    /**
+     * Short name used in logs and {@code /actuator/invalidations}, e.g. {@code multicast}.
+     */
+    String name();
+
+    @Override
+    default void close() {
+    }
+
+    /**
+     * Local-only invalidation, the default.
+     */
+    InvalidationTransport NONE = new InvalidationTransport() {
+        @Override
+        public void start(Consumer<byte[]> receiver) {
+        }
+
+        @Override
+        public void send(byte[] message) {
+        }
+
+        @Override
+        public String name() {
+            return "none";
+        }
+    };
+}
@@ -0,0 +1,92 @@
+package com.springboot.invalidation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Sends each message as one UDP datagram to a multicast group that every instance joins
+ * on the same port. Loopback delivery is on, so instances on one host see each other
+ * and the sender sees its own messages, which {@link CacheInvalidator} skips.
+ */
+public class MulticastInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(MulticastInvalidationTransport.class);
+
+    private static final int MAX_DATAGRAM = 2048;
+
+    private final InetSocketAddress group;
+    private final DatagramChannel channel;
+    private Thread receiverThread;
+
+    public MulticastInvalidationTransport(InetAddress group, int port, String interfaceName, int ttl)
+            throws IOException {
+        NetworkInterface networkInterface = NetworkInterface.getByName(interfaceName);
+        if (networkInterface == null) {
+            throw new SocketException("No network interface named " + interfaceName);
+        }
+        this.group = new InetSocketAddress(group, port);
+        this.channel = DatagramChannel.open(StandardProtocolFamily.INET)
+            .setOption(StandardSocketOptions.SO_REUSEADDR, true)
+            .bind(new InetSocketAddress(port))
+            .setOption(StandardSocketOptions.IP_MULTICAST_IF, networkInterface)
+            .setOption(StandardSocketOptions.IP_MULTICAST_TTL, ttl)
+            .setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+        this.channel.join(group, networkInterface);
+    }
+
+    @Override
+    public void start(Consumer<byte[]> receiver) {
+        receiverThread = Thread.ofPlatform().daemon().name("invalidation-multicast").start(() -> receive(receiver));
+    }
+
+    private void receive(Consumer<byte[]> receiver) {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_DATAGRAM);
+        while (channel.isOpen()) {
+            try {
+                buffer.clear();
+                channel.receive(buffer);
+                buffer.flip();
+                receiver.accept(Arrays.copyOf(buffer.array(), buffer.limit()));
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Dropped invalidation datagram: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void send(byte[] message) throws IOException {
+        channel.send(ByteBuffer.wrap(message), group);
+    }
+
+    @Override
+    public String name() {
+        return "multicast";
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.debug("Closing invalidation channel failed", e);
+        }
+        if (receiverThread != null) {
+            receiverThread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.springboot.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Offline reader for request journal segments:
+ *
+ * <pre>
+ * JournalDecoder csv     &lt;segment-or-directory&gt;...   one CSV row per request
+ * JournalDecoder json    &lt;segment-or-directory&gt;...   one JSON object per line
+ * JournalDecoder latency &lt;segment-or-directory&gt;...   count, p50, p99 and max per language
+ * </pre>
+ *
+ * Directories are read in segment order.
+ */
+public final class JournalDecoder {
+
+    private static final String USAGE = "Usage: JournalDecoder <csv|json|latency> <segment-or-directory>...";
+
+    private JournalDecoder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    static int run(String[] args, PrintStream out, PrintStream err) throws IOException {
+        if (args.length < 2) {
+            err.println(USAGE);
+            return 2;
+        }
+        List<Path> segments = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            segments.addAll(segments(Path.of(args[i])));
+        }
+        switch (args[0]) {
+            case "csv" -> {
+                out.println("timestamp,endpoint,language,status,latency_micros,client,principal");
+                read(segments, entry -> out.println(String.join(",",
+                        Instant.ofEpochMilli(entry.timestamp()).toString(),
+                        entry.endpoint(),
+                        entry.language(),
+                        Integer.toString(entry.status()),
+                        Long.toString(entry.latencyNanos() / 1_000),
+                        csv(entry.client()),
+                        csv(entry.principal()))));
+            }
+            case "json" -> {
+                ObjectMapper mapper = new ObjectMapper();
+                read(segments, entry -> {
+                    try {
+                        out.println(mapper.writeValueAsString(entry));
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            }
+            case "latency" -> printLatency(segments, out);
+            default -> {
+                err.println(USAGE);
+                return 2;
+            }
+        }
+        return 0;
+    }
+
+    private static void printLatency(List<Path> segments, PrintStream out) throws IOException {
+        Map<String, LongList> latencies = new TreeMap<>();
+        read(segments, entry -> latencies
+                .computeIfAbsent(entry.language().isEmpty() ? "-" : entry.language(), k -> new LongList())
+                .add(entry.latencyNanos()));
+        out.println("language,count,p50_ms,p99_ms,max_ms");
+        latencies.forEach((language, values) -> {
+            long[] sorted = values.sorted();
+            out.printf(Locale.ROOT, "%s,%d,%.3f,%.3f,%.3f%n", language, sorted.length,
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                    millis(sorted[sorted.length - 1]));
+        });
+    }
+
+    /** Nearest-rank percentile of a sorted, non-empty array. */
+    static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    public static void read(List<Path> segments, Consumer<JournalFormat.Entry> consumer) throws IOException {
+        for (Path segment : segments) {
+            try (FileChannel channel = FileChannel.open(segment)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (buffer.getInt(0) != JournalFormat.MAGIC || buffer.getInt(8) != JournalFormat.RECORD_SIZE) {
+                    throw new IOException("Not a request journal segment: " + segment);
+                }
+                for (int offset = JournalFormat.HEADER_SIZE;
+                     offset + JournalFormat.RECORD_SIZE <= buffer.capacity();
+                     offset += JournalFormat.RECORD_SIZE) {
+                    JournalFormat.Entry entry = JournalFormat.read(buffer, offset);
+                    // Empty slots are skipped rather than ending the segment: concurrent
+                    // writers fill slots out of order, and a crash can leave one unfilled
+                    if (entry != null) {
+                        consumer.accept(entry);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Path> segments(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(RequestJournal::isSegment).sorted().toList();
+        }
+    }
+
+    private static String csv(String value) {
+        return value.indexOf(',') < 0 && value.indexOf('"') < 0 ? value : '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class LongList {
+
+        private long[] values = new long[64];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
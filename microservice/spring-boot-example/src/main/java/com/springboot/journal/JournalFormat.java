@@ -0,0 +1,89 @@
+package com.springboot.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * On-disk layout of request journal segments. A segment is a {@value #HEADER_SIZE}-byte
+ * header followed by fixed {@value #RECORD_SIZE}-byte records; a record with a zero
+ * timestamp has not been written (yet). All values are big-endian. The
+ * header holds {@link #MAGIC}, {@link #VERSION} and {@link #RECORD_SIZE} as ints followed
+ * by the segment creation time in epoch millis; records are laid out as:
+ *
+ * <pre>
+ * offset size field
+ *      0    8 timestamp, epoch millis of the request start
+ *      8    8 latency, nanoseconds
+ *     16    2 HTTP status
+ *     18    1 endpoint code, see {@link #ENDPOINTS}
+ *     19    1 reserved
+ *     20    2 language, ASCII, zero when absent or invalid
+ *     22    1 client length
+ *     23   39 client address, ASCII, truncated
+ *     62    1 principal length
+ *     63   33 principal, ASCII with '?' for other characters, truncated
+ * </pre>
+ */
+public final class JournalFormat {
+
+    public static final int MAGIC = 0x47524A31; // "GRJ1"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 64;
+    public static final int RECORD_SIZE = 96;
+
+    /** Endpoint codes are indexes into this array; code 0 is unused. */
+    public static final String[] ENDPOINTS = {"", "/", "/async", "/languages", "/api/v2/greeting"};
+
+    static final int TIMESTAMP = 0;
+    static final int LATENCY = 8;
+    static final int STATUS = 16;
+    static final int ENDPOINT = 18;
+    static final int LANGUAGE = 20;
+    static final int CLIENT_LENGTH = 22;
+    static final int CLIENT = 23;
+    static final int CLIENT_CAPACITY = 39;
+    static final int PRINCIPAL_LENGTH = 62;
+    static final int PRINCIPAL = 63;
+    static final int PRINCIPAL_CAPACITY = 33;
+
+    private JournalFormat() {
+    }
+
+    public static int endpointCode(String path) {
+        for (int i = 1; i < ENDPOINTS.length; i++) {
+            if (ENDPOINTS[i].equals(path)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /** Decodes the record at {@code offset}, or returns {@code null} for an unwritten slot. */
+    public static Entry read(ByteBuffer segment, int offset) {
+        long timestamp = segment.getLong(offset + TIMESTAMP);
+        if (timestamp == 0) {
+            return null;
+        }
+        int endpoint = segment.get(offset + ENDPOINT) & 0xFF;
+        char first = (char) segment.get(offset + LANGUAGE);
+        String language = first == 0 ? "" : new String(new char[] {first, (char) segment.get(offset + LANGUAGE + 1)});
+        return new Entry(
+                timestamp,
+                segment.getLong(offset + LATENCY),
+                segment.getShort(offset + STATUS),
+                endpoint < ENDPOINTS.length ? ENDPOINTS[endpoint] : "",
+                language,
+                ascii(segment, offset + CLIENT, segment.get(offset + CLIENT_LENGTH)),
+                ascii(segment, offset + PRINCIPAL, segment.get(offset + PRINCIPAL_LENGTH)));
+    }
+
+    private static String ascii(ByteBuffer segment, int offset, int length) {
+        byte[] bytes = new byte[length];
+        segment.get(offset, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    public record Entry(long timestamp, long latencyNanos, int status, String endpoint,
+                        String language, String client, String principal) {
+    }
+}
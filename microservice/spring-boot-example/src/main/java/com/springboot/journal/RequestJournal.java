@@ -0,0 +1,160 @@
+package com.springboot.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of greeting requests in fixed-width binary records (see
+ * {@link JournalFormat}) written into rotating memory-mapped segment files. Writers claim
+ * a slot with one atomic increment and store fields with absolute puts, so appending
+ * neither locks nor allocates; only rotation to a new segment is synchronized. Records
+ * reach disk through the page cache, and each segment is forced when it is rotated out
+ * and on {@link #close()}.
+ */
+public class RequestJournal implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestJournal.class);
+
+    private static final String SEGMENT_PREFIX = "requests-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final int maxSegments;
+    private final Deque<Path> segments = new ArrayDeque<>();
+    private long nextSequence;
+    private volatile Segment current;
+
+    public RequestJournal(Path directory, long segmentSize, int maxSegments) {
+        long records = (segmentSize - JournalFormat.HEADER_SIZE) / JournalFormat.RECORD_SIZE;
+        if (records < 1 || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must hold at least one record and be below 2 GB");
+        }
+        this.directory = directory;
+        this.recordsPerSegment = (int) records;
+        this.maxSegments = Math.max(1, maxSegments);
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> existing = Files.list(directory)) {
+                existing.filter(RequestJournal::isSegment).sorted().forEach(segments::add);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open request journal in " + directory, e);
+        }
+        this.nextSequence = segments.isEmpty() ? 1 : sequenceOf(segments.getLast()) + 1;
+        this.current = openSegment();
+    }
+
+    /**
+     * Appends one record. Strings are copied as ASCII and truncated to their field; the
+     * client may be a comma-separated proxy chain, of which only the first address is kept.
+     */
+    public void append(long timestamp, long latencyNanos, int status, int endpoint,
+                       String language, String client, String principal) {
+        Segment segment = current;
+        int slot = segment.next.getAndIncrement();
+        while (slot >= recordsPerSegment) {
+            segment = rotate(segment);
+            slot = segment.next.getAndIncrement();
+        }
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = JournalFormat.HEADER_SIZE + slot * JournalFormat.RECORD_SIZE;
+        buffer.putLong(offset + JournalFormat.LATENCY, latencyNanos);
+        buffer.putShort(offset + JournalFormat.STATUS, (short) status);
+        buffer.put(offset + JournalFormat.ENDPOINT, (byte) endpoint);
+        if (language != null && language.length() == 2) {
+            buffer.put(offset + JournalFormat.LANGUAGE, (byte) language.charAt(0));
+            buffer.put(offset + JournalFormat.LANGUAGE + 1, (byte) language.charAt(1));
+        }
+        putAscii(buffer, offset + JournalFormat.CLIENT_LENGTH, JournalFormat.CLIENT_CAPACITY, client, true);
+        putAscii(buffer, offset + JournalFormat.PRINCIPAL_LENGTH, JournalFormat.PRINCIPAL_CAPACITY, principal, false);
+        // Written last: a non-zero timestamp is what makes the record visible to the decoder
+        buffer.putLong(offset + JournalFormat.TIMESTAMP, timestamp);
+    }
+
+    private static void putAscii(MappedByteBuffer buffer, int lengthOffset, int capacity,
+                                 String value, boolean firstToken) {
+        int length = 0;
+        if (value != null) {
+            int start = 0;
+            while (firstToken && start < value.length() && value.charAt(start) == ' ') {
+                start++;
+            }
+            for (int i = start; i < value.length() && length < capacity; i++) {
+                char c = value.charAt(i);
+                if (firstToken && (c == ',' || c == ' ')) {
+                    break;
+                }
+                buffer.put(lengthOffset + 1 + length++, (byte) (c >= 0x20 && c < 0x7F ? c : '?'));
+            }
+        }
+        buffer.put(lengthOffset, (byte) length);
+    }
+
+    private synchronized Segment rotate(Segment full) {
+        if (current == full) {
+            full.buffer.force();
+            current = openSegment();
+        }
+        return current;
+    }
+
+    private Segment openSegment() {
+        Path path = directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, nextSequence++, SEGMENT_SUFFIX));
+        long size = JournalFormat.HEADER_SIZE + (long) recordsPerSegment * JournalFormat.RECORD_SIZE;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(0, JournalFormat.MAGIC);
+            buffer.putInt(4, JournalFormat.VERSION);
+            buffer.putInt(8, JournalFormat.RECORD_SIZE);
+            buffer.putLong(12, System.currentTimeMillis());
+            segments.add(path);
+            while (segments.size() > maxSegments) {
+                Files.deleteIfExists(segments.removeFirst());
+            }
+            logger.info("Request journal segment opened: {}", path);
+            return new Segment(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create request journal segment " + path, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        current.buffer.force();
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class Segment {
+
+        final MappedByteBuffer buffer;
+        final AtomicInteger next = new AtomicInteger();
+
+        Segment(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
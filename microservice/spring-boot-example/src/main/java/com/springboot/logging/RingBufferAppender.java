@@ -0,0 +1,278 @@
+package com.springboot.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Non-blocking replacement for logback's {@code AsyncAppender}. Logging threads hand
+ * events to a preallocated {@link RingBuffer} and return; a single writer thread
+ * drains them in batches into the attached appenders and flushes their streams once
+ * per batch, so attached {@link OutputStreamAppender}s should set
+ * {@code immediateFlush=false}.
+ * <p>
+ * Events are never waited for. When the buffer is full the event is dropped, and once
+ * fewer than {@code discardingThreshold} slots remain, events at
+ * {@code discardLevel} or below are dropped to leave room for more severe ones.
+ * Repetitive events at {@code sampleLevel} or below are admitted at most
+ * {@code sampleLimit} times per {@code sampleIntervalMillis} for each logger and
+ * message pattern. ERROR events are never sampled.
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final int MAX_SAMPLE_KEYS = 4096;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final Map<SampleKey, SampleWindow> sampleWindows = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sampled = new AtomicLong();
+
+    private int bufferSize = 8192;
+    private int batchSize = 256;
+    private int discardingThreshold = -1;
+    private Level discardLevel = Level.INFO;
+    private Level sampleLevel = Level.WARN;
+    private int sampleLimit = 0;
+    private long sampleIntervalMillis = 1000;
+    private long maxFlushTimeMillis = 1000;
+    private boolean includeCallerData = false;
+
+    private RingBuffer<ILoggingEvent> buffer;
+    private Thread writer;
+    private volatile boolean writerIdle;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No attached appenders found for [" + name + "]");
+            return;
+        }
+        buffer = new RingBuffer<>(bufferSize);
+        if (discardingThreshold < 0) {
+            discardingThreshold = bufferSize / 5;
+        }
+        writer = new Thread(this::drainLoop, "log-ring-writer-" + name);
+        writer.setDaemon(true);
+        super.start();
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        LockSupport.unpark(writer);
+        try {
+            writer.join(maxFlushTimeMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            addWarn("Writer of [" + name + "] did not finish within " + maxFlushTimeMillis + " ms; "
+                    + buffer.size() + " events may be lost");
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = buffer.capacity() - buffer.size();
+        if (remaining < discardingThreshold && event.getLevel().toInt() <= discardLevel.toInt()) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (sampleLimit > 0 && !admitSample(event)) {
+            sampled.incrementAndGet();
+            return;
+        }
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+        if (!buffer.offer(event)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private boolean admitSample(ILoggingEvent event) {
+        Level level = event.getLevel();
+        if (level.toInt() >= Level.ERROR_INT || level.toInt() > sampleLevel.toInt()) {
+            return true;
+        }
+        SampleKey key = new SampleKey(event.getLoggerName(), event.getMessage());
+        SampleWindow window = sampleWindows.get(key);
+        if (window == null) {
+            if (sampleWindows.size() >= MAX_SAMPLE_KEYS) {
+                // Unbounded distinct patterns are not "repetitive"; start over rather than grow
+                sampleWindows.clear();
+            }
+            window = sampleWindows.computeIfAbsent(key, k -> new SampleWindow());
+        }
+        return window.admit(event.getTimeStamp(), sampleIntervalMillis, sampleLimit);
+    }
+
+    private void drainLoop() {
+        while (isStarted()) {
+            if (buffer.drainTo(appenders::appendLoopOnAppenders, batchSize) > 0) {
+                if (buffer.size() == 0) {
+                    flush();
+                }
+                continue;
+            }
+            writerIdle = true;
+            // Re-check after publishing the flag so a concurrent offer is not missed
+            if (buffer.size() == 0 && isStarted()) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+            }
+            writerIdle = false;
+        }
+        while (buffer.drainTo(appenders::appendLoopOnAppenders, batchSize) > 0) {
+            // Drain what was accepted before stop()
+        }
+        flush();
+    }
+
+    private void flush() {
+        Iterator<Appender<ILoggingEvent>> it = appenders.iteratorForAppenders();
+        while (it.hasNext()) {
+            if (it.next() instanceof OutputStreamAppender<ILoggingEvent> out
+                    && !out.isImmediateFlush() && out.getOutputStream() != null) {
+                try {
+                    out.getOutputStream().flush();
+                } catch (IOException e) {
+                    addError("Failed to flush [" + out.getName() + "]", e);
+                }
+            }
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getSampledCount() {
+        return sampled.get();
+    }
+
+    public int getPendingCount() {
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /** Number of slots; rounded up to a power of two. */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public void setDiscardLevel(String discardLevel) {
+        this.discardLevel = Level.toLevel(discardLevel, Level.INFO);
+    }
+
+    public void setSampleLevel(String sampleLevel) {
+        this.sampleLevel = Level.toLevel(sampleLevel, Level.WARN);
+    }
+
+    /** Admissions per logger and message pattern per interval; 0 disables sampling. */
+    public void setSampleLimit(int sampleLimit) {
+        this.sampleLimit = sampleLimit;
+    }
+
+    public void setSampleIntervalMillis(long sampleIntervalMillis) {
+        this.sampleIntervalMillis = sampleIntervalMillis;
+    }
+
+    public void setMaxFlushTimeMillis(long maxFlushTimeMillis) {
+        this.maxFlushTimeMillis = maxFlushTimeMillis;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+
+    private record SampleKey(String loggerName, String pattern) {
+    }
+
+    private static final class SampleWindow {
+
+        private volatile long start;
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean admit(long now, long intervalMillis, int limit) {
+            if (now - start >= intervalMillis) {
+                // Racing resets may admit a few extra events at the boundary
+                start = now;
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
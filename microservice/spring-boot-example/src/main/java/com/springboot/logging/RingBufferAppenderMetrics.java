@@ -0,0 +1,65 @@
+package com.springboot.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Publishes drop, sampling and backlog figures for every {@link RingBufferAppender}
+ * attached to a logger in the logback context.
+ */
+@Component
+public class RingBufferAppenderMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (factory instanceof LoggerContext context) {
+            bindTo(registry, appenders(context));
+        }
+    }
+
+    static void bindTo(MeterRegistry registry, List<RingBufferAppender> appenders) {
+        for (RingBufferAppender appender : appenders) {
+            FunctionCounter.builder("logging_events_dropped_total", appender, RingBufferAppender::getDroppedCount)
+                .description("Log events discarded by the ring buffer appender, by reason")
+                .tag("appender", appender.getName())
+                .tag("reason", "overflow")
+                .register(registry);
+            FunctionCounter.builder("logging_events_dropped_total", appender, RingBufferAppender::getSampledCount)
+                .description("Log events discarded by the ring buffer appender, by reason")
+                .tag("appender", appender.getName())
+                .tag("reason", "sampled")
+                .register(registry);
+            Gauge.builder("logging_ring_buffer_pending", appender, RingBufferAppender::getPendingCount)
+                .description("Log events waiting for the ring buffer writer")
+                .tag("appender", appender.getName())
+                .register(registry);
+        }
+    }
+
+    static List<RingBufferAppender> appenders(LoggerContext context) {
+        List<RingBufferAppender> found = new ArrayList<>();
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders();
+            while (it.hasNext()) {
+                if (it.next() instanceof RingBufferAppender appender && !found.contains(appender)) {
+                    found.add(appender);
+                }
+            }
+        }
+        return found;
+    }
+}
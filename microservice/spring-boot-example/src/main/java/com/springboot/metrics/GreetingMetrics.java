@@ -1,15 +1,31 @@
 package com.springboot.metrics;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
 @Component
 public class GreetingMetrics {
 
+    /**
+     * Language tag recorded in metrics and JFR events instead of a language that failed
+     * validation, so arbitrary input never becomes a tag value.
+     */
+    public static final String INVALID_LANGUAGE = "invalid";
+
     private final Counter greetingRequests;
     private final Counter rateLimitExceeded;
     private final Timer greetingTimer;
@@ -41,13 +57,235 @@ public class GreetingMetrics {
             .increment();
     }
 
-    public void incrementRateLimitExceeded(String clientIP) {
-        Counter.builder("greeting_rate_limit_exceeded_total")
-            .tag("client_ip", clientIP)
+    /**
+     * Not tagged by client: rejections come in floods, and a tag per address would grow
+     * the registry with them. The address is in the rejection log and the JFR event.
+     */
+    public void incrementRateLimitExceeded() {
+        rateLimitExceeded.increment();
+    }
+
+    public void recordConditionalRequest(String endpoint, boolean notModified, long bytesSaved) {
+        Counter.builder("greeting_conditional_requests_total")
+            .description("Conditional GET requests by outcome")
+            .tag("endpoint", endpoint)
+            .tag("result", notModified ? "not_modified" : "modified")
+            .register(meterRegistry)
+            .increment();
+        if (notModified) {
+            Counter.builder("greeting_conditional_bytes_saved_total")
+                .description("Response body bytes not sent thanks to 304 Not Modified")
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment(bytesSaved);
+        }
+    }
+
+    public void recordResponseCache(String endpoint, boolean hit) {
+        Counter.builder("greeting_response_cache_requests_total")
+            .description("Full-response cache lookups by outcome")
+            .tag("endpoint", endpoint)
+            .tag("result", hit ? "hit" : "miss")
             .register(meterRegistry)
             .increment();
     }
 
+    public void recordBackendCall(String backend, String operation, String outcome, long durationNanos) {
+        Timer.builder("greeting_backend_duration_seconds")
+            .description("Greeting backend call latency by outcome")
+            .tag("backend", backend)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordGreetingBatch(int size) {
+        DistributionSummary.builder("greeting_backend_batch_size")
+            .description("Languages loaded per batched backend call")
+            .publishPercentileHistogram()
+            .maximumExpectedValue(256.0)
+            .register(meterRegistry)
+            .record(size);
+    }
+
+    public void recordGreetingBatchWait(long waitNanos) {
+        Timer.builder("greeting_backend_batch_wait_seconds")
+            .description("Time a greeting load waited for its batch to be sent")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPeerLoads(String outcome, int languages) {
+        Counter.builder("greeting_peer_loads_total")
+            .description("Greeting loads sent to the owning peer, by outcome (peer or fallback to the backend)")
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment(languages);
+    }
+
+    /**
+     * Registered once and incremented by the fast path listener itself, which cannot
+     * afford a registry lookup per request.
+     */
+    public Counter fastPathRequests(String outcome) {
+        return Counter.builder("greeting_fast_path_requests_total")
+            .description("Requests answered by the fast path listener, by outcome (served, unavailable or rate_limited)")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    public void recordInvalidationSent(String transport, String outcome) {
+        Counter.builder("greeting_invalidations_sent_total")
+            .description("Invalidation messages broadcast to other instances, by outcome (sent or failed)")
+            .tag("transport", transport)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void recordInvalidationReceived(String outcome) {
+        Counter.builder("greeting_invalidations_received_total")
+            .description("Invalidation messages received from other instances, by outcome (applied, duplicate or invalid)")
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void recordInvalidationLag(long lagMillis) {
+        Timer.builder("greeting_invalidation_lag_seconds")
+            .description("Time from an invalidation being broadcast to it being applied here, by wall clock")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(lagMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void incrementBackendFallback(String backend, String source) {
+        Counter.builder("greeting_backend_fallbacks_total")
+            .description("Backend loads answered by a fallback, by source (stale or default)")
+            .tag("backend", backend)
+            .tag("source", source)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * Publishes the breaker's state as one 0/1 gauge per state, and counts its state
+     * transitions and the calls it short-circuited.
+     */
+    public void bindCircuitBreaker(CircuitBreaker circuitBreaker) {
+        String name = circuitBreaker.getName();
+        for (CircuitBreaker.State state : List.of(CircuitBreaker.State.CLOSED, CircuitBreaker.State.OPEN,
+                CircuitBreaker.State.HALF_OPEN)) {
+            Gauge.builder("greeting_backend_circuit_state", circuitBreaker, cb -> cb.getState() == state ? 1 : 0)
+                .description("1 for the circuit breaker's current state")
+                .tag("name", name)
+                .tag("state", state.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        }
+        circuitBreaker.getEventPublisher()
+            .onStateTransition(event -> Counter.builder("greeting_backend_circuit_transitions_total")
+                .description("Circuit breaker state transitions")
+                .tag("name", name)
+                .tag("from", event.getStateTransition().getFromState().name().toLowerCase(Locale.ROOT))
+                .tag("to", event.getStateTransition().getToState().name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment())
+            .onCallNotPermitted(event -> Counter.builder("greeting_backend_short_circuited_total")
+                .description("Backend calls refused by the open circuit breaker")
+                .tag("name", name)
+                .register(meterRegistry)
+                .increment());
+    }
+
+    public void bindBulkhead(String partition, int limit, IntSupplier inUse) {
+        Gauge.builder("greeting_bulkhead_in_use", inUse::getAsInt)
+            .description("Requests currently holding a bulkhead permit")
+            .tag("partition", partition)
+            .register(meterRegistry);
+        Gauge.builder("greeting_bulkhead_limit", () -> limit)
+            .description("Concurrent requests allowed by the bulkhead")
+            .tag("partition", partition)
+            .register(meterRegistry);
+    }
+
+    public void incrementBulkheadRejected(String partition) {
+        Counter.builder("greeting_bulkhead_rejected_total")
+            .description("Requests refused because their bulkhead partition was full")
+            .tag("partition", partition)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void bindCatalogSubscribers(IntSupplier subscribers) {
+        Gauge.builder("greeting_catalog_subscribers", subscribers::getAsInt)
+            .description("Clients connected to the catalog event stream")
+            .register(meterRegistry);
+    }
+
+    public void recordCatalogEvent(String event) {
+        Counter.builder("greeting_catalog_events_total")
+            .description("Catalog events sent, by event: snapshots to new subscribers, deltas to all of them")
+            .tag("event", event)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void incrementCatalogSubscribersRejected(String reason) {
+        Counter.builder("greeting_catalog_subscribers_rejected_total")
+            .description("Catalog event subscribers refused or disconnected, by reason (at_capacity or slow_consumer)")
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * Time to load a value after a cache miss, whether or not it was then cached.
+     * Spring's {@code @Cacheable} looks up and puts rather than loading through Caffeine,
+     * so Caffeine's own load statistics stay at zero.
+     */
+    public void recordCacheLoad(String cache, boolean success, long durationNanos) {
+        Timer.builder("greeting_cache_load_seconds")
+            .description("Value loads after a cache miss, by cache and result")
+            .tag("cache", cache)
+            .tag("result", success ? "success" : "failure")
+            .register(meterRegistry)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void bindCacheRemovals(LongSupplier dropped, IntSupplier pending) {
+        FunctionCounter.builder("greeting_cache_removals_dropped_total", dropped, LongSupplier::getAsLong)
+            .description("Cache removal events not counted because the removal queue was full")
+            .register(meterRegistry);
+        Gauge.builder("greeting_cache_removals_pending", pending::getAsInt)
+            .description("Cache removal events queued and not counted yet")
+            .register(meterRegistry);
+    }
+
+    public void recordCacheRemovals(String cache, String cause, int count) {
+        Counter.builder("greeting_cache_removals_total")
+            .description("Entries removed from a cache, by cause (size, expired, explicit, replaced or collected)")
+            .tag("cache", cache)
+            .tag("cause", cause)
+            .register(meterRegistry)
+            .increment(count);
+    }
+
+    public void bindSearchIndex(IntSupplier entries) {
+        Gauge.builder("greeting_search_index_entries", entries::getAsInt)
+            .description("Catalog entries in the current language search index")
+            .register(meterRegistry);
+    }
+
+    public void recordSearchIndexBuild(long durationNanos) {
+        Timer.builder("greeting_search_index_build_seconds")
+            .description("Time to build the language search index")
+            .register(meterRegistry)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
     public Timer.Sample startTimer() {
         return Timer.start(meterRegistry);
     }
@@ -0,0 +1,46 @@
+package com.springboot.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response body of {@code GET /api/v2/info}. The content is static, so a single
+ * instance is shared by every request.
+ */
+public record ApiInfo(
+        String version,
+        String description,
+        List<String> features,
+        Map<String, String> endpoints,
+        Map<String, String> compatibility) {
+
+    public static final ApiInfo V2 = new ApiInfo(
+        "2.0",
+        "Enhanced Greeting API with metadata support",
+        List.of(
+            "Enhanced response format",
+            "Request metadata",
+            "Timestamp tracking",
+            "Character count",
+            "Language support detection"
+        ),
+        orderedMap(
+            "greeting", "/api/v2/greeting",
+            "info", "/api/v2/info"
+        ),
+        orderedMap(
+            "v1", "Available at /",
+            "v2", "Current version"
+        )
+    );
+
+    private static Map<String, String> orderedMap(String k1, String v1, String k2, String v2) {
+        // Insertion-ordered so the serialized form (and its ETag) is stable across JVMs
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put(k1, v1);
+        map.put(k2, v2);
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -0,0 +1,30 @@
+package com.springboot.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Response body of {@code GET /api/v2/greeting}.
+ */
+public record GreetingV2Response(
+        String message,
+        String language,
+        String timestamp,
+        String version,
+        Metadata metadata) {
+
+    public static final String VERSION = "v2";
+    public static final String ENCODING = "UTF-8";
+
+    public static GreetingV2Response of(String message, String language, String timestamp,
+                                        boolean isSupported, String clientIP) {
+        return new GreetingV2Response(message, language, timestamp, VERSION,
+                new Metadata(isSupported, message.length(), ENCODING, clientIP));
+    }
+
+    public record Metadata(
+            @JsonProperty("isSupported") boolean isSupported,
+            int characterCount,
+            String encoding,
+            String clientIP) {
+    }
+}
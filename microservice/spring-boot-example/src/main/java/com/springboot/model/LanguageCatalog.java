@@ -0,0 +1,20 @@
+package com.springboot.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * List form of the {@code /languages} map, used by encodings without a native map type.
+ */
+public record LanguageCatalog(List<LanguageEntry> languages) {
+
+    public static LanguageCatalog of(Map<String, String> greetings) {
+        List<LanguageEntry> entries = new ArrayList<>(greetings.size());
+        greetings.forEach((code, greeting) -> entries.add(new LanguageEntry(code, greeting)));
+        return new LanguageCatalog(entries);
+    }
+
+    public record LanguageEntry(String code, String greeting) {
+    }
+}
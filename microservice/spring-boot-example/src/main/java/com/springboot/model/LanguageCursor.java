@@ -0,0 +1,54 @@
+package com.springboot.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.SortedMap;
+
+/**
+ * Opaque position in the language catalog: the last code a client has seen. Pages
+ * resume strictly after it, so cursors stay valid while entries are added or removed.
+ * Bound from the {@code cursor} request parameter through {@link #valueOf(String)}.
+ */
+public final class LanguageCursor {
+
+    private static final int MAX_CODE_LENGTH = 64;
+
+    private final String after;
+
+    private LanguageCursor(String after) {
+        this.after = after;
+    }
+
+    public static LanguageCursor after(String code) {
+        return new LanguageCursor(code);
+    }
+
+    /**
+     * Decodes a cursor returned by an earlier page; anything else is rejected with
+     * {@link IllegalArgumentException}.
+     */
+    public static LanguageCursor valueOf(String encoded) {
+        String code = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        if (code.isEmpty() || code.length() > MAX_CODE_LENGTH) {
+            throw new IllegalArgumentException("Invalid language cursor");
+        }
+        return new LanguageCursor(code);
+    }
+
+    /**
+     * The entries after this cursor, as a view; {@code code + '\0'} is the smallest key
+     * greater than {@code code}.
+     */
+    public <V> SortedMap<String, V> tail(SortedMap<String, V> catalog) {
+        return catalog.tailMap(after + '\0');
+    }
+
+    public String encoded() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(after.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return encoded();
+    }
+}
@@ -0,0 +1,8 @@
+package com.springboot.model;
+
+/**
+ * A {@code /languages/search} result. {@code name} is the English language name, or
+ * {@code null} when the code is not a known language tag.
+ */
+public record LanguageMatch(String code, String name, String greeting, double score) {
+}
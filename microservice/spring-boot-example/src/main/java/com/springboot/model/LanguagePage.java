@@ -0,0 +1,31 @@
+package com.springboot.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * One page of the {@code /languages} catalog in code order. {@code next} is the cursor
+ * for the following page, or {@code null} on the last one.
+ */
+public record LanguagePage(Map<String, String> languages, String next) {
+
+    /**
+     * Copies at most {@code limit} entries after {@code cursor} (from the start when it
+     * is {@code null}); the seek is a sorted-map lookup, not a scan.
+     */
+    public static LanguagePage of(SortedMap<String, String> catalog, LanguageCursor cursor, int limit) {
+        SortedMap<String, String> remaining = cursor == null ? catalog : cursor.tail(catalog);
+        Map<String, String> languages = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, String>> entries = remaining.entrySet().iterator();
+        String last = null;
+        while (languages.size() < limit && entries.hasNext()) {
+            Map.Entry<String, String> entry = entries.next();
+            languages.put(entry.getKey(), entry.getValue());
+            last = entry.getKey();
+        }
+        String next = entries.hasNext() ? LanguageCursor.after(last).encoded() : null;
+        return new LanguagePage(languages, next);
+    }
+}
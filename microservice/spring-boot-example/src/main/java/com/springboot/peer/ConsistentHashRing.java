@@ -0,0 +1,87 @@
+package com.springboot.peer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Immutable consistent-hash ring: each member is placed at {@code virtualNodes} points
+ * and a key belongs to the member at the first point at or after the key's hash. Adding
+ * or removing a member only moves the keys next to its points; every other key keeps its
+ * owner. The hash depends on nothing but the bytes, so instances with the same members
+ * agree on every owner.
+ */
+public final class ConsistentHashRing {
+
+    private final List<String> members;
+    private final long[] points;
+    private final int[] owners;
+
+    private ConsistentHashRing(List<String> members, long[] points, int[] owners) {
+        this.members = members;
+        this.points = points;
+        this.owners = owners;
+    }
+
+    public static ConsistentHashRing of(Collection<String> members, int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive: " + virtualNodes);
+        }
+        // Sorted, so the ring does not depend on the order members were listed in
+        List<String> sorted = List.copyOf(new TreeSet<>(members));
+        if (sorted.isEmpty()) {
+            throw new IllegalArgumentException("A ring needs at least one member");
+        }
+        List<Point> ring = new ArrayList<>(sorted.size() * virtualNodes);
+        for (int member = 0; member < sorted.size(); member++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.add(new Point(hash(sorted.get(member) + "#" + node), member));
+            }
+        }
+        ring.sort(Comparator.comparingLong(Point::hash));
+        long[] points = new long[ring.size()];
+        int[] owners = new int[ring.size()];
+        for (int i = 0; i < ring.size(); i++) {
+            points[i] = ring.get(i).hash();
+            owners[i] = ring.get(i).member();
+        }
+        return new ConsistentHashRing(sorted, points, owners);
+    }
+
+    public List<String> members() {
+        return members;
+    }
+
+    public String owner(String key) {
+        int index = Arrays.binarySearch(points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return members.get(owners[index == points.length ? 0 : index]);
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 mixer so that
+     * keys differing in one character land far apart.
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private record Point(long hash, int member) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.springboot.peer;
+
+import com.springboot.backend.LastKnownGreetings;
+import com.springboot.service.GreetingService;
+import com.springboot.util.SecurityUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Answers {@link PeerClient} requests from this instance's greeting cache, loading from
+ * the backend on a miss. Only languages this instance owns are served: a peer with a
+ * different member list gets 421 and loads from its own backend, so a request is never
+ * passed on to a third instance.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "app.cache.peers", name = "enabled", havingValue = "true")
+public class PeerCacheController {
+
+    static final int MAX_LANGUAGES = 64;
+    private static final HttpStatusCode MISDIRECTED_REQUEST = HttpStatusCode.valueOf(421);
+
+    private final GreetingService greetingService;
+    private final LastKnownGreetings lastKnownGreetings;
+    private final PeerRing peerRing;
+    private final byte[] secret;
+
+    public PeerCacheController(GreetingService greetingService, LastKnownGreetings lastKnownGreetings,
+                               PeerRing peerRing, @Value("${app.cache.peers.secret}") String secret) {
+        this.greetingService = greetingService;
+        this.lastKnownGreetings = lastKnownGreetings;
+        this.peerRing = peerRing;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @GetMapping(PeerClient.GREETINGS_PATH)
+    public CompletableFuture<ResponseEntity<Map<String, String>>> greetings(
+            @RequestHeader(value = PeerClient.SECRET_HEADER, required = false) String peerSecret,
+            @RequestParam("languages") List<String> languages) {
+        if (peerSecret == null || !MessageDigest.isEqual(secret, peerSecret.getBytes(StandardCharsets.UTF_8))) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        if (languages.isEmpty() || languages.size() > MAX_LANGUAGES
+                || !languages.stream().allMatch(SecurityUtils::isValidLanguageCode)) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        if (!languages.stream().allMatch(peerRing::isLocal)) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(MISDIRECTED_REQUEST).build());
+        }
+        List<CompletableFuture<String>> loads = languages.stream().map(greetingService::getGreetingAsync).toList();
+        return CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            Map<String, String> greetings = new LinkedHashMap<>();
+            for (int i = 0; i < languages.size(); i++) {
+                String greeting = loads.get(i).join();
+                // A stale fallback is this instance's business; the peer serves its own
+                if (lastKnownGreetings.isFallback(greeting)) {
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+                }
+                greetings.put(languages.get(i), greeting);
+            }
+            return ResponseEntity.ok(greetings);
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.springboot.peer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.backend.BackendException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Asks the owning peer for greetings with {@code GET {peer}/internal/peers/greetings?languages=de,fr},
+ * answered from that peer's greeting cache. Requests carry the shared peer secret in
+ * {@value #SECRET_HEADER} rather than user credentials, so they skip password hashing
+ * on both sides.
+ */
+public class PeerClient implements AutoCloseable {
+
+    public static final String GREETINGS_PATH = "/internal/peers/greetings";
+    public static final String SECRET_HEADER = "X-Peer-Secret";
+
+    private static final TypeReference<Map<String, String>> GREETINGS = new TypeReference<>() {};
+
+    private final PeerRing ring;
+    private final String secret;
+    private final Duration requestTimeout;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+
+    public PeerClient(PeerRing ring, String secret, Duration connectTimeout, Duration requestTimeout,
+                      Executor executor, ObjectMapper objectMapper) {
+        this.ring = ring;
+        this.secret = secret;
+        this.requestTimeout = requestTimeout;
+        this.objectMapper = objectMapper;
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(connectTimeout)
+            .executor(executor)
+            .build();
+    }
+
+    public PeerRing ring() {
+        return ring;
+    }
+
+    public CompletableFuture<Map<String, String>> fetchGreetings(String peer, Set<String> languages) {
+        String query = languages.stream()
+            .map(language -> URLEncoder.encode(language, StandardCharsets.UTF_8))
+            .collect(Collectors.joining(","));
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(peer + GREETINGS_PATH + "?languages=" + query))
+                .timeout(requestTimeout)
+                .header(SECRET_HEADER, secret)
+                .GET()
+                .build();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+            .thenApply(response -> {
+                if (response.statusCode() != 200) {
+                    throw new BackendException("Peer " + peer + " answered " + response.statusCode());
+                }
+                return parseGreetings(response.body());
+            });
+    }
+
+    @Override
+    public void close() {
+        client.shutdownNow();
+    }
+
+    private Map<String, String> parseGreetings(String body) {
+        try {
+            return objectMapper.readValue(body, GREETINGS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.springboot.peer;
+
+import com.springboot.backend.GreetingBackend;
+import com.springboot.metrics.GreetingMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends each greeting load to the peer owning its language on the {@link PeerRing}, so
+ * across all instances a language is loaded from the backend once per expiry rather than
+ * once per instance. Languages this instance owns, and any a peer fails to answer, go to
+ * the backend directly. Whatever a peer answers is kept in this instance's own greeting
+ * cache like any other load, so hot languages are served locally after the first miss.
+ * <p>
+ * The catalog ({@link #fetchAll}) is a single key read rarely and is not routed.
+ */
+public class PeerGreetingBackend implements GreetingBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(PeerGreetingBackend.class);
+
+    private final GreetingBackend delegate;
+    private final PeerClient peerClient;
+    private final GreetingMetrics greetingMetrics;
+
+    public PeerGreetingBackend(GreetingBackend delegate, PeerClient peerClient, GreetingMetrics greetingMetrics) {
+        this.delegate = delegate;
+        this.peerClient = peerClient;
+        this.greetingMetrics = greetingMetrics;
+    }
+
+    @Override
+    public CompletableFuture<String> fetchGreeting(String language) {
+        if (peerClient.ring().isLocal(language)) {
+            return delegate.fetchGreeting(language);
+        }
+        return fetchGreetings(Set.of(language)).thenApply(greetings -> greetings.get(language));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> fetchGreetings(Set<String> languages) {
+        PeerRing ring = peerClient.ring();
+        Map<String, Set<String>> byOwner = new LinkedHashMap<>();
+        for (String language : languages) {
+            byOwner.computeIfAbsent(ring.owner(language), owner -> new LinkedHashSet<>()).add(language);
+        }
+        if (byOwner.size() == 1 && byOwner.containsKey(ring.self())) {
+            return delegate.fetchGreetings(languages);
+        }
+        List<CompletableFuture<Map<String, String>>> calls = byOwner.entrySet().stream()
+            .map(entry -> entry.getKey().equals(ring.self())
+                ? delegate.fetchGreetings(entry.getValue())
+                : fromPeer(entry.getKey(), entry.getValue()))
+            .toList();
+        return CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            Map<String, String> greetings = new LinkedHashMap<>();
+            calls.forEach(call -> greetings.putAll(call.join()));
+            return greetings;
+        });
+    }
+
+    private CompletableFuture<Map<String, String>> fromPeer(String peer, Set<String> languages) {
+        return peerClient.fetchGreetings(peer, languages)
+            .handle((greetings, failure) -> {
+                if (failure == null && greetings.keySet().containsAll(languages)) {
+                    greetingMetrics.recordPeerLoads("peer", languages.size());
+                    return CompletableFuture.completedFuture(greetings);
+                }
+                logger.debug("Peer {} did not answer {}, loading from the backend: {}", peer, languages,
+                    failure != null ? failure.getMessage() : "incomplete answer");
+                greetingMetrics.recordPeerLoads("fallback", languages.size());
+                return delegate.fetchGreetings(languages);
+            })
+            .thenCompose(greetings -> greetings);
+    }
+
+    @Override
+    public CompletableFuture<SortedMap<String, String>> fetchAll() {
+        return delegate.fetchAll();
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+}
@@ -0,0 +1,131 @@
+package com.springboot.peer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The peer instances sharing the greeting cache, as a {@link ConsistentHashRing} of their
+ * base URLs that always includes this instance. Members come from a fixed list or from a
+ * file with one URL per line ({@code #} starts a comment); the file is checked for changes
+ * at most once per {@code checkInterval}, off the request path, and a changed file swaps
+ * in a new ring while lookups keep using the old one.
+ */
+public class PeerRing {
+
+    private static final Logger logger = LoggerFactory.getLogger(PeerRing.class);
+
+    private static final Executor FILE_CHECKER = task -> Thread.ofVirtual().name("peer-file").start(task);
+
+    private final String self;
+    private final Path file;
+    private final int virtualNodes;
+    private final long checkIntervalNanos;
+    private final AtomicBoolean checking = new AtomicBoolean();
+    private volatile Snapshot current;
+
+    public PeerRing(String self, Collection<String> members, Path file, int virtualNodes, Duration checkInterval) {
+        this.self = normalize(self);
+        this.file = file;
+        this.virtualNodes = virtualNodes;
+        this.checkIntervalNanos = checkInterval.toNanos();
+        if (file != null) {
+            FileTime modified = lastModified(file);
+            this.current = snapshot(readMembers(file), modified);
+        } else {
+            this.current = snapshot(members, null);
+        }
+        logger.info("Peer cache ring of {}: {}", this.self, current.ring.members());
+    }
+
+    public String self() {
+        return self;
+    }
+
+    public String owner(String key) {
+        return ring().owner(key);
+    }
+
+    public boolean isLocal(String key) {
+        return self.equals(owner(key));
+    }
+
+    public ConsistentHashRing ring() {
+        Snapshot snapshot = current;
+        if (file != null && System.nanoTime() - snapshot.checkedAt > checkIntervalNanos
+                && checking.compareAndSet(false, true)) {
+            FILE_CHECKER.execute(this::checkFile);
+        }
+        return snapshot.ring;
+    }
+
+    private void checkFile() {
+        try {
+            Snapshot snapshot = current;
+            FileTime modified = lastModified(file);
+            if (modified.equals(snapshot.modified)) {
+                current = new Snapshot(snapshot.ring, modified, System.nanoTime());
+                return;
+            }
+            current = snapshot(readMembers(file), modified);
+            logger.info("Peer list {} changed, ring is now: {}", file, current.ring.members());
+        } catch (RuntimeException e) {
+            // Keep the last good ring; the next check retries
+            logger.warn("Could not reload peer list {}: {}", file, e.getMessage());
+            Snapshot snapshot = current;
+            current = new Snapshot(snapshot.ring, snapshot.modified, System.nanoTime());
+        } finally {
+            checking.set(false);
+        }
+    }
+
+    private Snapshot snapshot(Collection<String> members, FileTime modified) {
+        Set<String> ring = new LinkedHashSet<>();
+        ring.add(self);
+        members.stream().map(PeerRing::normalize).filter(member -> !member.isEmpty()).forEach(ring::add);
+        return new Snapshot(ConsistentHashRing.of(ring, virtualNodes), modified, System.nanoTime());
+    }
+
+    private static List<String> readMembers(Path file) {
+        try {
+            return Files.readAllLines(file).stream()
+                .map(line -> line.replaceFirst("#.*", "").trim())
+                .filter(line -> !line.isEmpty())
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read peer list " + file, e);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read peer list " + file, e);
+        }
+    }
+
+    // Trailing slashes would make one instance two different members
+    static String normalize(String url) {
+        String trimmed = url.trim();
+        while (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private record Snapshot(ConsistentHashRing ring, FileTime modified, long checkedAt) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.springboot.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Time spent loading a value after a cache miss, emitted from the body of a
+ * {@code @Cacheable} method (which only runs on a miss).
+ */
+@Name("com.springboot.CacheMiss")
+@Label("Cache Miss")
+@Category({"Greeting", "Cache"})
+@Description("Value loaded after a cache miss")
+public class CacheMissEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Key")
+    String key;
+
+    public static CacheMissEvent start() {
+        CacheMissEvent event = new CacheMissEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(String cache, String key) {
+        end();
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.key = key;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.springboot.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Time a task waited in an executor queue, from submission until a worker picked it up.
+ * Installed as the executor's task decorator; tasks are not wrapped unless the event is enabled.
+ */
+@Name("com.springboot.ExecutorQueue")
+@Label("Executor Queue Wait")
+@Category({"Greeting", "Executor"})
+@Description("Time a task spent queued before running")
+@StackTrace(false)
+public class ExecutorQueueEvent extends Event {
+
+    @Label("Executor")
+    String executor;
+
+    @Label("Queue Size")
+    @Description("Tasks queued when this one was submitted")
+    int queueSize;
+
+    @Label("Active Threads")
+    int activeThreads;
+
+    public static Runnable decorate(String name, ThreadPoolTaskExecutor executor, Runnable task) {
+        ExecutorQueueEvent event = new ExecutorQueueEvent();
+        if (!event.isEnabled()) {
+            return task;
+        }
+        event.executor = name;
+        event.queueSize = executor.getQueueSize();
+        event.activeThreads = executor.getActiveCount();
+        event.begin();
+        return () -> {
+            event.end();
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+            task.run();
+        };
+    }
+}
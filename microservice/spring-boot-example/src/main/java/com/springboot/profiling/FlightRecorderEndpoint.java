@@ -0,0 +1,171 @@
+package com.springboot.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * On-demand Flight Recorder recordings at {@code /actuator/jfr}: {@code POST} starts one
+ * (optional {@code duration} and {@code settings}, capped by {@code app.profiling.*}),
+ * {@code GET} reports its state, {@code DELETE} stops it early and, once the state is
+ * {@code STOPPED} (its duration elapsed or it was stopped) or {@code CLOSED},
+ * {@code GET /actuator/jfr/{name}} downloads the {@code .jfr} file.
+ * Only one recording exists at a time; starting a new one discards the previous file.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderEndpoint.class);
+
+    private static final int STATUS_CONFLICT = 409;
+
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    static final List<Class<? extends jdk.jfr.Event>> EVENTS = List.of(
+        GreetingRequestEvent.class, CacheMissEvent.class, RateLimitRejectedEvent.class, ExecutorQueueEvent.class);
+
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private final Path directory;
+
+    private Recording recording;
+    private Path file;
+
+    public FlightRecorderEndpoint(@Value("${app.profiling.max-duration:5m}") Duration maxDuration,
+                                  @Value("${app.profiling.max-size:100MB}") DataSize maxSize,
+                                  @Value("${app.profiling.directory:${java.io.tmpdir}}") Path directory) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+        this.directory = directory;
+        if (FlightRecorder.isAvailable()) {
+            // Registered up front so the events show up in recording settings and JMC
+            EVENTS.forEach(FlightRecorder::register);
+        }
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Duration duration,
+                                                                       @Nullable String settings) {
+        if (!FlightRecorder.isAvailable()) {
+            return new WebEndpointResponse<>(Map.of("error", "Flight Recorder is not available"),
+                WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        if (isRunning()) {
+            return new WebEndpointResponse<>(status(), STATUS_CONFLICT);
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings == null ? "profile" : settings);
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(Map.of("error", "Unknown settings: " + settings),
+                WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        Duration bounded = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        try {
+            discard();
+            String name = "greeting-" + LocalDateTime.now().format(NAME_FORMAT);
+            Path destination = directory.resolve(name + ".jfr");
+            Recording started = new Recording(configuration);
+            started.setName(name);
+            started.setDuration(bounded);
+            started.setMaxSize(maxSize.toBytes());
+            started.setToDisk(true);
+            started.setDestination(destination);
+            started.start();
+            recording = started;
+            file = destination;
+        } catch (IOException e) {
+            logger.error("Could not start flight recording", e);
+            return new WebEndpointResponse<>(Map.of("error", "Could not start recording"),
+                WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+        logger.info("Started flight recording {} for {}", recording.getName(), bounded);
+        return new WebEndpointResponse<>(status());
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("name", recording.getName());
+        status.put("state", recording.getState().name());
+        status.put("startTime", recording.getStartTime());
+        status.put("duration", recording.getDuration());
+        status.put("maxSize", recording.getMaxSize());
+        status.put("size", recording.getSize());
+        if (!isRunning() && Files.exists(file)) {
+            // Written to disk and ready for download
+            try {
+                status.put("size", Files.size(file));
+            } catch (IOException e) {
+                logger.debug("Could not read size of {}", file, e);
+            }
+        }
+        return status;
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> stop() {
+        if (!isRunning()) {
+            return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        recording.stop();
+        logger.info("Stopped flight recording {}", recording.getName());
+        return new WebEndpointResponse<>(status());
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> recording(@Selector String name) {
+        if (recording == null || !recording.getName().equals(name)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (isRunning() || !Files.exists(file)) {
+            return new WebEndpointResponse<>(STATUS_CONFLICT);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(file));
+    }
+
+    private boolean isRunning() {
+        return recording != null
+            && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED);
+    }
+
+    private void discard() throws IOException {
+        if (recording != null) {
+            recording.close();
+            Files.deleteIfExists(file);
+            recording = null;
+            file = null;
+        }
+    }
+}
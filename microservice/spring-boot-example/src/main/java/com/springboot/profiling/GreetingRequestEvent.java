@@ -0,0 +1,45 @@
+package com.springboot.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Duration of a greeting request inside its controller; for {@code /async} it runs
+ * until the future completes. Fields are only filled in when a recording wants the event.
+ */
+@Name("com.springboot.GreetingRequest")
+@Label("Greeting Request")
+@Category({"Greeting", "Requests"})
+@Description("Time spent serving a greeting request")
+@StackTrace(false)
+public class GreetingRequestEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Language")
+    String language;
+
+    @Label("Failed")
+    boolean failed;
+
+    public static GreetingRequestEvent start() {
+        GreetingRequestEvent event = new GreetingRequestEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(String endpoint, String language, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.endpoint = endpoint;
+            this.language = language;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.springboot.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.springboot.RateLimitRejected")
+@Label("Rate Limit Rejected")
+@Category({"Greeting", "Requests"})
+@Description("Request rejected with 429 by the rate limiter")
+@StackTrace(false)
+public class RateLimitRejectedEvent extends Event {
+
+    @Label("Client IP")
+    String clientIp;
+
+    @Label("Path")
+    String path;
+
+    public static void emit(String clientIp, String path) {
+        RateLimitRejectedEvent event = new RateLimitRejectedEvent();
+        if (event.shouldCommit()) {
+            event.clientIp = clientIp;
+            event.path = path;
+            event.commit();
+        }
+    }
+}
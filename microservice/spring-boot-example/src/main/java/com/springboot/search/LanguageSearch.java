@@ -0,0 +1,145 @@
+package com.springboot.search;
+
+import com.springboot.backend.BackendException;
+import com.springboot.backend.GreetingBackend;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.model.LanguageMatch;
+import com.springboot.service.GreetingCacheEvictedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves language search from the current {@link LanguageSearchIndex} and rebuilds it
+ * off the request path: at startup, when the greeting cache is cleared and, once the
+ * index is older than {@code app.search.refresh-interval}, on the next query. Queries
+ * keep using the previous index while a rebuild runs; only the very first query waits.
+ */
+@Service
+public class LanguageSearch {
+
+    private static final Logger logger = LoggerFactory.getLogger(LanguageSearch.class);
+
+    private static final Executor INDEX_BUILDER = task -> Thread.ofVirtual().name("search-index").start(task);
+
+    private final GreetingBackend backend;
+    private final GreetingMetrics greetingMetrics;
+    private final long refreshIntervalNanos;
+    private final AtomicReference<CompletableFuture<LanguageSearchIndex>> building = new AtomicReference<>();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private volatile Snapshot current;
+
+    public LanguageSearch(GreetingBackend backend, GreetingMetrics greetingMetrics,
+                          @Value("${app.search.refresh-interval:5m}") Duration refreshInterval) {
+        this.backend = backend;
+        this.greetingMetrics = greetingMetrics;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        greetingMetrics.bindSearchIndex(() -> {
+            Snapshot snapshot = current;
+            return snapshot != null ? snapshot.index.size() : 0;
+        });
+    }
+
+    public List<LanguageMatch> search(String query, int limit) {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            return await(rebuild()).search(query, limit);
+        }
+        if (System.nanoTime() - snapshot.refreshedAt > refreshIntervalNanos) {
+            rebuild();
+        }
+        return snapshot.index.search(query, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onGreetingCacheEvicted(GreetingCacheEvictedEvent event) {
+        if (event.isAll()) {
+            rebuild(true);
+        }
+    }
+
+    /**
+     * Starts a rebuild, or joins the one in flight.
+     */
+    CompletableFuture<LanguageSearchIndex> rebuild() {
+        return rebuild(false);
+    }
+
+    /**
+     * As {@link #rebuild()}; when the catalog changed during a rebuild, that rebuild may
+     * have read the old catalog, so one more runs after it. A stale index only needs the
+     * rebuild in flight.
+     */
+    private CompletableFuture<LanguageSearchIndex> rebuild(boolean catalogChanged) {
+        CompletableFuture<LanguageSearchIndex> inFlight = building.get();
+        if (inFlight != null && !inFlight.isDone()) {
+            if (catalogChanged) {
+                rebuildRequested.set(true);
+            }
+            return inFlight;
+        }
+        CompletableFuture<LanguageSearchIndex> next = new CompletableFuture<>();
+        if (!building.compareAndSet(inFlight, next)) {
+            return building.get();
+        }
+        backend.fetchAll()
+            .thenApplyAsync(this::build, INDEX_BUILDER)
+            .whenComplete((index, failure) -> {
+                Snapshot previous = current;
+                if (failure != null) {
+                    logger.warn("Language search index rebuild failed, keeping the previous index", failure);
+                    if (previous != null) {
+                        // Retried after another interval rather than on every query
+                        current = new Snapshot(previous.index, System.nanoTime());
+                    }
+                    next.completeExceptionally(failure);
+                } else {
+                    current = new Snapshot(index, System.nanoTime());
+                    next.complete(index);
+                }
+                if (rebuildRequested.getAndSet(false)) {
+                    rebuild();
+                }
+            });
+        return next;
+    }
+
+    private LanguageSearchIndex build(SortedMap<String, String> catalog) {
+        long start = System.nanoTime();
+        LanguageSearchIndex index = LanguageSearchIndex.build(catalog);
+        greetingMetrics.recordSearchIndexBuild(System.nanoTime() - start);
+        logger.debug("Language search index built with {} entries", index.size());
+        return index;
+    }
+
+    private static LanguageSearchIndex await(CompletableFuture<LanguageSearchIndex> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BackendException("Language search index unavailable", e.getCause());
+        }
+    }
+
+    private record Snapshot(LanguageSearchIndex index, long refreshedAt) {
+    }
+}
@@ -0,0 +1,290 @@
+package com.springboot.search;
+
+import com.springboot.model.LanguageMatch;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable search index over the greeting catalog: language codes, English and native
+ * language names, and the words of each greeting.
+ * <p>
+ * All terms live in one sorted array, so a prefix lookup is a binary search followed by
+ * a scan of adjacent terms; each term points into a flat postings array of
+ * {@code (entry, field)} pairs. Misspellings are matched through per-term trigram
+ * postings scored by Dice similarity. The index is only read once built, so queries
+ * need no locking.
+ */
+public final class LanguageSearchIndex {
+
+    static final int CODE = 0;
+    static final int NAME = 1;
+    static final int GREETING = 2;
+    private static final double[] FIELD_WEIGHTS = {3.0, 2.0, 1.0};
+
+    // Bounds the work a short or common word can cause on a large catalog
+    private static final int MAX_POSTINGS_PER_WORD = 4096;
+    static final int MIN_FUZZY_LENGTH = 3;
+    private static final double MIN_SIMILARITY = 0.5;
+    // Keeps every fuzzy match below a prefix match on the same field
+    private static final double FUZZY_DISCOUNT = 0.9;
+
+    private static final Comparator<Map.Entry<Integer, Double>> RANKING =
+            Map.Entry.<Integer, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final String[] codes;
+    private final String[] names;
+    private final String[] greetings;
+    private final String[] terms;
+    private final int[] postingStarts;
+    private final int[] postings;
+    private final int[] termTrigramCounts;
+    private final Map<String, int[]> trigramTerms;
+
+    private LanguageSearchIndex(String[] codes, String[] names, String[] greetings, String[] terms,
+                                int[] postingStarts, int[] postings, int[] termTrigramCounts,
+                                Map<String, int[]> trigramTerms) {
+        this.codes = codes;
+        this.names = names;
+        this.greetings = greetings;
+        this.terms = terms;
+        this.postingStarts = postingStarts;
+        this.postings = postings;
+        this.termTrigramCounts = termTrigramCounts;
+        this.trigramTerms = trigramTerms;
+    }
+
+    public static LanguageSearchIndex build(SortedMap<String, String> catalog) {
+        int size = catalog.size();
+        String[] codes = new String[size];
+        String[] names = new String[size];
+        String[] greetings = new String[size];
+        Map<String, IntList> termPostings = new HashMap<>();
+        int entry = 0;
+        for (Map.Entry<String, String> language : catalog.entrySet()) {
+            Locale locale = Locale.forLanguageTag(language.getKey());
+            String name = locale.getDisplayName(Locale.ENGLISH);
+            codes[entry] = language.getKey();
+            names[entry] = name.isEmpty() || name.equalsIgnoreCase(language.getKey()) ? null : name;
+            greetings[entry] = language.getValue();
+            add(termPostings, language.getKey(), entry, CODE);
+            if (names[entry] != null) {
+                add(termPostings, name, entry, NAME);
+                add(termPostings, locale.getDisplayName(locale), entry, NAME);
+            }
+            add(termPostings, language.getValue(), entry, GREETING);
+            entry++;
+        }
+
+        String[] terms = termPostings.keySet().toArray(String[]::new);
+        Arrays.sort(terms);
+        int[] postingStarts = new int[terms.length + 1];
+        IntList postings = new IntList();
+        int[] termTrigramCounts = new int[terms.length];
+        Map<String, IntList> trigramPostings = new HashMap<>();
+        for (int term = 0; term < terms.length; term++) {
+            postingStarts[term] = postings.size;
+            postings.addAll(termPostings.get(terms[term]));
+            Set<String> trigrams = trigrams(terms[term]);
+            termTrigramCounts[term] = trigrams.size();
+            for (String trigram : trigrams) {
+                trigramPostings.computeIfAbsent(trigram, key -> new IntList()).add(term);
+            }
+        }
+        postingStarts[terms.length] = postings.size;
+        Map<String, int[]> trigramTerms = new HashMap<>(trigramPostings.size() * 4 / 3 + 1);
+        trigramPostings.forEach((trigram, list) -> trigramTerms.put(trigram, list.toArray()));
+        return new LanguageSearchIndex(codes, names, greetings, terms, postingStarts, postings.toArray(),
+                termTrigramCounts, trigramTerms);
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * Returns up to {@code limit} entries, best first. Every query word must match the
+     * start of a term; a single word of {@value #MIN_FUZZY_LENGTH} or more characters
+     * also matches similar terms when prefixes alone do not fill the result.
+     */
+    public List<LanguageMatch> search(String query, int limit) {
+        List<String> words = terms(query);
+        Map<Integer, Double> scores = null;
+        for (String word : words) {
+            Map<Integer, Double> wordScores = new HashMap<>();
+            prefixMatches(word, wordScores);
+            if (words.size() == 1 && wordScores.size() < limit && word.length() >= MIN_FUZZY_LENGTH) {
+                fuzzyMatches(word, wordScores);
+            }
+            if (scores == null) {
+                scores = wordScores;
+            } else {
+                scores.keySet().retainAll(wordScores.keySet());
+                scores.replaceAll((match, score) -> score + wordScores.get(match));
+            }
+        }
+        if (scores == null || scores.isEmpty()) {
+            return List.of();
+        }
+        // Keeps the worst of the best `limit` at the head instead of sorting every hit
+        PriorityQueue<Map.Entry<Integer, Double>> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Map.Entry<Integer, Double> match : scores.entrySet()) {
+            best.add(match);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        LanguageMatch[] matches = new LanguageMatch[best.size()];
+        for (int i = matches.length - 1; i >= 0; i--) {
+            Map.Entry<Integer, Double> match = best.poll();
+            int entry = match.getKey();
+            matches[i] = new LanguageMatch(codes[entry], names[entry], greetings[entry], match.getValue());
+        }
+        return List.of(matches);
+    }
+
+    private void prefixMatches(String prefix, Map<Integer, Double> scores) {
+        int scanned = 0;
+        for (int term = lowerBound(prefix); term < terms.length && terms[term].startsWith(prefix)
+                && scanned < MAX_POSTINGS_PER_WORD; term++) {
+            double coverage = (double) prefix.length() / terms[term].length();
+            scanned += score(term, 1 + coverage, scores, MAX_POSTINGS_PER_WORD - scanned);
+        }
+    }
+
+    /**
+     * Counts shared trigrams with a k-way merge of the query's sorted trigram postings,
+     * so no per-term scratch array is needed. Each merge step, one candidate term, counts
+     * against the word's budget along with the postings it scores, so common trigrams
+     * cannot make the merge itself unbounded.
+     */
+    private void fuzzyMatches(String word, Map<Integer, Double> scores) {
+        Set<String> trigrams = trigrams(word);
+        List<int[]> lists = new ArrayList<>(trigrams.size());
+        for (String trigram : trigrams) {
+            int[] list = trigramTerms.get(trigram);
+            if (list != null) {
+                lists.add(list);
+            }
+        }
+        int[] positions = new int[lists.size()];
+        int scanned = 0;
+        while (scanned < MAX_POSTINGS_PER_WORD) {
+            int term = Integer.MAX_VALUE;
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] < lists.get(i).length) {
+                    term = Math.min(term, lists.get(i)[positions[i]]);
+                }
+            }
+            if (term == Integer.MAX_VALUE) {
+                return;
+            }
+            scanned++;
+            int shared = 0;
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] < lists.get(i).length && lists.get(i)[positions[i]] == term) {
+                    shared++;
+                    positions[i]++;
+                }
+            }
+            double similarity = 2.0 * shared / (trigrams.size() + termTrigramCounts[term]);
+            if (similarity >= MIN_SIMILARITY && scanned < MAX_POSTINGS_PER_WORD) {
+                scanned += score(term, similarity * FUZZY_DISCOUNT, scores, MAX_POSTINGS_PER_WORD - scanned);
+            }
+        }
+    }
+
+    /**
+     * Scores up to {@code budget} postings of {@code term}, keeping each entry's best
+     * score, and returns how many it read.
+     */
+    private int score(int term, double quality, Map<Integer, Double> scores, int budget) {
+        int end = Math.min(postingStarts[term + 1], postingStarts[term] + budget);
+        for (int i = postingStarts[term]; i < end; i++) {
+            int entry = postings[i] >>> 2;
+            double score = FIELD_WEIGHTS[postings[i] & 3] * quality;
+            scores.merge(entry, score, Math::max);
+        }
+        return end - postingStarts[term];
+    }
+
+    private int lowerBound(String prefix) {
+        int position = Arrays.binarySearch(terms, prefix);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private static void add(Map<String, IntList> termPostings, String text, int entry, int field) {
+        int posting = entry << 2 | field;
+        for (String term : terms(text)) {
+            IntList list = termPostings.computeIfAbsent(term, key -> new IntList());
+            if (list.size == 0 || list.last() != posting) {
+                list.add(posting);
+            }
+        }
+    }
+
+    /**
+     * Lower-cased words with diacritics removed, so "por" finds "português".
+     */
+    static List<String> terms(String text) {
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>(2);
+        for (String term : SEPARATORS.split(folded)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static Set<String> trigrams(String term) {
+        String padded = "^" + term + "$";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(IntList other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        int last() {
+            return values[size - 1];
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
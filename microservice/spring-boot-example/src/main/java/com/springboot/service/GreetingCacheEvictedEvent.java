@@ -0,0 +1,19 @@
+package com.springboot.service;
+
+/**
+ * Published after {@link GreetingService} evicts cached greetings, so caches layered
+ * on top of it can drop derived entries.
+ *
+ * @param language the evicted language, or {@code null} when the whole greeting cache and
+ *                 the cached language catalog were cleared
+ */
+public record GreetingCacheEvictedEvent(String language) {
+
+    public static GreetingCacheEvictedEvent all() {
+        return new GreetingCacheEvictedEvent(null);
+    }
+
+    public boolean isAll() {
+        return language == null;
+    }
+}
@@ -0,0 +1,106 @@
+package com.springboot.service;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Source of truth for the greetings the service can return.
+ * <p>
+ * Entries are kept sorted by language code so every serialization of the catalog is
+ * byte-for-byte stable, and the catalog carries a content-derived version that is the
+ * same on every instance serving the same greetings.
+ */
+@Component
+public class GreetingCatalog {
+
+    private static final Map<String, String> BUILT_IN_GREETINGS = Map.of(
+        "es", "¡Hola Mundo!",
+        "en", "Hello World!",
+        "fr", "Bonjour le Monde!",
+        "de", "Hallo Welt!",
+        "it", "Ciao Mondo!",
+        "pt", "Olá Mundo!",
+        "ru", "Привет мир!",
+        "ja", "こんにちは世界!",
+        "zh", "你好世界!"
+    );
+
+    // {name} marks where the caller's name goes; see GreetingTemplate
+    private static final Map<String, String> BUILT_IN_TEMPLATES = Map.of(
+        "es", "¡Hola, {name}!",
+        "en", "Hello, {name}!",
+        "fr", "Bonjour, {name}!",
+        "de", "Hallo, {name}!",
+        "it", "Ciao, {name}!",
+        "pt", "Olá, {name}!",
+        "ru", "Привет, {name}!",
+        "ja", "こんにちは、{name}さん!",
+        "zh", "你好，{name}!"
+    );
+
+    private final String defaultLanguage;
+    private final SortedMap<String, String> greetings;
+    private final SortedMap<String, String> templates;
+    private final String version;
+
+    public GreetingCatalog(@Value("${app.greeting.default-language:en}") String defaultLanguage) {
+        this.defaultLanguage = defaultLanguage;
+        this.greetings = Collections.unmodifiableSortedMap(new TreeMap<>(BUILT_IN_GREETINGS));
+        this.templates = Collections.unmodifiableSortedMap(new TreeMap<>(BUILT_IN_TEMPLATES));
+        this.version = computeVersion(greetings, templates);
+    }
+
+    /**
+     * Returns all greetings keyed by language code, in code order. The map is immutable.
+     */
+    public SortedMap<String, String> greetings() {
+        return greetings;
+    }
+
+    /**
+     * Returns the personalized greeting templates keyed by language code, in code order.
+     * The map is immutable.
+     */
+    public SortedMap<String, String> templates() {
+        return templates;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public String defaultLanguage() {
+        return defaultLanguage;
+    }
+
+    public boolean isSupported(String language) {
+        return greetings.containsKey(language);
+    }
+
+    public String greetingOrDefault(String language) {
+        String greeting = greetings.get(language);
+        return greeting != null ? greeting : greetings.get(defaultLanguage);
+    }
+
+    private static String computeVersion(SortedMap<String, String> greetings, SortedMap<String, String> templates) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (SortedMap<String, String> entries : List.of(greetings, templates)) {
+            entries.forEach((language, text) -> hasher
+                    .putString(language, StandardCharsets.UTF_8)
+                    .putByte((byte) 0)
+                    .putString(text, StandardCharsets.UTF_8)
+                    .putByte((byte) 0));
+            hasher.putByte((byte) 1);
+        }
+        return hasher.hash().toString().substring(0, 16);
+    }
+}
@@ -1,15 +1,22 @@
 package com.springboot.service;
 
+import com.springboot.backend.BackendException;
+import com.springboot.backend.BatchingGreetingLoader;
+import com.springboot.backend.GreetingBackend;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.profiling.CacheMissEvent;
+import com.springboot.tenant.TenantCatalogs;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
-import java.util.Map;
+import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @CacheConfig(cacheNames = "greetings")
@@ -17,76 +24,114 @@ public class GreetingService {
 
     private static final Logger logger = LoggerFactory.getLogger(GreetingService.class);
 
-    private static final Map<String, String> GREETINGS = Map.of(
-        "es", "¡Hola Mundo!",
-        "en", "Hello World!",
-        "fr", "Bonjour le Monde!",
-        "de", "Hallo Welt!",
-        "it", "Ciao Mondo!",
-        "pt", "Olá Mundo!",
-        "ru", "Привет мир!",
-        "ja", "こんにちは世界!",
-        "zh", "你好世界!"
-    );
+    // Fallbacks served while the backend fails are not cached, so recovery is picked up at once
+    private static final String FALLBACK = "@lastKnownGreetings.isFallback(#result)";
 
-    @Value("${app.greeting.default-language:en}")
-    private String defaultLanguage;
+    private final GreetingCatalog catalog;
+    private final GreetingBackend backend;
+    private final BatchingGreetingLoader greetingLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TenantCatalogs tenantCatalogs;
+    private final GreetingMetrics greetingMetrics;
 
-    @Cacheable(key = "#language")
+    public GreetingService(GreetingCatalog catalog, GreetingBackend backend, BatchingGreetingLoader greetingLoader,
+                           ApplicationEventPublisher eventPublisher, TenantCatalogs tenantCatalogs,
+                           GreetingMetrics greetingMetrics) {
+        this.catalog = catalog;
+        this.backend = backend;
+        this.greetingLoader = greetingLoader;
+        this.eventPublisher = eventPublisher;
+        this.tenantCatalogs = tenantCatalogs;
+        this.greetingMetrics = greetingMetrics;
+    }
+
+    /**
+     * Blocks the calling thread on a miss; request paths that must not block use
+     * {@link #getGreetingAsync}. Both share the {@code greetings} cache.
+     */
+    @Cacheable(keyGenerator = "tenantKeyGenerator", unless = FALLBACK)
     public String getGreeting(String language) {
-        logger.debug("Processing greeting request for language: {} (cache miss)", language);
-        
-        // Simulate expensive operation
-        try {
-            Thread.sleep(100); // Simulate database or external API call
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        String normalizedLanguage = language.toLowerCase();
-        String greeting = GREETINGS.getOrDefault(normalizedLanguage, GREETINGS.get(defaultLanguage));
+        return await(loadGreeting(language));
+    }
+
+    /**
+     * The whole catalog in code order; pages and streams are read from this one cached
+     * copy rather than built per request.
+     */
+    @Cacheable(cacheNames = "languages", key = "'all'", unless = FALLBACK)
+    public SortedMap<String, String> getAllLanguages() {
+        CacheMissEvent cacheMiss = CacheMissEvent.start();
+        long started = System.nanoTime();
+        logger.debug("Loading all available languages (cache miss)");
         
-        if (!GREETINGS.containsKey(normalizedLanguage)) {
-            logger.info("Language '{}' not supported, using default: {}", language, defaultLanguage);
-        }
+        SortedMap<String, String> greetings = await(backend.fetchAll().whenComplete((all, failure) ->
+            greetingMetrics.recordCacheLoad("languages", failure == null, System.nanoTime() - started)));
+        logger.debug("Returning all available languages, count: {}", greetings.size());
         
-        return greeting;
+        cacheMiss.finish("languages", "all");
+        return greetings;
     }
 
-    @Cacheable(cacheNames = "languages", key = "'all'")
-    public Map<String, String> getAllLanguages() {
-        logger.debug("Returning all available languages, count: {} (cache miss)", GREETINGS.size());
+    /**
+     * Completes on a backend thread on a miss; no thread waits for the lookup.
+     */
+    @Cacheable(keyGenerator = "tenantKeyGenerator", unless = FALLBACK)
+    public CompletableFuture<String> getGreetingAsync(String language) {
+        return loadGreeting(language);
+    }
+
+    private CompletableFuture<String> loadGreeting(String language) {
+        CacheMissEvent cacheMiss = CacheMissEvent.start();
+        long started = System.nanoTime();
+        logger.debug("Processing greeting request for language: {} (cache miss)", language);
         
-        // Simulate expensive operation
-        try {
-            Thread.sleep(50);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        String normalizedLanguage = language.toLowerCase();
+        String override = tenantCatalogs.current().greeting(normalizedLanguage);
+        if (override != null) {
+            cacheMiss.finish("greetings", language);
+            greetingMetrics.recordCacheLoad("greetings", true, System.nanoTime() - started);
+            return CompletableFuture.completedFuture(override);
+        }
+        if (!catalog.isSupported(normalizedLanguage)) {
+            logger.info("Language '{}' not supported, using default: {}", language, catalog.defaultLanguage());
         }
         
-        return GREETINGS;
+        return greetingLoader.load(normalizedLanguage)
+            .whenComplete((greeting, failure) -> {
+                cacheMiss.finish("greetings", language);
+                greetingMetrics.recordCacheLoad("greetings", failure == null, System.nanoTime() - started);
+            });
     }
 
-    @Async("greetingTaskExecutor")
-    public CompletableFuture<String> getGreetingAsync(String language) {
-        logger.debug("Processing async greeting request for language: {} on thread: {}", 
-                    language, Thread.currentThread().getName());
-        
-        String greeting = getGreeting(language);
-        return CompletableFuture.completedFuture(greeting);
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BackendException("Greeting backend call failed", e.getCause());
+        }
     }
 
-    @CacheEvict(allEntries = true)
+    // Evict before the body runs so listeners never repopulate from a stale entry; the
+    // catalog is dropped too, since it holds the same greetings
+    @Caching(evict = {
+        @CacheEvict(allEntries = true, beforeInvocation = true),
+        @CacheEvict(cacheNames = "languages", key = "'all'", beforeInvocation = true)
+    })
     public void clearCache() {
-        logger.info("Greeting cache cleared");
+        logger.info("Greeting and language caches cleared");
+        eventPublisher.publishEvent(GreetingCacheEvictedEvent.all());
     }
 
-    @CacheEvict(cacheNames = "greetings", key = "#language")
+    @CacheEvict(cacheNames = "greetings", key = "#language", beforeInvocation = true)
     public void evictGreeting(String language) {
         logger.info("Evicted greeting cache for language: {}", language);
+        eventPublisher.publishEvent(new GreetingCacheEvictedEvent(language));
     }
 
     public boolean isLanguageSupported(String language) {
-        return GREETINGS.containsKey(language.toLowerCase());
+        return catalog.isSupported(language.toLowerCase());
     }
 }
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.springboot.template;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A greeting template such as {@code "¡Hola, {name}!"}, compiled once into UTF-8
+ * literal segments around its {@code {name}} slots.
+ * <p>
+ * Rendering writes the pre-encoded segments and the caller's name straight to an
+ * output stream, encoding the name character by character, so a render allocates
+ * nothing. The name is HTML-escaped in the same pass; control characters and
+ * bidirectional overrides are dropped and unpaired surrogates become U+FFFD.
+ */
+public final class GreetingTemplate {
+
+    static final String NAME = "{name}";
+
+    private static final byte[][] ASCII_ESCAPES = new byte[128][];
+    private static final byte[] DROPPED = new byte[0];
+
+    static {
+        for (char c = 0; c < 0x20; c++) {
+            ASCII_ESCAPES[c] = DROPPED;
+        }
+        ASCII_ESCAPES[0x7f] = DROPPED;
+        ASCII_ESCAPES['&'] = ascii("&amp;");
+        ASCII_ESCAPES['<'] = ascii("&lt;");
+        ASCII_ESCAPES['>'] = ascii("&gt;");
+        ASCII_ESCAPES['"'] = ascii("&quot;");
+        ASCII_ESCAPES['\''] = ascii("&#39;");
+    }
+
+    private final String source;
+    private final byte[][] segments;
+    private final int literalLength;
+
+    private GreetingTemplate(String source, byte[][] segments) {
+        this.source = source;
+        this.segments = segments;
+        int length = 0;
+        for (byte[] segment : segments) {
+            length += segment.length;
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles a template whose only placeholder is {@value #NAME}.
+     *
+     * @throws IllegalArgumentException if the template has any other placeholder
+     */
+    public static GreetingTemplate compile(String source) {
+        List<byte[]> segments = new ArrayList<>(2);
+        int start = 0;
+        for (int open = source.indexOf('{'); open >= 0; open = source.indexOf('{', start)) {
+            if (!source.startsWith(NAME, open)) {
+                throw new IllegalArgumentException("Unknown placeholder at index " + open + " of template: " + source);
+            }
+            segments.add(source.substring(start, open).getBytes(StandardCharsets.UTF_8));
+            start = open + NAME.length();
+        }
+        segments.add(source.substring(start).getBytes(StandardCharsets.UTF_8));
+        return new GreetingTemplate(source, segments.toArray(byte[][]::new));
+    }
+
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeTo} writes for {@code name}.
+     */
+    public int length(CharSequence name) {
+        return length(name, 0, name.length());
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeTo(CharSequence, int, int, OutputStream)}
+     * writes for the characters of {@code name} from {@code start} to {@code end}.
+     */
+    public int length(CharSequence name, int start, int end) {
+        try {
+            return literalLength + (segments.length - 1) * writeName(name, start, end, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeTo(CharSequence name, OutputStream out) throws IOException {
+        writeTo(name, 0, name.length(), out);
+    }
+
+    /**
+     * Renders with the characters of {@code name} from {@code start} to {@code end} as the
+     * name, so a caller can trim it without copying.
+     */
+    public void writeTo(CharSequence name, int start, int end, OutputStream out) throws IOException {
+        out.write(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            writeName(name, start, end, out);
+            out.write(segments[i]);
+        }
+    }
+
+    public String render(CharSequence name) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length(name));
+        try {
+            writeTo(name, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Escapes and UTF-8 encodes {@code name} from {@code start} to {@code end} into
+     * {@code out}, or only counts the bytes when {@code out} is null.
+     */
+    private static int writeName(CharSequence name, int start, int end, OutputStream out) throws IOException {
+        int written = 0;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (c < 0x80) {
+                byte[] escape = ASCII_ESCAPES[c];
+                if (escape == null) {
+                    written++;
+                    if (out != null) {
+                        out.write(c);
+                    }
+                } else {
+                    written += escape.length;
+                    if (out != null) {
+                        out.write(escape);
+                    }
+                }
+                continue;
+            }
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(name.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, name.charAt(++i));
+            } else if (Character.isSurrogate(c)) {
+                codePoint = 0xfffd;
+            } else if (isDropped(c)) {
+                continue;
+            }
+            written += writeUtf8(codePoint, out);
+        }
+        return written;
+    }
+
+    /**
+     * C1 controls, directional marks and the embedding, override and isolate controls,
+     * which could reorder the text around the name.
+     */
+    private static boolean isDropped(char c) {
+        return c <= 0x9f
+                || c == '\u200e' || c == '\u200f'
+                || (c >= '\u202a' && c <= '\u202e')
+                || (c >= '\u2066' && c <= '\u2069');
+    }
+
+    private static int writeUtf8(int codePoint, OutputStream out) throws IOException {
+        if (codePoint < 0x800) {
+            if (out != null) {
+                out.write(0xc0 | codePoint >> 6);
+                out.write(0x80 | codePoint & 0x3f);
+            }
+            return 2;
+        }
+        if (codePoint < 0x10000) {
+            if (out != null) {
+                out.write(0xe0 | codePoint >> 12);
+                out.write(0x80 | codePoint >> 6 & 0x3f);
+                out.write(0x80 | codePoint & 0x3f);
+            }
+            return 3;
+        }
+        if (out != null) {
+            out.write(0xf0 | codePoint >> 18);
+            out.write(0x80 | codePoint >> 12 & 0x3f);
+            out.write(0x80 | codePoint >> 6 & 0x3f);
+            out.write(0x80 | codePoint & 0x3f);
+        }
+        return 4;
+    }
+
+    private static byte[] ascii(String escape) {
+        return escape.getBytes(StandardCharsets.US_ASCII);
+    }
+}
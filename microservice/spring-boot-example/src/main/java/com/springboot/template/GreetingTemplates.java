@@ -0,0 +1,49 @@
+package com.springboot.template;
+
+import com.springboot.service.GreetingCatalog;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compiled {@link GreetingTemplate}s for every catalog language, compiled once per
+ * catalog version. Personalized greetings are rendered from these rather than cached,
+ * since every name gives a different response.
+ */
+@Component
+public class GreetingTemplates {
+
+    private final GreetingCatalog catalog;
+    private volatile Snapshot snapshot;
+
+    public GreetingTemplates(GreetingCatalog catalog) {
+        this.catalog = catalog;
+        current();
+    }
+
+    /**
+     * Returns the template for a language, falling back to the default language like
+     * {@code GreetingService.getGreeting}.
+     */
+    public GreetingTemplate template(String language) {
+        Snapshot current = current();
+        GreetingTemplate template = current.templates.get(language);
+        return template != null ? template : current.defaultTemplate;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        String version = catalog.version();
+        if (current == null || !current.version.equals(version)) {
+            Map<String, GreetingTemplate> templates = new HashMap<>();
+            catalog.templates().forEach((language, source) -> templates.put(language, GreetingTemplate.compile(source)));
+            current = new Snapshot(version, Map.copyOf(templates), templates.get(catalog.defaultLanguage()));
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private record Snapshot(String version, Map<String, GreetingTemplate> templates, GreetingTemplate defaultTemplate) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.springboot.tenant;
+
+import com.springboot.config.TenantProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongFunction;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Tenant greeting overlays, held as one immutable map of immutable {@link TenantOverlay}s.
+ * Reads are a single volatile load; updates copy the map and swap it in, so a request
+ * never sees a half-applied change and never waits for a writer.
+ * <p>
+ * A request's overlay is resolved once and kept as a request attribute, so the cache key
+ * and the greeting it loads always come from the same snapshot. Every update gives the
+ * overlay a new generation, which is part of its cache keys, so a request still loading
+ * from the old snapshot cannot put an old override back under a key that is read.
+ */
+@Component
+public class TenantCatalogs {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantCatalogs.class);
+
+    private static final Pattern TENANT_ID = Pattern.compile(TenantProperties.TENANT_ID);
+    private static final String OVERLAY_ATTRIBUTE = TenantCatalogs.class.getName() + ".overlay";
+
+    private final String header;
+    private final Map<String, String> userTenants;
+    private final AtomicReference<Map<String, TenantOverlay>> overlays;
+    // Never reused, also across a tenant's overlay being removed and added again
+    private final AtomicLong generations = new AtomicLong();
+    private final CacheManager cacheManager;
+
+    public TenantCatalogs(TenantProperties properties, CacheManager cacheManager) {
+        this.header = properties.getHeader();
+        Map<String, String> userTenants = new HashMap<>();
+        Map<String, TenantOverlay> overlays = new HashMap<>();
+        properties.getOverlays().forEach((tenant, config) -> {
+            config.getUsers().forEach(user -> userTenants.put(user, tenant));
+            overlays.put(tenant, TenantOverlay.of(tenant, config.getGreetings()));
+        });
+        this.userTenants = Map.copyOf(userTenants);
+        this.overlays = new AtomicReference<>(Map.copyOf(overlays));
+        this.cacheManager = cacheManager;
+    }
+
+    public static boolean isTenantId(String tenant) {
+        return tenant != null && TENANT_ID.matcher(tenant).matches();
+    }
+
+    /**
+     * The overlay of the request bound to the current thread; an empty overlay outside
+     * requests, so background work always sees the base catalog.
+     */
+    public TenantOverlay current() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return overlay(attributes.getRequest());
+        }
+        return TenantOverlay.NONE;
+    }
+
+    /**
+     * The overlay of the tenant the request's principal belongs to or, for principals
+     * without one, of the tenant named by the tenant header.
+     */
+    public TenantOverlay overlay(HttpServletRequest request) {
+        if (request.getAttribute(OVERLAY_ATTRIBUTE) instanceof TenantOverlay overlay) {
+            return overlay;
+        }
+        String principal = request.getRemoteUser();
+        String tenant = principal != null ? userTenants.get(principal) : null;
+        if (tenant == null) {
+            tenant = request.getHeader(header);
+        }
+        TenantOverlay overlay = tenant != null ? overlays.get().getOrDefault(tenant, TenantOverlay.NONE)
+                : TenantOverlay.NONE;
+        request.setAttribute(OVERLAY_ATTRIBUTE, overlay);
+        return overlay;
+    }
+
+    public Map<String, TenantOverlay> overlays() {
+        return overlays.get();
+    }
+
+    public TenantOverlay putGreeting(String tenant, String language, String greeting) {
+        return update(tenant, language, generation -> overlay -> overlay.with(language, greeting, generation));
+    }
+
+    public TenantOverlay removeGreeting(String tenant, String language) {
+        return update(tenant, language, generation -> overlay -> overlay.without(language, generation));
+    }
+
+    private TenantOverlay update(String tenant, String language, LongFunction<UnaryOperator<TenantOverlay>> change) {
+        long generation = generations.incrementAndGet();
+        TenantOverlay[] replaced = new TenantOverlay[1];
+        Map<String, TenantOverlay> updated = overlays.updateAndGet(current -> {
+            Map<String, TenantOverlay> next = new HashMap<>(current);
+            replaced[0] = current.get(tenant);
+            TenantOverlay overlay = change.apply(generation)
+                .apply(current.getOrDefault(tenant, TenantOverlay.of(tenant, Map.of())));
+            if (overlay.isEmpty()) {
+                next.remove(tenant);
+            } else {
+                next.put(tenant, overlay);
+            }
+            return Map.copyOf(next);
+        });
+        // No longer read under the new generation; dropped rather than left to expire
+        Cache greetings = cacheManager.getCache("greetings");
+        if (greetings != null && replaced[0] != null
+                && replaced[0].cacheKey(language) instanceof TenantGreetingKey replacedKey) {
+            greetings.evict(replacedKey);
+        }
+        logger.info("Updated greeting overlay of tenant {} for language {}", tenant, language);
+        return updated.getOrDefault(tenant, TenantOverlay.of(tenant, Map.of()));
+    }
+}
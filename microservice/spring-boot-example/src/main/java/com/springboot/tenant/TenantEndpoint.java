@@ -0,0 +1,75 @@
+package com.springboot.tenant;
+
+import com.springboot.util.SecurityUtils;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tenant greeting overrides at {@code /actuator/tenants}: {@code GET} lists them,
+ * {@code POST /actuator/tenants/{tenant}/{lang}} with a {@code greeting} sets one and
+ * {@code DELETE} on the same path removes it. Changes apply to the next request.
+ */
+@Component
+@WebEndpoint(id = "tenants")
+public class TenantEndpoint {
+
+    static final int MAX_GREETING_LENGTH = 200;
+
+    private final TenantCatalogs tenantCatalogs;
+
+    public TenantEndpoint(TenantCatalogs tenantCatalogs) {
+        this.tenantCatalogs = tenantCatalogs;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, String>> overlays() {
+        Map<String, Map<String, String>> overlays = new TreeMap<>();
+        tenantCatalogs.overlays().forEach((tenant, overlay) -> overlays.put(tenant, new TreeMap<>(overlay.greetings())));
+        return overlays;
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, String>> put(@Selector String tenant, @Selector String lang,
+                                                        @Nullable String greeting) {
+        String error = validate(tenant, lang);
+        if (error == null && (greeting == null || greeting.isBlank() || greeting.length() > MAX_GREETING_LENGTH)) {
+            error = "Greeting must be 1 to " + MAX_GREETING_LENGTH + " characters";
+        }
+        if (error != null) {
+            return badRequest(error);
+        }
+        return new WebEndpointResponse<>(new TreeMap<>(tenantCatalogs.putGreeting(tenant, lang, greeting).greetings()));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Map<String, String>> remove(@Selector String tenant, @Selector String lang) {
+        String error = validate(tenant, lang);
+        if (error != null) {
+            return badRequest(error);
+        }
+        return new WebEndpointResponse<>(new TreeMap<>(tenantCatalogs.removeGreeting(tenant, lang).greetings()));
+    }
+
+    private static String validate(String tenant, String lang) {
+        if (!TenantCatalogs.isTenantId(tenant)) {
+            return "Invalid tenant id: " + tenant;
+        }
+        if (!SecurityUtils.isValidLanguageCode(lang)) {
+            return "Invalid language code: " + lang;
+        }
+        return null;
+    }
+
+    private static WebEndpointResponse<Map<String, String>> badRequest(String error) {
+        return new WebEndpointResponse<>(Map.of("error", error), WebEndpointResponse.STATUS_BAD_REQUEST);
+    }
+}
@@ -0,0 +1,9 @@
+package com.springboot.tenant;
+
+/**
+ * {@code greetings} cache key of a greeting a tenant overrides; base greetings are keyed
+ * by their language alone. The generation is the overlay's, so a load that started before
+ * an update caches under a key later requests no longer read.
+ */
+public record TenantGreetingKey(String tenant, String language, long generation) {
+}
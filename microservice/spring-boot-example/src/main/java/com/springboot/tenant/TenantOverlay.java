@@ -0,0 +1,89 @@
+package com.springboot.tenant;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * One tenant's greeting overrides, layered over the base catalog. Immutable: updates
+ * return a new overlay, so a request reads one consistent snapshot without locking.
+ */
+public final class TenantOverlay {
+
+    static final TenantOverlay NONE = new TenantOverlay(null, Map.of(), 0);
+
+    private final String tenant;
+    private final Map<String, String> greetings;
+    private final long generation;
+
+    private TenantOverlay(String tenant, Map<String, String> greetings, long generation) {
+        this.tenant = tenant;
+        this.greetings = greetings;
+        this.generation = generation;
+    }
+
+    static TenantOverlay of(String tenant, Map<String, String> greetings) {
+        return of(tenant, greetings, 0);
+    }
+
+    static TenantOverlay of(String tenant, Map<String, String> greetings, long generation) {
+        return new TenantOverlay(tenant, Map.copyOf(greetings), generation);
+    }
+
+    /**
+     * The tenant id, or {@code null} for requests without an overlay.
+     */
+    public String tenant() {
+        return tenant;
+    }
+
+    public Map<String, String> greetings() {
+        return greetings;
+    }
+
+    public boolean isEmpty() {
+        return greetings.isEmpty();
+    }
+
+    /**
+     * Returns the tenant's greeting for a language, or {@code null} to use the base catalog.
+     */
+    public String greeting(String language) {
+        return greetings.get(language);
+    }
+
+    /**
+     * Cache key for a language: the bare language for base greetings, which every tenant
+     * shares, and a {@link TenantGreetingKey} only for greetings this tenant overrides.
+     */
+    public Object cacheKey(String language) {
+        return greetings.containsKey(language) ? new TenantGreetingKey(tenant, language, generation) : language;
+    }
+
+    /**
+     * Returns the base catalog with this tenant's greetings laid over it; the base itself
+     * when nothing is overridden.
+     */
+    public SortedMap<String, String> apply(SortedMap<String, String> base) {
+        if (greetings.isEmpty()) {
+            return base;
+        }
+        SortedMap<String, String> merged = new TreeMap<>(base);
+        merged.putAll(greetings);
+        return Collections.unmodifiableSortedMap(merged);
+    }
+
+    TenantOverlay with(String language, String greeting, long generation) {
+        Map<String, String> next = new HashMap<>(greetings);
+        next.put(language, greeting);
+        return of(tenant, next, generation);
+    }
+
+    TenantOverlay without(String language, long generation) {
+        Map<String, String> next = new HashMap<>(greetings);
+        next.remove(language);
+        return of(tenant, next, generation);
+    }
+}
@@ -0,0 +1,58 @@
+package com.springboot.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Clock whose formatted timestamp is recomputed at most once per resolution
+ * interval, so hot paths can stamp responses without formatting a
+ * {@link LocalDateTime} on every call.
+ */
+public final class CoarseClock {
+
+    private final Clock clock;
+    private final long resolutionMillis;
+    private volatile Tick current;
+
+    public CoarseClock(Clock clock, Duration resolution) {
+        if (resolution.toMillis() < 1) {
+            throw new IllegalArgumentException("Resolution must be at least 1 ms");
+        }
+        this.clock = clock;
+        this.resolutionMillis = resolution.toMillis();
+        this.current = newTick(clock.millis());
+    }
+
+    public Tick tick() {
+        long now = clock.millis();
+        Tick tick = current;
+        if (now >= tick.epochMillis() && now - tick.epochMillis() < resolutionMillis) {
+            return tick;
+        }
+        // Racing threads may both format the same bucket; the result is identical
+        tick = newTick(now);
+        current = tick;
+        return tick;
+    }
+
+    /**
+     * Returns the UTF-8 form of a timestamp, reusing the cached bytes when the
+     * text is the one handed out by the current tick.
+     */
+    public byte[] utf8(String timestamp) {
+        Tick tick = current;
+        return tick.text() == timestamp ? tick.utf8() : timestamp.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Tick newTick(long now) {
+        long bucket = now - Math.floorMod(now, resolutionMillis);
+        String text = LocalDateTime.ofInstant(Instant.ofEpochMilli(bucket), clock.getZone()).toString();
+        return new Tick(bucket, text, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public record Tick(long epochMillis, String text, byte[] utf8) {
+    }
+}
@@ -20,10 +20,20 @@ public class SecurityUtils {
     };
 
     public static String getClientIP(HttpServletRequest request) {
+        String ip = getRawClientIP(request);
+        int comma = ip.indexOf(',');
+        return (comma < 0 ? ip : ip.substring(0, comma)).trim();
+    }
+
+    /**
+     * Returns the header value {@link #getClientIP} takes the client from, untrimmed and
+     * possibly a comma-separated proxy chain, or the remote address. Does not allocate.
+     */
+    public static String getRawClientIP(HttpServletRequest request) {
         for (String header : IP_HEADER_CANDIDATES) {
             String ip = request.getHeader(header);
             if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
-                return ip.split(",")[0].trim();
+                return ip;
             }
         }
         return request.getRemoteAddr();
@@ -0,0 +1,129 @@
+package com.springboot.web;
+
+import java.util.Collection;
+
+/**
+ * Picks the best supported language for an {@code Accept-Language} header without
+ * allocating: the header is scanned in place and supported two-letter codes are looked
+ * up in a 26×26 table, so the returned string is always one of the catalog's own.
+ * <p>
+ * Ranges are weighed by their q-value (the first wins a tie, {@code q=0} never
+ * matches). A region or script subtag falls back to its primary language, so
+ * {@code pt-BR} picks {@code pt}; {@code *}, or nothing supported, picks the default.
+ * Malformed q-values drop their range.
+ */
+public final class AcceptLanguageTable {
+
+    private static final int MAX_QUALITY = 1000;
+
+    private final String[] codes = new String[26 * 26];
+    private final String defaultLanguage;
+
+    public AcceptLanguageTable(Collection<String> supported, String defaultLanguage) {
+        for (String code : supported) {
+            if (code.length() == 2 && isLetter(code.charAt(0)) && isLetter(code.charAt(1))) {
+                codes[index(code.charAt(0), code.charAt(1))] = code;
+            }
+        }
+        this.defaultLanguage = defaultLanguage;
+    }
+
+    public String defaultLanguage() {
+        return defaultLanguage;
+    }
+
+    public String negotiate(String header) {
+        String best = null;
+        int bestQuality = 0;
+        int length = header.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && isSeparator(header.charAt(i))) {
+                i++;
+            }
+            int tagStart = i;
+            while (i < length && !isSeparator(header.charAt(i)) && header.charAt(i) != ';') {
+                i++;
+            }
+            int tagEnd = i;
+            int quality = MAX_QUALITY;
+            while (i < length && header.charAt(i) != ',') {
+                if (header.charAt(i) == ';') {
+                    int parameter = skipWhitespace(header, i + 1);
+                    if (parameter + 1 < length && (header.charAt(parameter) | 0x20) == 'q'
+                            && header.charAt(parameter + 1) == '=') {
+                        quality = quality(header, parameter + 2);
+                    }
+                }
+                i++;
+            }
+            if (quality > bestQuality) {
+                String candidate = match(header, tagStart, tagEnd);
+                if (candidate != null) {
+                    best = candidate;
+                    bestQuality = quality;
+                }
+            }
+        }
+        return best != null ? best : defaultLanguage;
+    }
+
+    private String match(String header, int start, int end) {
+        if (end - start == 1 && header.charAt(start) == '*') {
+            return defaultLanguage;
+        }
+        boolean primaryOnly = end - start == 2 || (end - start > 2 && header.charAt(start + 2) == '-');
+        if (!primaryOnly || !isLetter(header.charAt(start)) || !isLetter(header.charAt(start + 1))) {
+            return null;
+        }
+        return codes[index(header.charAt(start), header.charAt(start + 1))];
+    }
+
+    /**
+     * Parses {@code 0}, {@code 1} or either with up to three decimals, as thousandths;
+     * -1 for anything else.
+     */
+    private static int quality(String header, int start) {
+        int length = header.length();
+        if (start >= length || (header.charAt(start) != '0' && header.charAt(start) != '1')) {
+            return -1;
+        }
+        int value = (header.charAt(start) - '0') * MAX_QUALITY;
+        int i = start + 1;
+        if (i < length && header.charAt(i) == '.') {
+            int scale = MAX_QUALITY / 10;
+            for (i++; i < length && header.charAt(i) >= '0' && header.charAt(i) <= '9'; i++) {
+                if (scale == 0) {
+                    return -1;
+                }
+                value += (header.charAt(i) - '0') * scale;
+                scale /= 10;
+            }
+        }
+        i = skipWhitespace(header, i);
+        if (value > MAX_QUALITY || (i < length && header.charAt(i) != ',' && header.charAt(i) != ';')) {
+            return -1;
+        }
+        return value;
+    }
+
+    private static int skipWhitespace(String header, int i) {
+        while (i < header.length() && (header.charAt(i) == ' ' || header.charAt(i) == '\t')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ',' || c == ' ' || c == '\t';
+    }
+
+    private static boolean isLetter(char c) {
+        char lower = (char) (c | 0x20);
+        return lower >= 'a' && lower <= 'z';
+    }
+
+    private static int index(char first, char second) {
+        return ((first | 0x20) - 'a') * 26 + ((second | 0x20) - 'a');
+    }
+}
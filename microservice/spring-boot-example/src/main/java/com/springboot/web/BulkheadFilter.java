@@ -0,0 +1,148 @@
+package com.springboot.web;
+
+import com.springboot.exception.ErrorBodies;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.util.CoarseClock;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps the requests each greeting endpoint may have in progress, so one slow or hot
+ * endpoint cannot take every request thread (or every backend call) from the others.
+ * Each partition has its own limit; a request that finds its partition full is refused
+ * with 503 and {@code Retry-After} instead of queueing. Asynchronous requests hold
+ * their permit until they complete.
+ */
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkheadFilter.class);
+
+    static final String V2_PREFIX = "/api/v2/";
+
+    /**
+     * Concurrent requests allowed per partition: {@code /}, {@code /async},
+     * {@code /languages}, {@code /languages/search} and {@code /api/v2/**}.
+     */
+    public record Limits(int greeting, int async, int languages, int search, int v2) {
+    }
+
+    private final Map<String, Partition> partitions;
+    private final Partition v2;
+    private final GreetingMetrics greetingMetrics;
+    private final ErrorBodies errorBodies;
+    private final RejectionLog rejectionLog;
+
+    public BulkheadFilter(Limits limits, GreetingMetrics greetingMetrics, ErrorBodies errorBodies,
+                          CoarseClock clock) {
+        this.partitions = Map.of(
+                "/", new Partition("greeting", limits.greeting()),
+                "/async", new Partition("async", limits.async()),
+                "/languages", new Partition("languages", limits.languages()),
+                "/languages/search", new Partition("search", limits.search()));
+        this.v2 = new Partition("v2", limits.v2());
+        this.greetingMetrics = greetingMetrics;
+        this.errorBodies = errorBodies;
+        this.rejectionLog = new RejectionLog(logger, clock, 1000);
+        partitions.values().forEach(this::bind);
+        bind(v2);
+    }
+
+    private void bind(Partition partition) {
+        greetingMetrics.bindBulkhead(partition.name, partition.limit, partition::inUse);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return partition(RequestPaths.pathWithinApplication(request)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Partition partition = partition(RequestPaths.pathWithinApplication(request));
+        if (!partition.permits.tryAcquire()) {
+            rejectionLog.rejected("Bulkhead full for partition: {}", partition.name);
+            greetingMetrics.incrementBulkheadRejected(partition.name);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            RateLimitFilter.writeError(response, HttpStatus.SERVICE_UNAVAILABLE, errorBodies.bulkheadFull());
+            return;
+        }
+        boolean released = true;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(partition));
+                released = false;
+            }
+        } finally {
+            if (released) {
+                partition.permits.release();
+            }
+        }
+    }
+
+    private Partition partition(String path) {
+        Partition partition = partitions.get(path);
+        if (partition == null && path.startsWith(V2_PREFIX)) {
+            return v2;
+        }
+        return partition;
+    }
+
+    private static final class Partition {
+
+        private final String name;
+        private final int limit;
+        private final Semaphore permits;
+
+        Partition(String name, int limit) {
+            if (limit < 1) {
+                throw new IllegalArgumentException("Bulkhead limit for " + name + " must be positive");
+            }
+            this.name = name;
+            this.limit = limit;
+            this.permits = new Semaphore(limit);
+        }
+
+        int inUse() {
+            return limit - permits.availablePermits();
+        }
+    }
+
+    /**
+     * onComplete also follows timeouts and errors, so it is the only place the permit
+     * of an asynchronous request is returned.
+     */
+    private record ReleaseOnComplete(Partition partition) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            partition.permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
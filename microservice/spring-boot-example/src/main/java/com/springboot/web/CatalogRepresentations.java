@@ -0,0 +1,97 @@
+package com.springboot.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.springboot.model.ApiInfo;
+import com.springboot.service.GreetingCatalog;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-encoded bodies and strong ETags for the responses that only change with the
+ * greeting catalog: {@code /languages}, {@code /api/v2/info} and {@code /?lang=xx}.
+ * <p>
+ * Everything is rebuilt once per catalog version. Bodies are produced with the same
+ * {@link ObjectMapper} the MVC converters use, so they match what the controllers
+ * write byte for byte and the ETags are valid strong validators.
+ */
+@Component
+public class CatalogRepresentations {
+
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    private final GreetingCatalog catalog;
+    private final ObjectMapper objectMapper;
+    private volatile Snapshot snapshot;
+
+    public CatalogRepresentations(GreetingCatalog catalog, ObjectMapper objectMapper) {
+        this.catalog = catalog;
+        this.objectMapper = objectMapper;
+    }
+
+    public Representation languages() {
+        return current().languages;
+    }
+
+    public Representation apiInfo() {
+        return current().apiInfo;
+    }
+
+    /**
+     * Returns the plain-text greeting for a valid language code, falling back to the
+     * default language exactly like {@code GreetingService.getGreeting}.
+     */
+    public Representation greeting(String language) {
+        Snapshot current = current();
+        return current.greetings.getOrDefault(language, current.defaultGreeting);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        String version = catalog.version();
+        if (current == null || !current.version.equals(version)) {
+            current = new Snapshot(version);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Representation json(String version, Object value) {
+        try {
+            return representation(version, objectMapper.writeValueAsBytes(value), MediaType.APPLICATION_JSON);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to pre-encode " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static Representation representation(String version, byte[] body, MediaType contentType) {
+        String etag = "\"" + version + "-" + Hashing.murmur3_32_fixed().hashBytes(body) + "\"";
+        return new Representation(body, etag, contentType);
+    }
+
+    public record Representation(byte[] body, String etag, MediaType contentType) {
+    }
+
+    private final class Snapshot {
+
+        private final String version;
+        private final Representation languages;
+        private final Representation apiInfo;
+        private final Map<String, Representation> greetings = new HashMap<>();
+        private final Representation defaultGreeting;
+
+        private Snapshot(String version) {
+            this.version = version;
+            this.languages = json(version, catalog.greetings());
+            this.apiInfo = json(version, ApiInfo.V2);
+            catalog.greetings().forEach((language, greeting) -> greetings.put(language,
+                    representation(version, greeting.getBytes(StandardCharsets.UTF_8), TEXT_PLAIN_UTF8)));
+            this.defaultGreeting = greetings.get(catalog.defaultLanguage());
+        }
+    }
+}
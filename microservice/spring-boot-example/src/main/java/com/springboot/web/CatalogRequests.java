@@ -0,0 +1,40 @@
+package com.springboot.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Recognizes requests whose response is fully determined by the greeting catalog.
+ */
+final class CatalogRequests {
+
+    private static final Pattern LANGUAGE_CODE = Pattern.compile("^[a-z]{2}$");
+
+    private CatalogRequests() {
+    }
+
+    /**
+     * Returns the language of a greeting request that carries nothing but an optional,
+     * valid {@code lang} parameter, or {@code null} for any other request. Without
+     * {@code lang} the language is negotiated, as the controllers do.
+     */
+    static String greetingLanguage(HttpServletRequest request, HttpServletResponse response,
+                                   LanguageNegotiator negotiator) {
+        Map<String, String[]> parameters = request.getParameterMap();
+        if (parameters.isEmpty()) {
+            return negotiator.language(null, request, response);
+        }
+        String[] values = parameters.get("lang");
+        if (parameters.size() != 1 || values == null || values.length != 1) {
+            return null;
+        }
+        return LANGUAGE_CODE.matcher(values[0]).matches() ? values[0] : null;
+    }
+
+    static boolean hasParameters(HttpServletRequest request) {
+        return !request.getParameterMap().isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package com.springboot.web;
+
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.tenant.TenantCatalogs;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Answers conditional GETs for catalog-derived responses before controller dispatch.
+ * <p>
+ * Matching requests get a strong {@code ETag} and a private {@code Cache-Control}, since
+ * every response needs credentials: the client may revalidate, shared caches must not
+ * store it. An {@code If-None-Match} hit is answered with
+ * 304 Not Modified without touching the controller. Anything the filter cannot map to
+ * a pre-encoded representation (extra parameters, invalid language codes, a
+ * non-default media type, a tenant with greeting overrides) passes through unchanged.
+ */
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    private static final Set<String> CONDITIONAL_PATHS = Set.of("/", "/languages", "/api/v2/info");
+
+    private final CatalogRepresentations representations;
+    private final LanguageNegotiator negotiator;
+    private final TenantCatalogs tenantCatalogs;
+    private final GreetingMetrics greetingMetrics;
+    private final String cacheControl;
+
+    public ConditionalGetFilter(CatalogRepresentations representations, LanguageNegotiator negotiator,
+                                TenantCatalogs tenantCatalogs, GreetingMetrics greetingMetrics,
+                                CacheControl cacheControl) {
+        this.representations = representations;
+        this.negotiator = negotiator;
+        this.tenantCatalogs = tenantCatalogs;
+        this.greetingMetrics = greetingMetrics;
+        this.cacheControl = cacheControl.getHeaderValue();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !CONDITIONAL_PATHS.contains(RequestPaths.pathWithinApplication(request))
+                || !tenantCatalogs.overlay(request).isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = RequestPaths.pathWithinApplication(request);
+        CatalogRepresentations.Representation representation = select(path, request, response);
+        if (representation == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        boolean conditional = request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+        if (new ServletWebRequest(request, response).checkNotModified(representation.etag())) {
+            greetingMetrics.recordConditionalRequest(path, true, representation.body().length);
+            return;
+        }
+        if (conditional) {
+            greetingMetrics.recordConditionalRequest(path, false, 0);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private CatalogRepresentations.Representation select(String path, HttpServletRequest request,
+                                                         HttpServletResponse response) {
+        if ("/".equals(path)) {
+            String language = CatalogRequests.greetingLanguage(request, response, negotiator);
+            if (language == null || !prefers(request, MediaType.TEXT_PLAIN)) {
+                return null;
+            }
+            return representations.greeting(language);
+        }
+        if (CatalogRequests.hasParameters(request) || !prefers(request, MediaType.APPLICATION_JSON)) {
+            return null;
+        }
+        return "/languages".equals(path) ? representations.languages() : representations.apiInfo();
+    }
+
+    /**
+     * Whether content negotiation would pick {@code mediaType}: true when the client
+     * sends no Accept header, or when an accepted type including it comes before any
+     * other concrete type. {@code application/octet-stream} is skipped since generic
+     * HTTP clients list it for raw byte responses.
+     */
+    public static boolean prefers(HttpServletRequest request, MediaType mediaType) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(accepted);
+            for (MediaType candidate : accepted) {
+                if (candidate.getQualityValue() == 0) {
+                    continue;
+                }
+                if (candidate.includes(mediaType)) {
+                    return true;
+                }
+                if (candidate.isConcrete() && !MediaType.APPLICATION_OCTET_STREAM.equalsTypeAndSubtype(candidate)) {
+                    return false;
+                }
+            }
+            return false;
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+}
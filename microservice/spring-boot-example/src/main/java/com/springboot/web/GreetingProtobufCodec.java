@@ -0,0 +1,61 @@
+package com.springboot.web;
+
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.springboot.model.GreetingV2Response;
+import com.springboot.model.LanguageCatalog;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Protobuf encoding of the v2 payloads, driven by the shipped
+ * {@code schema/greeting_v2.proto} rather than generated classes.
+ */
+public class GreetingProtobufCodec {
+
+    public static final String SCHEMA_LOCATION = "schema/greeting_v2.proto";
+
+    private final ProtobufMapper mapper = new ProtobufMapper();
+    private final ProtobufSchema greetingSchema;
+    private final ProtobufSchema catalogSchema;
+
+    public GreetingProtobufCodec() {
+        try (InputStream in = new ClassPathResource(SCHEMA_LOCATION).getInputStream()) {
+            NativeProtobufSchema schema = ProtobufSchemaLoader.std.loadNative(in, true);
+            this.greetingSchema = schema.forType("GreetingV2Response");
+            this.catalogSchema = schema.forType("LanguageCatalog");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load " + SCHEMA_LOCATION, e);
+        }
+    }
+
+    public void write(GreetingV2Response response, OutputStream out) throws IOException {
+        mapper.writer(greetingSchema).writeValue(out, response);
+    }
+
+    public void write(LanguageCatalog catalog, OutputStream out) throws IOException {
+        mapper.writer(catalogSchema).writeValue(out, catalog);
+    }
+
+    public byte[] encode(GreetingV2Response response) throws IOException {
+        return mapper.writer(greetingSchema).writeValueAsBytes(response);
+    }
+
+    public byte[] encode(LanguageCatalog catalog) throws IOException {
+        return mapper.writer(catalogSchema).writeValueAsBytes(catalog);
+    }
+
+    public GreetingV2Response decodeGreeting(byte[] bytes) throws IOException {
+        return mapper.readerFor(GreetingV2Response.class).with(greetingSchema).readValue(bytes);
+    }
+
+    public LanguageCatalog decodeCatalog(byte[] bytes) throws IOException {
+        return mapper.readerFor(LanguageCatalog.class).with(catalogSchema).readValue(bytes);
+    }
+}
@@ -0,0 +1,74 @@
+package com.springboot.web;
+
+import com.springboot.model.GreetingV2Response;
+import com.springboot.model.LanguageCatalog;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Writes the v2 greeting and the {@code /languages} map as {@code application/x-protobuf}
+ * using {@link GreetingProtobufCodec}. Read support is intentionally absent.
+ */
+public class GreetingProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.valueOf("application/x-protobuf");
+
+    private final GreetingProtobufCodec codec;
+
+    public GreetingProtobufHttpMessageConverter(GreetingProtobufCodec codec) {
+        super(APPLICATION_PROTOBUF);
+        this.codec = codec;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return GreetingV2Response.class == clazz || Map.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (GreetingV2Response.class == clazz) {
+            return true;
+        }
+        // Only the Map<String, String> catalog has a schema; other maps fall through
+        ResolvableType resolved = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        return resolved.isAssignableFrom(ResolvableType.forClassWithGenerics(Map.class, String.class, String.class))
+                && resolved.hasGenerics();
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf payloads are write-only", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf payloads are write-only", inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (body instanceof GreetingV2Response response) {
+            codec.write(response, outputMessage.getBody());
+        } else {
+            codec.write(LanguageCatalog.of((Map<String, String>) body), outputMessage.getBody());
+        }
+    }
+}
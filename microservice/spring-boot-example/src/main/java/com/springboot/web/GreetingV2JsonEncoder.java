@@ -0,0 +1,158 @@
+package com.springboot.web;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.model.GreetingV2Response;
+import com.springboot.util.CoarseClock;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Writes {@link GreetingV2Response} as JSON from pre-encoded UTF-8 fragments.
+ * <p>
+ * Everything except the timestamp and the client IP is fixed per language and message,
+ * so it is encoded once and cached under both; tenant overrides get their own entries
+ * rather than replacing the catalog greeting's. Each response only splices those two
+ * values in. The output is byte-for-byte what Jackson produces for the record.
+ */
+@Component
+public class GreetingV2JsonEncoder {
+
+    private static final byte[] NULL_LITERAL = "null".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "}}".getBytes(StandardCharsets.UTF_8);
+    // Languages times tenant overrides; bounded since backend greetings may change over time
+    private static final int MAX_CACHED_FRAGMENTS = 1024;
+
+    private final CoarseClock clock;
+    private final Cache<FragmentsKey, Fragments> fragments =
+            Caffeine.newBuilder().maximumSize(MAX_CACHED_FRAGMENTS).build();
+
+    public GreetingV2JsonEncoder(CoarseClock clock) {
+        this.clock = clock;
+    }
+
+    public byte[] encode(GreetingV2Response response) {
+        Fragments fragments = fragmentsFor(response);
+        byte[] timestamp = response.timestamp() == null ? null : clock.utf8(response.timestamp());
+        byte[] clientIP = quote(response.metadata().clientIP());
+
+        int length = fragments.head.length + fragments.middle.length + clientIP.length + SUFFIX.length
+                + (timestamp == null ? NULL_LITERAL.length : timestamp.length + 2);
+        byte[] out = new byte[length];
+        int pos = put(out, 0, fragments.head);
+        if (timestamp == null) {
+            pos = put(out, pos, NULL_LITERAL);
+        } else {
+            out[pos++] = '"';
+            pos = put(out, pos, timestamp);
+            out[pos++] = '"';
+        }
+        pos = put(out, pos, fragments.middle);
+        pos = put(out, pos, clientIP);
+        put(out, pos, SUFFIX);
+        return out;
+    }
+
+    Fragments fragmentsFor(GreetingV2Response response) {
+        FragmentsKey key = new FragmentsKey(response.language(), response.message());
+        Fragments cached = fragments.getIfPresent(key);
+        if (cached == null || !cached.matches(response)) {
+            cached = new Fragments(response);
+            fragments.put(key, cached);
+        }
+        return cached;
+    }
+
+    private static byte[] quote(String value) {
+        if (value == null) {
+            return NULL_LITERAL;
+        }
+        int length = value.length();
+        byte[] bytes = new byte[length + 2];
+        bytes[0] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7e || c == '"' || c == '\\') {
+                return quoteSlow(value);
+            }
+            bytes[i + 1] = (byte) c;
+        }
+        bytes[length + 1] = '"';
+        return bytes;
+    }
+
+    private static byte[] quoteSlow(String value) {
+        byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(value);
+        byte[] bytes = new byte[escaped.length + 2];
+        bytes[0] = '"';
+        System.arraycopy(escaped, 0, bytes, 1, escaped.length);
+        bytes[bytes.length - 1] = '"';
+        return bytes;
+    }
+
+    private static int put(byte[] target, int pos, byte[] source) {
+        System.arraycopy(source, 0, target, pos, source.length);
+        return pos + source.length;
+    }
+
+    private record FragmentsKey(String language, String message) {
+    }
+
+    static final class Fragments {
+
+        private final String message;
+        private final String version;
+        private final boolean isSupported;
+        private final int characterCount;
+        private final String encoding;
+        private final byte[] head;
+        private final byte[] middle;
+
+        private Fragments(GreetingV2Response response) {
+            GreetingV2Response.Metadata metadata = response.metadata();
+            this.message = response.message();
+            this.version = response.version();
+            this.isSupported = metadata.isSupported();
+            this.characterCount = metadata.characterCount();
+            this.encoding = metadata.encoding();
+
+            ByteArrayOutputStream head = new ByteArrayOutputStream(64);
+            write(head, "{\"message\":");
+            writeQuoted(head, message);
+            write(head, ",\"language\":");
+            writeQuoted(head, response.language());
+            write(head, ",\"timestamp\":");
+            this.head = head.toByteArray();
+
+            ByteArrayOutputStream middle = new ByteArrayOutputStream(96);
+            write(middle, ",\"version\":");
+            writeQuoted(middle, version);
+            write(middle, ",\"metadata\":{\"isSupported\":" + isSupported
+                    + ",\"characterCount\":" + characterCount + ",\"encoding\":");
+            writeQuoted(middle, encoding);
+            write(middle, ",\"clientIP\":");
+            this.middle = middle.toByteArray();
+        }
+
+        private boolean matches(GreetingV2Response response) {
+            GreetingV2Response.Metadata metadata = response.metadata();
+            return isSupported == metadata.isSupported()
+                    && characterCount == metadata.characterCount()
+                    && Objects.equals(message, response.message())
+                    && Objects.equals(version, response.version())
+                    && Objects.equals(encoding, metadata.encoding());
+        }
+
+        private static void write(ByteArrayOutputStream out, String ascii) {
+            out.writeBytes(ascii.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static void writeQuoted(ByteArrayOutputStream out, String value) {
+            out.writeBytes(value == null ? NULL_LITERAL : quoteSlow(value));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.springboot.web;
+
+import com.springboot.model.GreetingV2Response;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link GreetingV2Response} bodies through {@link GreetingV2JsonEncoder}
+ * instead of reflective Jackson serialization. Registered ahead of the Jackson
+ * converter; read support is intentionally absent.
+ */
+public class GreetingV2JsonHttpMessageConverter extends AbstractHttpMessageConverter<GreetingV2Response> {
+
+    private final GreetingV2JsonEncoder encoder;
+
+    public GreetingV2JsonHttpMessageConverter(GreetingV2JsonEncoder encoder) {
+        super(MediaType.APPLICATION_JSON);
+        this.encoder = encoder;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return GreetingV2Response.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected GreetingV2Response readInternal(Class<? extends GreetingV2Response> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("GreetingV2Response is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(GreetingV2Response response, HttpOutputMessage outputMessage) throws IOException {
+        byte[] body = encoder.encode(response);
+        outputMessage.getHeaders().setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+}
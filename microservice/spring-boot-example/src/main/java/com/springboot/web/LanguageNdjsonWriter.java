@@ -0,0 +1,49 @@
+package com.springboot.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Writes catalog entries as newline-delimited JSON, one {@code {"code":..,"greeting":..}}
+ * object per line, straight from the sorted catalog to the response stream. Nothing
+ * proportional to the catalog is built first; the first line is flushed as soon as it
+ * is written and the rest go out as the output buffer fills.
+ */
+@Component
+public class LanguageNdjsonWriter {
+
+    private final JsonFactory jsonFactory;
+
+    public LanguageNdjsonWriter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public StreamingResponseBody body(SortedMap<String, String> entries, int limit) {
+        return outputStream -> {
+            try (JsonGenerator generator = jsonFactory.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                int written = 0;
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    if (written == limit) {
+                        break;
+                    }
+                    generator.writeStartObject();
+                    generator.writeStringField("code", entry.getKey());
+                    generator.writeStringField("greeting", entry.getValue());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                    if (written++ == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.springboot.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.service.GreetingCatalog;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chooses the greeting language when a request has no {@code lang} parameter, from its
+ * {@code Accept-Language} header.
+ * <p>
+ * Real traffic carries a few hundred distinct header values, so each resolution is
+ * remembered in a bounded cache keyed by the raw header. The table and its cache belong
+ * to one catalog version and are replaced together when the version changes, so a
+ * resolution made against an older table can never land in the new cache. Headers longer
+ * than {@value #MAX_CACHED_HEADER_LENGTH} characters are parsed every time rather than cached.
+ */
+@Component
+public class LanguageNegotiator {
+
+    static final int MAX_CACHED_HEADER_LENGTH = 256;
+
+    private final GreetingCatalog catalog;
+    private final long cacheSize;
+    private volatile Snapshot snapshot;
+
+    public LanguageNegotiator(GreetingCatalog catalog,
+                              @Value("${app.greeting.accept-language-cache-size:1000}") long cacheSize) {
+        this.catalog = catalog;
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Returns {@code requested} when it is present; otherwise negotiates the language and
+     * marks the response as varying by {@code Accept-Language}.
+     */
+    public String language(String requested, HttpServletRequest request, HttpServletResponse response) {
+        if (requested != null && !requested.isEmpty()) {
+            return requested;
+        }
+        varyByAcceptLanguage(response);
+        return resolve(request.getHeader(HttpHeaders.ACCEPT_LANGUAGE));
+    }
+
+    /**
+     * Returns the best supported language for an {@code Accept-Language} value, or the
+     * catalog's default language when the header is missing or matches nothing.
+     */
+    public String resolve(String acceptLanguage) {
+        Snapshot current = current();
+        AcceptLanguageTable table = current.table;
+        if (acceptLanguage == null || acceptLanguage.isEmpty()) {
+            return table.defaultLanguage();
+        }
+        if (acceptLanguage.length() > MAX_CACHED_HEADER_LENGTH) {
+            return table.negotiate(acceptLanguage);
+        }
+        String language = current.resolved.getIfPresent(acceptLanguage);
+        if (language == null) {
+            language = table.negotiate(acceptLanguage);
+            current.resolved.put(acceptLanguage, language);
+        }
+        return language;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        String version = catalog.version();
+        if (current == null || !current.version.equals(version)) {
+            current = new Snapshot(version,
+                    new AcceptLanguageTable(catalog.greetings().keySet(), catalog.defaultLanguage()),
+                    Caffeine.newBuilder().maximumSize(cacheSize).build());
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private static void varyByAcceptLanguage(HttpServletResponse response) {
+        for (String vary : response.getHeaders(HttpHeaders.VARY)) {
+            if (vary.contains(HttpHeaders.ACCEPT_LANGUAGE)) {
+                return;
+            }
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+    }
+
+    private record Snapshot(String version, AcceptLanguageTable table, Cache<String, String> resolved) {
+    }
+}
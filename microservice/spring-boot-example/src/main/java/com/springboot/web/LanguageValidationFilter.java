@@ -0,0 +1,62 @@
+package com.springboot.web;
+
+import com.springboot.exception.ErrorBodies;
+import com.springboot.util.CoarseClock;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Rejects malformed {@code lang} parameters on the greeting endpoints before MVC
+ * dispatch, mirroring the controllers' {@code @Pattern}/{@code @Size} constraints.
+ * Bean validation reports failures by throwing {@code ConstraintViolationException};
+ * this answers the common case from a pre-encoded body instead. Anything it does not
+ * recognize (repeated parameters, empty values) is left to the controller.
+ */
+public class LanguageValidationFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LanguageValidationFilter.class);
+
+    static final Set<String> VALIDATED_PATHS = Set.of("/", "/async", "/api/v2/greeting");
+
+    private final ErrorBodies errorBodies;
+    private final RejectionLog rejectionLog;
+
+    public LanguageValidationFilter(ErrorBodies errorBodies, CoarseClock clock) {
+        this.errorBodies = errorBodies;
+        this.rejectionLog = new RejectionLog(logger, clock, 1000);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !VALIDATED_PATHS.contains(RequestPaths.pathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String[] values = request.getParameterValues("lang");
+        if (values != null && values.length == 1 && !values[0].isEmpty() && !isLanguageCode(values[0])) {
+            rejectionLog.rejected("Invalid language code rejected: {}", values[0]);
+            RateLimitFilter.writeError(response, HttpStatus.BAD_REQUEST, errorBodies.invalidLanguage(values[0]));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    static boolean isLanguageCode(String value) {
+        return value.length() == 2 && isLowercase(value.charAt(0)) && isLowercase(value.charAt(1));
+    }
+
+    private static boolean isLowercase(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+}
@@ -0,0 +1,75 @@
+package com.springboot.web;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.springboot.exception.ErrorBodies;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.profiling.RateLimitRejectedEvent;
+import com.springboot.util.CoarseClock;
+import com.springboot.util.SecurityUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Applies the shared {@link RateLimiter} to the greeting endpoints before any other
+ * application filter, so responses served without reaching a controller (such as
+ * 304 Not Modified) are still rate limited. Rejections are written directly from
+ * pre-encoded bodies; no exception is created on this path.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    static final Set<String> RATE_LIMITED_PATHS = Set.of("/", "/async", "/languages", "/languages/search",
+            "/languages/events", "/api/v2/greeting");
+
+    private final RateLimiter rateLimiter;
+    private final GreetingMetrics greetingMetrics;
+    private final ErrorBodies errorBodies;
+    private final RejectionLog rejectionLog;
+
+    public RateLimitFilter(RateLimiter rateLimiter, GreetingMetrics greetingMetrics,
+                           ErrorBodies errorBodies, CoarseClock clock) {
+        this.rateLimiter = rateLimiter;
+        this.greetingMetrics = greetingMetrics;
+        this.errorBodies = errorBodies;
+        this.rejectionLog = new RejectionLog(logger, clock, 1000);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !RATE_LIMITED_PATHS.contains(RequestPaths.pathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!rateLimiter.tryAcquire()) {
+            String clientIP = SecurityUtils.getClientIP(request);
+            rejectionLog.rejected("Rate limit exceeded for IP: {}", clientIP);
+            greetingMetrics.incrementRateLimitExceeded();
+            RateLimitRejectedEvent.emit(clientIP, request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            writeError(response, HttpStatus.TOO_MANY_REQUESTS, errorBodies.tooManyRequests());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    static void writeError(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,37 @@
+package com.springboot.web;
+
+import com.springboot.util.CoarseClock;
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs the first rejection of each interval at WARN together with how many were
+ * suppressed since the previous one; the rest go to DEBUG. Keeps a rejection storm
+ * from turning into a logging storm.
+ */
+final class RejectionLog {
+
+    private final Logger logger;
+    private final CoarseClock clock;
+    private final long intervalMillis;
+    private final AtomicLong nextWarnMillis = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    RejectionLog(Logger logger, CoarseClock clock, long intervalMillis) {
+        this.logger = logger;
+        this.clock = clock;
+        this.intervalMillis = intervalMillis;
+    }
+
+    void rejected(String format, Object argument) {
+        long now = clock.tick().epochMillis();
+        long next = nextWarnMillis.get();
+        if (now >= next && nextWarnMillis.compareAndSet(next, now + intervalMillis)) {
+            logger.warn(format + " ({} similar rejections suppressed)", argument, suppressed.getAndSet(0));
+            return;
+        }
+        suppressed.incrementAndGet();
+        logger.debug(format, argument);
+    }
+}
@@ -0,0 +1,88 @@
+package com.springboot.web;
+
+import com.springboot.journal.JournalFormat;
+import com.springboot.journal.RequestJournal;
+import com.springboot.util.SecurityUtils;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Records every greeting request in the {@link RequestJournal}: start time, client,
+ * principal, language, final status and latency. Runs ahead of rate limiting and
+ * validation so rejected requests are journaled too. Asynchronous requests are
+ * recorded when they complete.
+ */
+public class RequestJournalFilter extends OncePerRequestFilter {
+
+    private final RequestJournal journal;
+    private final LanguageNegotiator negotiator;
+
+    public RequestJournalFilter(RequestJournal journal, LanguageNegotiator negotiator) {
+        this.journal = journal;
+        this.negotiator = negotiator;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return JournalFormat.endpointCode(RequestPaths.pathWithinApplication(request)) == 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long timestamp = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        int endpoint = JournalFormat.endpointCode(RequestPaths.pathWithinApplication(request));
+        String language = language(request);
+        String client = SecurityUtils.getRawClientIP(request);
+        // Read now: the security context is gone by the time an async request completes
+        String principal = request.getRemoteUser();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        journal.append(timestamp, System.nanoTime() - startNanos, response.getStatus(),
+                                endpoint, language, client, principal);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                journal.append(timestamp, System.nanoTime() - startNanos,
+                        failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+                        endpoint, language, client, principal);
+            }
+        }
+    }
+
+    private String language(HttpServletRequest request) {
+        String language = request.getParameter("lang");
+        if (language == null || language.isEmpty()) {
+            return negotiator.resolve(request.getHeader(HttpHeaders.ACCEPT_LANGUAGE));
+        }
+        return LanguageValidationFilter.isLanguageCode(language) ? language : null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.springboot.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+final class RequestPaths {
+
+    private RequestPaths() {
+    }
+
+    static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+    }
+}
@@ -0,0 +1,62 @@
+package com.springboot.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.service.GreetingCacheEvictedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Fully encoded responses served by {@link ResponseCacheFilter}, kept consistent with
+ * {@code GreetingService} through {@link GreetingCacheEvictedEvent}s.
+ */
+public class ResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+
+    private final Cache<Key, CachedResponse> responses;
+
+    public ResponseCache(long maximumSize, Duration timeToLive) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    public CachedResponse get(Key key) {
+        return responses.getIfPresent(key);
+    }
+
+    public void put(Key key, CachedResponse response) {
+        responses.put(key, response);
+    }
+
+    public long size() {
+        return responses.estimatedSize();
+    }
+
+    @EventListener
+    public void onGreetingCacheEvicted(GreetingCacheEvictedEvent event) {
+        if (event.isAll()) {
+            responses.invalidateAll();
+            logger.debug("Response cache cleared");
+            return;
+        }
+        String language = event.language().toLowerCase(Locale.ROOT);
+        responses.asMap().keySet().removeIf(key -> language.equals(key.language()));
+        logger.debug("Response cache evicted for language: {}", language);
+    }
+
+    /**
+     * Normalized cache key. {@code language} is null for endpoints that do not take one.
+     */
+    public record Key(String path, String language, String accept, String catalogVersion) {
+    }
+
+    public record CachedResponse(String contentType, byte[] body) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.springboot.web;
+
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.service.GreetingCatalog;
+import com.springboot.tenant.TenantCatalogs;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Serves fully encoded responses for catalog-derived endpoints straight to the output
+ * stream, skipping DispatcherServlet, method validation and message conversion.
+ * <p>
+ * Registered after authentication, rate limiting and conditional GET handling. Misses
+ * go through the normal MVC path and successful responses are captured on the way out.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Set<String> CACHEABLE_PATHS = Set.of("/", "/languages", "/api/v2/info");
+    private static final int MAX_ACCEPT_LENGTH = 256;
+    private static final String NDJSON_SUBTYPE = "ndjson";
+
+    private final ResponseCache responseCache;
+    private final LanguageNegotiator negotiator;
+    private final TenantCatalogs tenantCatalogs;
+    private final GreetingCatalog catalog;
+    private final GreetingMetrics greetingMetrics;
+
+    public ResponseCacheFilter(ResponseCache responseCache, LanguageNegotiator negotiator,
+                               TenantCatalogs tenantCatalogs, GreetingCatalog catalog, GreetingMetrics greetingMetrics) {
+        this.responseCache = responseCache;
+        this.negotiator = negotiator;
+        this.tenantCatalogs = tenantCatalogs;
+        this.catalog = catalog;
+        this.greetingMetrics = greetingMetrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !CACHEABLE_PATHS.contains(RequestPaths.pathWithinApplication(request))
+                // Entries hold base catalog responses only
+                || !tenantCatalogs.overlay(request).isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ResponseCache.Key key = keyFor(request, response);
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ResponseCache.CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            greetingMetrics.recordResponseCache(key.path(), true);
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(cached.contentType());
+            response.setContentLength(cached.body().length);
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        greetingMetrics.recordResponseCache(key.path(), false);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (isCacheable(request, wrapper)) {
+                responseCache.put(key, new ResponseCache.CachedResponse(
+                        wrapper.getContentType(), wrapper.getContentAsByteArray()));
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private ResponseCache.Key keyFor(HttpServletRequest request, HttpServletResponse response) {
+        String path = RequestPaths.pathWithinApplication(request);
+        String language = null;
+        if ("/".equals(path)) {
+            language = CatalogRequests.greetingLanguage(request, response, negotiator);
+            if (language == null) {
+                return null;
+            }
+        } else if (CatalogRequests.hasParameters(request)) {
+            return null;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            accept = "*/*";
+        } else if (accept.length() > MAX_ACCEPT_LENGTH || accept.contains(NDJSON_SUBTYPE)) {
+            // Streamed bodies are written after this filter returns and cannot be captured
+            return null;
+        } else {
+            accept = accept.trim().toLowerCase(Locale.ROOT);
+        }
+        return new ResponseCache.Key(path, language, accept, catalog.version());
+    }
+
+    private static boolean isCacheable(HttpServletRequest request, ContentCachingResponseWrapper response) {
+        return !request.isAsyncStarted()
+                && response.getStatus() == HttpServletResponse.SC_OK
+                && response.getContentType() != null
+                && response.getHeaders(HttpHeaders.SET_COOKIE).isEmpty();
+    }
+}
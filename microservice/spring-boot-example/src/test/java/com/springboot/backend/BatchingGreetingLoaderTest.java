@@ -0,0 +1,113 @@
+package com.springboot.backend;
+
+import com.springboot.metrics.GreetingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchingGreetingLoaderTest {
+
+    private static final List<String> LANGUAGES = List.of("en", "es", "fr", "de", "it", "pt", "ru", "ja", "zh", "ko");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RecordingBackend backend = new RecordingBackend();
+
+    private BatchingGreetingLoader loader(Duration window, int maxBatchSize) {
+        return new BatchingGreetingLoader(backend, window, maxBatchSize, new GreetingMetrics(registry));
+    }
+
+    @Test
+    void testMissesWithinTheWindowShareOneBackendCall() {
+        BatchingGreetingLoader loader = loader(Duration.ofMillis(50), 32);
+
+        List<CompletableFuture<String>> loads = LANGUAGES.stream().map(loader::load).toList();
+        CompletableFuture<String> duplicate = loader.load("fr");
+
+        assertThat(loads).extracting(CompletableFuture::join)
+            .containsExactlyElementsOf(LANGUAGES.stream().map(language -> "greeting:" + language).toList());
+        assertThat(duplicate).isSameAs(loads.get(2));
+        assertThat(backend.batches).containsExactly(Set.copyOf(LANGUAGES));
+        assertThat(registry.get("greeting_backend_batch_size").summary().max()).isEqualTo(10);
+        assertThat(registry.get("greeting_backend_batch_wait_seconds").timer().count()).isEqualTo(10);
+    }
+
+    @Test
+    void testFullBatchesGoOutWithoutWaitingForTheWindow() {
+        BatchingGreetingLoader loader = loader(Duration.ofSeconds(30), 4);
+
+        List<CompletableFuture<String>> loads = new ArrayList<>();
+        LANGUAGES.subList(0, 8).forEach(language -> loads.add(loader.load(language)));
+
+        assertThat(loads).allSatisfy(load -> assertThat(load).isCompleted());
+        assertThat(backend.batches).extracting(Set::size).containsExactly(4, 4);
+    }
+
+    @Test
+    void testZeroWindowSendsEachLanguageAlone() {
+        BatchingGreetingLoader loader = loader(Duration.ZERO, 32);
+
+        assertThat(loader.load("en").join()).isEqualTo("greeting:en");
+        assertThat(loader.load("es").join()).isEqualTo("greeting:es");
+        assertThat(backend.batches).extracting(Set::size).containsExactly(1, 1);
+    }
+
+    @Test
+    void testBatchFailureReachesEveryCaller() {
+        backend.failing = true;
+        BatchingGreetingLoader loader = loader(Duration.ofMillis(20), 32);
+
+        CompletableFuture<String> en = loader.load("en");
+        CompletableFuture<String> es = loader.load("es");
+
+        assertThatThrownBy(en::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(BackendException.class);
+        assertThatThrownBy(es::join).hasCauseInstanceOf(BackendException.class);
+        assertThat(backend.batches).hasSize(1);
+    }
+
+    /**
+     * Completes every bulk call immediately and remembers the languages of each.
+     */
+    private static class RecordingBackend implements GreetingBackend {
+
+        private final List<Set<String>> batches = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public CompletableFuture<Map<String, String>> fetchGreetings(Set<String> languages) {
+            batches.add(Set.copyOf(languages));
+            if (failing) {
+                return CompletableFuture.failedFuture(new BackendException("backend down"));
+            }
+            return CompletableFuture.completedFuture(languages.stream()
+                .collect(Collectors.toMap(language -> language, language -> "greeting:" + language)));
+        }
+
+        @Override
+        public CompletableFuture<String> fetchGreeting(String language) {
+            throw new UnsupportedOperationException("loads go through fetchGreetings");
+        }
+
+        @Override
+        public CompletableFuture<SortedMap<String, String>> fetchAll() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.springboot.backend;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = "app.backend.type=http")
+class HttpGreetingBackendIntegrationTest {
+
+    private static final StubGreetingBackendServer BACKEND = startBackend();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @DynamicPropertySource
+    static void backendUrl(DynamicPropertyRegistry registry) {
+        registry.add("app.backend.http.base-url", () -> BACKEND.baseUri().toString());
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        BACKEND.close();
+    }
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + uri;
+    }
+
+    @Test
+    void testGreetingsAreLoadedFromTheBackendAndCached() {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+        int before = BACKEND.requests();
+
+        ResponseEntity<String> sync = client.getForEntity(createURLWithPort("/?lang=de"), String.class);
+        ResponseEntity<String> async = client.getForEntity(createURLWithPort("/async?lang=de"), String.class);
+        ResponseEntity<String> remote = client.getForEntity(createURLWithPort("/async?lang=fr"), String.class);
+
+        assertThat(sync.getBody()).isEqualTo("Hallo Welt (remote)!");
+        assertThat(async.getBody()).isEqualTo("Hallo Welt (remote)!");
+        assertThat(remote.getBody()).isEqualTo("Bonjour (remote)!");
+        // de was loaded once and served from the shared cache the second time
+        assertThat(BACKEND.requests() - before).isEqualTo(2);
+    }
+
+    @Test
+    void testFailingBackendFallsBackWithoutCachingTheFallback() {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+        client.getForEntity(createURLWithPort("/?lang=en"), String.class);
+
+        BACKEND.setErrors(1.0, 500);
+        try {
+            ResponseEntity<String> fallback = client.getForEntity(createURLWithPort("/?lang=ja"), String.class);
+            assertThat(fallback.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(fallback.getBody()).isEqualTo("Hello (remote)!");
+            ResponseEntity<String> asyncFallback = client.getForEntity(createURLWithPort("/async?lang=zh"), String.class);
+            assertThat(asyncFallback.getBody()).isEqualTo("Hello (remote)!");
+        } finally {
+            BACKEND.setErrors(0, 500);
+        }
+
+        ResponseEntity<String> recovered = client.getForEntity(createURLWithPort("/?lang=ja"), String.class);
+        assertThat(recovered.getBody()).isEqualTo("こんにちは (remote)!");
+        ResponseEntity<String> asyncRecovered = client.getForEntity(createURLWithPort("/async?lang=zh"), String.class);
+        assertThat(asyncRecovered.getBody()).isEqualTo("你好 (remote)!");
+    }
+
+    private static StubGreetingBackendServer startBackend() {
+        try {
+            return new StubGreetingBackendServer(Map.of(
+                "en", "Hello (remote)!", "de", "Hallo Welt (remote)!", "fr", "Bonjour (remote)!", "ja", "こんにちは (remote)!",
+                "zh", "你好 (remote)!"), "en");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
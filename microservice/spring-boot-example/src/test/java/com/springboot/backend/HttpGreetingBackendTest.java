@@ -0,0 +1,124 @@
+package com.springboot.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.metrics.GreetingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpGreetingBackendTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private StubGreetingBackendServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new StubGreetingBackendServer(Map.of("en", "Hello World!", "es", "¡Hola Mundo!"), "en");
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+        executor.shutdownNow();
+    }
+
+    private GreetingBackend backend(Duration requestTimeout, int maxConnections, int maxPending) {
+        return new InstrumentedGreetingBackend(
+            new HttpGreetingBackend(server.baseUri(), Duration.ofSeconds(1), requestTimeout, maxConnections,
+                maxPending, executor, new ObjectMapper()),
+            new GreetingMetrics(registry));
+    }
+
+    @Test
+    void testFetchesGreetingsAndRecordsCalls() {
+        GreetingBackend backend = backend(Duration.ofSeconds(2), 4, 10);
+
+        assertThat(backend.fetchGreeting("es").join()).isEqualTo("¡Hola Mundo!");
+        assertThat(backend.fetchGreeting("xx").join()).isEqualTo("Hello World!");
+        assertThat(backend.fetchAll().join()).containsExactly(Map.entry("en", "Hello World!"), Map.entry("es", "¡Hola Mundo!"));
+
+        assertThat(backend.fetchGreetings(new LinkedHashSet<>(List.of("es", "xx"))).join())
+            .containsExactly(Map.entry("es", "¡Hola Mundo!"), Map.entry("xx", "Hello World!"));
+
+        assertThat(registry.get("greeting_backend_duration_seconds")
+            .tags("backend", "http", "operation", "greeting", "outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(registry.get("greeting_backend_duration_seconds")
+            .tags("operation", "greetings", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("greeting_backend_duration_seconds")
+            .tags("operation", "languages", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testInjectedErrorsAndTimeoutsFailTheCall() {
+        GreetingBackend backend = backend(Duration.ofMillis(200), 4, 10);
+
+        server.setErrors(1.0, 503);
+        assertThatThrownBy(() -> backend.fetchGreeting("en").join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(BackendException.class);
+
+        server.setErrors(0, 500);
+        server.setLatency(Duration.ofSeconds(1));
+        assertThatThrownBy(() -> backend.fetchGreeting("en").join())
+            .hasCauseInstanceOf(HttpTimeoutException.class);
+
+        assertThat(registry.get("greeting_backend_duration_seconds").tags("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(registry.get("greeting_backend_duration_seconds").tags("outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCancellingACallFreesItsConnection() {
+        GreetingBackend backend = backend(Duration.ofSeconds(10), 1, 2);
+        server.setLatency(Duration.ofSeconds(10));
+        CompletableFuture<String> inFlight = backend.fetchGreeting("en");
+        CompletableFuture<String> queued = backend.fetchGreeting("en");
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (server.requests() < 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        queued.cancel(true);
+        inFlight.cancel(true);
+        server.setLatency(Duration.ZERO);
+
+        // Answered well before the cancelled exchange's 10 s would have run out
+        assertThat(backend.fetchGreeting("es").orTimeout(5, TimeUnit.SECONDS).join()).isEqualTo("¡Hola Mundo!");
+        assertThat(server.requests()).isEqualTo(2);
+        assertThat(registry.get("greeting_backend_duration_seconds").tags("outcome", "cancelled").timer().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void testConnectionsAreBoundedAndExcessCallsFailFast() {
+        GreetingBackend backend = backend(Duration.ofSeconds(5), 2, 6);
+        server.setLatency(Duration.ofMillis(100));
+
+        List<CompletableFuture<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            calls.add(backend.fetchGreeting("en"));
+        }
+
+        // 2 in flight + 6 queued; the ninth is refused without waiting
+        assertThat(calls.get(8)).isCompletedExceptionally();
+        assertThat(calls.subList(0, 8)).allSatisfy(call -> assertThat(call.join()).isEqualTo("Hello World!"));
+        assertThat(server.maxConcurrent()).isLessThanOrEqualTo(2);
+        assertThat(server.requests()).isEqualTo(8);
+    }
+}
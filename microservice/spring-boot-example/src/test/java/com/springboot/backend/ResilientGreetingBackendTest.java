@@ -0,0 +1,159 @@
+package com.springboot.backend;
+
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.service.GreetingCatalog;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilientGreetingBackendTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final GreetingMetrics greetingMetrics = new GreetingMetrics(registry);
+    private final ScriptedBackend delegate = new ScriptedBackend();
+    private final LastKnownGreetings lastKnown = new LastKnownGreetings();
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+        .slidingWindowSize(4)
+        .minimumNumberOfCalls(4)
+        .failureRateThreshold(50)
+        .waitDurationInOpenState(Duration.ofMillis(200))
+        .permittedNumberOfCallsInHalfOpenState(1)
+        .build());
+    private final ResilientGreetingBackend backend = new ResilientGreetingBackend(delegate, circuitBreaker, lastKnown,
+        new GreetingCatalog("en"), Duration.ofMillis(100), greetingMetrics);
+
+    {
+        greetingMetrics.bindCircuitBreaker(circuitBreaker);
+    }
+
+    @Test
+    void testFailuresFallBackToLastKnownThenDefaultGreeting() {
+        delegate.succeed("¡Hola Mundo (v2)!");
+        assertThat(backend.fetchGreeting("es").join()).isEqualTo("¡Hola Mundo (v2)!");
+
+        delegate.fail();
+        String stale = backend.fetchGreeting("es").join();
+        assertThat(stale).isEqualTo("¡Hola Mundo (v2)!");
+        assertThat(lastKnown.isFallback(stale)).isTrue();
+
+        delegate.fail();
+        String fallback = backend.fetchGreeting("it").join();
+        assertThat(fallback).isEqualTo("Hello World!");
+        assertThat(lastKnown.isFallback(fallback)).isTrue();
+
+        assertThat(registry.get("greeting_backend_fallbacks_total").tag("source", "stale").counter().count()).isEqualTo(1);
+        assertThat(registry.get("greeting_backend_fallbacks_total").tag("source", "default").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testTimeoutsCountAsFailuresAndCancelTheCall() {
+        CompletableFuture<?> call = delegate.hang();
+        assertThat(backend.fetchGreeting("en").join()).isEqualTo("Hello World!");
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+        assertThat(call).isCancelled();
+    }
+
+    @Test
+    void testOpenCircuitShortCircuitsUntilHalfOpenProbeSucceeds() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            delegate.fail();
+            backend.fetchGreeting("en").join();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int calls = delegate.calls.get();
+        assertThat(backend.fetchGreeting("en").join()).isEqualTo("Hello World!");
+        assertThat(delegate.calls.get()).isEqualTo(calls);
+        assertThat(registry.get("greeting_backend_short_circuited_total").counter().count()).isEqualTo(1);
+        assertThat(registry.get("greeting_backend_circuit_state").tag("state", "open").gauge().value()).isEqualTo(1);
+
+        Thread.sleep(250);
+        delegate.succeed("Hello again!");
+        assertThat(backend.fetchGreeting("en").join()).isEqualTo("Hello again!");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(registry.get("greeting_backend_circuit_transitions_total")
+            .tags("from", "half_open", "to", "closed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCatalogFallsBackOnlyToLastKnownCopy() {
+        assertThatThrownBy(() -> backend.fetchAll().join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(BackendException.class);
+
+        SortedMap<String, String> greetings = new TreeMap<>();
+        greetings.put("en", "Hello World!");
+        delegate.succeed(greetings);
+        backend.fetchAll().join();
+
+        delegate.fail();
+        SortedMap<String, String> stale = backend.fetchAll().join();
+        assertThat(stale).isEqualTo(greetings);
+        assertThat(lastKnown.isFallback(stale)).isTrue();
+    }
+
+    /**
+     * Answers each call with the next scripted outcome; failing when none is left.
+     */
+    private static class ScriptedBackend implements GreetingBackend {
+
+        private final Deque<Object> outcomes = new ArrayDeque<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        void succeed(Object value) {
+            outcomes.add(value);
+        }
+
+        void fail() {
+            outcomes.add(new BackendException("scripted failure"));
+        }
+
+        CompletableFuture<?> hang() {
+            CompletableFuture<?> call = new CompletableFuture<>();
+            outcomes.add(call);
+            return call;
+        }
+
+        @Override
+        public CompletableFuture<String> fetchGreeting(String language) {
+            return next();
+        }
+
+        @Override
+        public CompletableFuture<SortedMap<String, String>> fetchAll() {
+            return next();
+        }
+
+        @Override
+        public String name() {
+            return "scripted";
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> CompletableFuture<T> next() {
+            calls.incrementAndGet();
+            Object outcome = outcomes.poll();
+            if (outcome instanceof CompletableFuture<?> pending) {
+                return (CompletableFuture<T>) pending;
+            }
+            if (outcome == null || outcome instanceof Throwable) {
+                return CompletableFuture.failedFuture(
+                    outcome == null ? new BackendException("nothing scripted") : (Throwable) outcome);
+            }
+            return CompletableFuture.completedFuture((T) outcome);
+        }
+    }
+}
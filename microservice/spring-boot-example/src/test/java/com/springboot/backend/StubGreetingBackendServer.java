@@ -0,0 +1,123 @@
+package com.springboot.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process greeting backend speaking the {@link HttpGreetingBackend} protocol, with
+ * injectable latency and errors. Handlers run on virtual threads, so slow responses
+ * do not limit how many requests it can hold open.
+ */
+class StubGreetingBackendServer implements AutoCloseable {
+
+    private final SortedMap<String, String> greetings;
+    private final String defaultLanguage;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile double errorRate;
+    private volatile int errorStatus = 500;
+
+    StubGreetingBackendServer(Map<String, String> greetings, String defaultLanguage) throws IOException {
+        this.greetings = new TreeMap<>(greetings);
+        this.defaultLanguage = defaultLanguage;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/greetings", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    URI baseUri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Answers {@code status} to the given fraction of requests, 0 to 1.
+     */
+    void setErrors(double rate, int status) {
+        this.errorRate = rate;
+        this.errorStatus = status;
+    }
+
+    int requests() {
+        return requests.get();
+    }
+
+    int maxConcurrent() {
+        return maxConcurrent.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        try {
+            if (!latency.isZero()) {
+                Thread.sleep(latency);
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                respond(exchange, errorStatus, "text/plain", "injected failure");
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            String query = exchange.getRequestURI().getQuery();
+            if (path.equals("/greetings") && query != null && query.startsWith("languages=")) {
+                Map<String, String> requested = new LinkedHashMap<>();
+                for (String language : query.substring("languages=".length()).split(",")) {
+                    requested.put(language, greetings.getOrDefault(language, greetings.get(defaultLanguage)));
+                }
+                respond(exchange, 200, "application/json", objectMapper.writeValueAsString(requested));
+            } else if (path.equals("/greetings")) {
+                respond(exchange, 200, "application/json", objectMapper.writeValueAsString(greetings));
+            } else {
+                String language = path.substring("/greetings/".length());
+                respond(exchange, 200, "text/plain", greetings.getOrDefault(language, greetings.get(defaultLanguage)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrent.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
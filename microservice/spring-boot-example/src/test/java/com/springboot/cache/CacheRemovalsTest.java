@@ -0,0 +1,62 @@
+package com.springboot.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.springboot.metrics.GreetingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheRemovalsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CacheRemovals removals = new CacheRemovals(new GreetingMetrics(registry), 4);
+
+    private double removed(String cache, String cause) {
+        return registry.get("greeting_cache_removals_total").tag("cache", cache).tag("cause", cause).counter().count();
+    }
+
+    @Test
+    void testRemovalsAreCountedByCacheAndCause() {
+        removals.listener("greetings").onRemoval("es", "¡Hola Mundo!", RemovalCause.SIZE);
+        removals.listener("greetings").onRemoval("fr", "Bonjour le Monde!", RemovalCause.SIZE);
+        removals.listener("languages").onRemoval("all", Map.of(), RemovalCause.EXPLICIT);
+        assertThat(registry.find("greeting_cache_removals_total").counters()).isEmpty();
+
+        assertThat(removals.drain()).isEqualTo(3);
+        assertThat(removed("greetings", "size")).isEqualTo(2);
+        assertThat(removed("languages", "explicit")).isEqualTo(1);
+        assertThat(removals.totals("greetings")).isEqualTo(Map.of("size", 2L));
+        assertThat(removals.totals("languages")).isEqualTo(Map.of("explicit", 1L));
+    }
+
+    @Test
+    void testRemovalsBeyondTheBufferAreDroppedAndCounted() {
+        for (int i = 0; i < 6; i++) {
+            removals.offer("greetings", RemovalCause.EXPIRED);
+        }
+        assertThat(registry.get("greeting_cache_removals_pending").gauge().value()).isEqualTo(4);
+
+        assertThat(removals.drain()).isEqualTo(4);
+        assertThat(removed("greetings", "expired")).isEqualTo(4);
+        assertThat(removals.droppedCount()).isEqualTo(2);
+        assertThat(registry.get("greeting_cache_removals_dropped_total").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testTheDrainerCountsRemovalsAsTheyArrive() {
+        removals.start();
+        try {
+            removals.offer("greetings", RemovalCause.REPLACED);
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (removals.totals("greetings").isEmpty() && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertThat(removals.totals("greetings")).isEqualTo(Map.of("replaced", 1L));
+        } finally {
+            removals.stop();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.springboot.cache;
+
+import com.springboot.service.GreetingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = {
+    "app.security.admin.username=greeting-admin",
+    "app.security.admin.password=admin-password-123"
+})
+class HotKeysEndpointIntegrationTest {
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private GreetingService greetingService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheRemovals cacheRemovals;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ResponseEntity<Map> get(String user, String password, String uri) {
+        return restTemplate.withBasicAuth(user, password)
+            .getForEntity("http://localhost:" + managementPort + uri, Map.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testHotKeysListCachedKeysPerCache() {
+        for (int i = 0; i < 5; i++) {
+            greetingService.getGreeting("es");
+        }
+        greetingService.getGreeting("fr");
+        greetingService.getAllLanguages();
+
+        ResponseEntity<Map> response = get("greeting-admin", "admin-password-123", "/actuator/hotkeys?limit=50");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Map<String, Object> greetings = (Map<String, Object>) response.getBody().get("greetings");
+        assertThat((List<String>) greetings.get("hottest")).contains("es", "fr");
+        assertThat((Double) greetings.get("hitRate")).isPositive();
+        Map<String, Object> languages = (Map<String, Object>) response.getBody().get("languages");
+        assertThat((List<String>) languages.get("hottest")).containsExactly("all");
+
+        assertThat(get("greeting-admin", "admin-password-123", "/actuator/hotkeys?limit=0").getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(get("greeting-user", "dev-password-123", "/actuator/hotkeys").getStatusCode())
+            .isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void testLoadsAndRemovalsArePublishedPerCache() {
+        greetingService.getGreeting("de");
+        assertThat(meterRegistry.get("greeting_cache_load_seconds").tag("cache", "greetings").tag("result", "success")
+            .timer().count()).isPositive();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "greetings").tag("result", "miss")
+            .functionCounter().count()).isPositive();
+
+        long explicit = cacheRemovals.totals("greetings").getOrDefault("explicit", 0L);
+        cacheManager.getCache("greetings").evict("de");
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (cacheRemovals.totals("greetings").getOrDefault("explicit", 0L) == explicit
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(cacheRemovals.totals("greetings")).containsEntry("explicit", explicit + 1);
+        assertThat(meterRegistry.get("greeting_cache_removals_total").tag("cache", "greetings")
+            .tag("cause", "explicit").counter().count()).isPositive();
+    }
+}
@@ -0,0 +1,84 @@
+package com.springboot.config;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.AbstractProtocol;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = {
+    "app.security.admin.username=greeting-admin",
+    "app.security.admin.password=admin-password-123",
+    "app.management.threads.max=2"
+})
+class ManagementServerIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private WebServers webServers;
+
+    @Test
+    void testActuatorIsServedOnlyByTheManagementConnector() {
+        assertThat(managementPort).isNotEqualTo(port);
+        TestRestTemplate admin = restTemplate.withBasicAuth("greeting-admin", "admin-password-123");
+
+        assertThat(restTemplate.getForEntity("http://localhost:" + managementPort + "/actuator/health", String.class)
+            .getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(admin.getForEntity("http://localhost:" + managementPort + "/actuator/metrics", String.class)
+            .getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(restTemplate.withBasicAuth("greeting-user", "dev-password-123")
+            .getForEntity("http://localhost:" + managementPort + "/actuator/metrics", String.class)
+            .getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(admin.getForEntity("http://localhost:" + port + "/actuator/metrics", String.class)
+            .getStatusCode().is2xxSuccessful()).isFalse();
+    }
+
+    @Test
+    void testManagementConnectorHasItsOwnThreadPool() {
+        assertThat(maxThreads(webServers.get("management"))).isEqualTo(2);
+        assertThat(maxThreads(webServers.get("server"))).isEqualTo(200);
+    }
+
+    private static int maxThreads(WebServer webServer) {
+        Connector connector = ((TomcatWebServer) webServer).getTomcat().getConnector();
+        return ((AbstractProtocol<?>) connector.getProtocolHandler()).getMaxThreads();
+    }
+
+    /**
+     * Collects both web servers by namespace; the management context publishes its
+     * event to this context too.
+     */
+    @TestConfiguration
+    static class WebServers extends ConcurrentHashMap<String, WebServer>
+            implements ApplicationListener<ServletWebServerInitializedEvent> {
+
+        @Override
+        public void onApplicationEvent(ServletWebServerInitializedEvent event) {
+            String namespace = event.getApplicationContext().getServerNamespace();
+            put(namespace == null ? "server" : namespace, event.getWebServer());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.springboot.config;
+
+import com.springboot.controller.GreetingController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = {
+    "spring.main.lazy-initialization=true",
+    "spring.mvc.servlet.load-on-startup=1"
+})
+class StartupConfigIntegrationTest {
+
+    private static final String HASHED_PASSWORD = "hashed-password-456";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @DynamicPropertySource
+    static void passwordHash(DynamicPropertyRegistry registry) {
+        registry.add("app.security.user.password-hash", () -> new BCryptPasswordEncoder().encode(HASHED_PASSWORD));
+    }
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + uri;
+    }
+
+    @Test
+    void testRequestPathBeansStayEager() {
+        var beanFactory = context.getBeanFactory();
+        assertThat(beanFactory.containsSingleton("greetingController")).isTrue();
+        assertThat(beanFactory.containsSingleton("healthConfig")).isTrue();
+        assertThat(beanFactory.containsSingleton("restClientBuilder")).isFalse();
+        assertThat(beanFactory.containsSingleton("taskSchedulerBuilder")).isFalse();
+
+        assertThat(StartupConfig.isRequestPath(OpenApiConfig.class)).isFalse();
+        assertThat(StartupConfig.isRequestPath(HealthConfig.class)).isTrue();
+        assertThat(StartupConfig.isRequestPath(GreetingController.class)).isTrue();
+    }
+
+    @Test
+    void testPasswordHashTakesPrecedence() {
+        ResponseEntity<String> hashed = restTemplate.withBasicAuth("greeting-user", HASHED_PASSWORD)
+            .getForEntity(createURLWithPort("/?lang=en"), String.class);
+        assertThat(hashed.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> plain = restTemplate.withBasicAuth("greeting-user", "dev-password-123")
+            .getForEntity(createURLWithPort("/?lang=en"), String.class);
+        assertThat(plain.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -1,14 +1,22 @@
 package com.springboot.controller;
 
+import com.springboot.model.LanguageCursor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.TestPropertySource;
 
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -57,6 +65,62 @@ class GreetingControllerIntegrationTest {
         assertThat(response.getBody()).isEqualTo("こんにちは世界!");
     }
 
+    @Test
+    void testNamedGreetingRendersTemplate() {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+
+        ResponseEntity<String> spanish = client.getForEntity(
+            createURLWithPort("/?lang=es&name={name}"), String.class, " Ana\u2003");
+        ResponseEntity<String> escaped = client.getForEntity(
+            createURLWithPort("/?lang=ja&name={name}"), String.class, "<b>Ken</b>");
+        ResponseEntity<String> tooLong = client.getForEntity(
+            createURLWithPort("/?name=" + "a".repeat(GreetingController.MAX_NAME_LENGTH + 1)), String.class);
+
+        assertThat(spanish.getBody()).isEqualTo("¡Hola, Ana!");
+        assertThat(spanish.getHeaders().getContentType().isCompatibleWith(MediaType.TEXT_PLAIN)).isTrue();
+        assertThat(spanish.getHeaders().getETag()).isNull();
+        assertThat(escaped.getBody()).isEqualTo("こんにちは、&lt;b&gt;Ken&lt;/b&gt;さん!");
+        assertThat(tooLong.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testNamedGreetingFollowsContentNegotiation() {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+
+        ResponseEntity<String> unnamed = client.exchange(
+            createURLWithPort("/?lang=es"), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        ResponseEntity<String> named = client.exchange(
+            createURLWithPort("/?lang=es&name=Ana"), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(named.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(named.getBody()).isEqualTo("¡Hola, Ana!");
+        assertThat(named.getHeaders().getContentType()).isEqualTo(unnamed.getHeaders().getContentType());
+        assertThat(named.getHeaders().getContentType().isCompatibleWith(MediaType.TEXT_PLAIN)).isFalse();
+    }
+
+    @Test
+    void testMissingLanguageIsNegotiatedFromAcceptLanguage() {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_LANGUAGE, "ko-KR, pt-BR;q=0.9, en;q=0.8");
+
+        ResponseEntity<String> greeting = client.exchange(createURLWithPort("/"), HttpMethod.GET,
+            new HttpEntity<>(headers), String.class);
+        ResponseEntity<Map> v2 = client.exchange(createURLWithPort("/api/v2/greeting"), HttpMethod.GET,
+            new HttpEntity<>(headers), Map.class);
+        ResponseEntity<String> explicit = client.exchange(createURLWithPort("/?lang=fr"), HttpMethod.GET,
+            new HttpEntity<>(headers), String.class);
+
+        assertThat(greeting.getBody()).isEqualTo("Olá Mundo!");
+        assertThat(greeting.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_LANGUAGE);
+        assertThat(v2.getBody()).containsEntry("language", "pt");
+        assertThat(v2.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_LANGUAGE);
+        assertThat(explicit.getBody()).isEqualTo("Bonjour le Monde!");
+        assertThat(explicit.getHeaders().getVary()).doesNotContain(HttpHeaders.ACCEPT_LANGUAGE);
+    }
+
     @Test
     void testLanguagesEndpoint() {
         ResponseEntity<Map> response = restTemplate
@@ -71,6 +135,82 @@ class GreetingControllerIntegrationTest {
         assertThat(languages).hasSize(9);
     }
 
+    @Test
+    void testLanguagesPagesFollowLinkHeader() {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+        Map<String, String> collected = new LinkedHashMap<>();
+        URI next = URI.create(createURLWithPort("/languages?limit=4"));
+        int pages = 0;
+        while (next != null) {
+            ResponseEntity<Map> response = client.getForEntity(next, Map.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).hasSizeLessThanOrEqualTo(4);
+            collected.putAll(response.getBody());
+            String link = response.getHeaders().getFirst(HttpHeaders.LINK);
+            next = link == null ? null : URI.create(link.substring(link.indexOf('<') + 1, link.indexOf('>')));
+            pages++;
+        }
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(collected.keySet()).containsExactly("de", "en", "es", "fr", "it", "ja", "pt", "ru", "zh");
+    }
+
+    @Test
+    void testLanguagesPagingRejectsBadCursorAndLimit() {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+
+        assertThat(client.getForEntity(createURLWithPort("/languages?cursor=%%%"), String.class).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(client.getForEntity(createURLWithPort("/languages?limit=0"), String.class).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(client.getForEntity(createURLWithPort("/languages?limit=1001"), String.class).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testLanguagesStreamAsNdjson() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+
+        ResponseEntity<String> all = client.exchange(createURLWithPort("/languages"), HttpMethod.GET,
+            new HttpEntity<>(headers), String.class);
+        assertThat(all.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(all.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        String[] lines = all.getBody().split("\n");
+        assertThat(lines).hasSize(9);
+        assertThat(lines[0]).isEqualTo("{\"code\":\"de\",\"greeting\":\"Hallo Welt!\"}");
+
+        String cursor = LanguageCursor.after("ja").encoded();
+        ResponseEntity<String> tail = client.exchange(createURLWithPort("/languages?cursor=" + cursor + "&limit=2"),
+            HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(tail.getBody()).isEqualTo("{\"code\":\"pt\",\"greeting\":\"Olá Mundo!\"}\n"
+            + "{\"code\":\"ru\",\"greeting\":\"Привет мир!\"}\n");
+
+        headers.setAccept(List.of(MediaType.ALL));
+        ResponseEntity<Map> any = client.exchange(createURLWithPort("/languages"), HttpMethod.GET,
+            new HttpEntity<>(headers), Map.class);
+        assertThat(any.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(any.getBody()).hasSize(9);
+    }
+
+    @Test
+    void testLanguageSearch() {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+
+        ResponseEntity<List> response = client.getForEntity(createURLWithPort("/languages/search?q=por"), List.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat((Map<String, Object>) response.getBody().get(0))
+            .containsEntry("code", "pt")
+            .containsEntry("name", "Portuguese")
+            .containsEntry("greeting", "Olá Mundo!");
+
+        assertThat(client.getForEntity(createURLWithPort("/languages/search"), String.class).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(client.getForEntity(createURLWithPort("/languages/search?q=e&limit=51"), String.class)
+            .getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void testAsyncEndpoint() {
         ResponseEntity<String> response = restTemplate
@@ -80,4 +220,24 @@ class GreetingControllerIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEqualTo("Bonjour le Monde!");
     }
+
+    @Test
+    void testEnhancedGreetingEndpoint() {
+        ResponseEntity<Map> response = restTemplate
+            .withBasicAuth("greeting-user", "dev-password-123")
+            .getForEntity(createURLWithPort("/api/v2/greeting?lang=es"), Map.class);
+        
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentLength()).isPositive();
+        Map<String, Object> body = response.getBody();
+        assertThat(body).isNotNull();
+        assertThat(body).containsEntry("message", "¡Hola Mundo!");
+        assertThat(body).containsEntry("language", "es");
+        assertThat(body).containsEntry("version", "v2");
+        assertThat(body).containsKey("timestamp");
+        assertThat((Map<String, Object>) body.get("metadata"))
+            .containsEntry("isSupported", true)
+            .containsEntry("characterCount", 12)
+            .containsEntry("encoding", "UTF-8");
+    }
 }
\ No newline at end of file
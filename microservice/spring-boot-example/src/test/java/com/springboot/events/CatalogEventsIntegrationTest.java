@@ -0,0 +1,167 @@
+package com.springboot.events;
+
+import com.springboot.backend.GreetingBackend;
+import com.springboot.service.GreetingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A catalog change is simulated by a backend that starts serving a different catalog,
+ * while the cached {@code /languages} catalog still holds the old one.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = {
+    "app.catalog-events.check-interval=50ms",
+    "app.catalog-events.heartbeat-interval=200ms"
+})
+class CatalogEventsIntegrationTest {
+
+    private static final String CREDENTIALS = "Basic " + Base64.getEncoder()
+        .encodeToString("greeting-user:dev-password-123".getBytes(StandardCharsets.UTF_8));
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ChangingBackend backend;
+
+    @Autowired
+    private GreetingService greetingService;
+
+    @AfterEach
+    void restoreCatalog() {
+        backend.catalog = null;
+    }
+
+    private HttpResponse<InputStream> subscribe(String credentials) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/languages/events"))
+            .header("Accept", "text/event-stream");
+        if (credentials != null) {
+            request.header("Authorization", credentials);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    @Test
+    void testStreamsTheCatalogAndThenItsChanges() throws Exception {
+        HttpResponse<InputStream> response = subscribe(CREDENTIALS);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+            type -> assertThat(type).startsWith("text/event-stream"));
+
+        try (BufferedReader events = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            assertThat(nextEvent(events)).isEqualTo("retry: 5000");
+            String snapshot = nextEvent(events);
+            assertThat(snapshot).contains("event: snapshot").contains("\"es\":\"¡Hola Mundo!\"");
+
+            SortedMap<String, String> changed = new TreeMap<>(greetingService.getAllLanguages());
+            changed.put("es", "¡Hola a todos!");
+            changed.remove("zh");
+            backend.catalog = changed;
+
+            String delta = nextEvent(events);
+            while (delta.startsWith(": heartbeat")) {
+                delta = nextEvent(events);
+            }
+            assertThat(delta).contains("event: delta")
+                .contains("\"changed\":{\"es\":\"¡Hola a todos!\"},\"removed\":[\"zh\"]");
+        }
+    }
+
+    @Test
+    void testIdleStreamsGetHeartbeats() throws Exception {
+        HttpResponse<InputStream> response = subscribe(CREDENTIALS);
+
+        try (BufferedReader events = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            nextEvent(events);
+            nextEvent(events);
+            assertThat(nextEvent(events)).isEqualTo(": heartbeat");
+        }
+    }
+
+    @Test
+    void testSubscribingRequiresAuthentication() throws Exception {
+        HttpResponse<InputStream> response = subscribe(null);
+        response.body().close();
+
+        assertThat(response.statusCode()).isEqualTo(401);
+    }
+
+    // Lines up to the blank line that ends an event
+    private static String nextEvent(BufferedReader reader) throws IOException {
+        StringBuilder event = new StringBuilder();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        for (String line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
+            if (event.length() > 0) {
+                event.append('\n');
+            }
+            event.append(line);
+            assertThat(System.nanoTime()).isLessThan(deadline);
+        }
+        return event.toString();
+    }
+
+    @TestConfiguration
+    static class ChangingBackendConfig {
+
+        @Bean
+        @Primary
+        ChangingBackend changingBackend(@Qualifier("localGreetingBackend") GreetingBackend delegate) {
+            return new ChangingBackend(delegate);
+        }
+    }
+
+    // Serves the delegate's greetings, and its catalog unless one is set
+    static class ChangingBackend implements GreetingBackend {
+
+        private final GreetingBackend delegate;
+        volatile SortedMap<String, String> catalog;
+
+        ChangingBackend(GreetingBackend delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CompletableFuture<String> fetchGreeting(String language) {
+            return delegate.fetchGreeting(language);
+        }
+
+        @Override
+        public CompletableFuture<SortedMap<String, String>> fetchAll() {
+            SortedMap<String, String> changed = catalog;
+            return changed != null ? CompletableFuture.completedFuture(changed) : delegate.fetchAll();
+        }
+
+        @Override
+        public String name() {
+            return delegate.name();
+        }
+    }
+}
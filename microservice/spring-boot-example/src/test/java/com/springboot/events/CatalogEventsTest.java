@@ -0,0 +1,169 @@
+package com.springboot.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.metrics.GreetingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogEventsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger reads = new AtomicInteger();
+    private volatile SortedMap<String, String> catalog = new TreeMap<>(Map.of("en", "Hello World!", "es", "¡Hola Mundo!"));
+
+    private CatalogEvents events(int bufferSize, int maxSubscribers) {
+        return new CatalogEvents(() -> {
+            reads.incrementAndGet();
+            return catalog;
+        }, new ObjectMapper(), new GreetingMetrics(registry),
+            Duration.ofSeconds(1), Duration.ofSeconds(15), Duration.ofSeconds(5), Duration.ofMinutes(30),
+            bufferSize, maxSubscribers);
+    }
+
+    @Test
+    void testSubscribersGetASnapshotThenDeltas() throws Exception {
+        CatalogEvents events = events(16, 10);
+        RecordingSink sink = new RecordingSink();
+        events.subscribe(null, sink);
+
+        assertThat(sink.next()).isEqualTo("retry: 5000\n\n");
+        String snapshot = sink.next();
+        assertThat(snapshot).startsWith("id: ").contains("event: snapshot\n")
+            .contains("\"languages\":{\"en\":\"Hello World!\",\"es\":\"¡Hola Mundo!\"}").endsWith("}\n\n");
+
+        catalog = new TreeMap<>(Map.of("en", "Hello World!", "fr", "Bonjour le Monde!"));
+        events.check();
+        String delta = sink.next();
+        assertThat(delta).contains("event: delta\n")
+            .contains("\"previous\":\"" + id(snapshot) + "\"")
+            .contains("\"changed\":{\"fr\":\"Bonjour le Monde!\"},\"removed\":[\"es\"]");
+
+        // An unchanged catalog sends nothing
+        events.check();
+        events.heartbeat();
+        assertThat(sink.next()).isEqualTo(": heartbeat\n\n");
+    }
+
+    @Test
+    void testLastEventIdSkipsTheSnapshot() throws Exception {
+        CatalogEvents events = events(16, 10);
+        RecordingSink first = new RecordingSink();
+        events.subscribe(null, first);
+        first.next();
+        String original = id(first.next());
+        catalog = new TreeMap<>(Map.of("en", "Hi!", "es", "¡Hola Mundo!"));
+        events.check();
+        String latest = id(first.next());
+
+        RecordingSink current = new RecordingSink();
+        events.subscribe(latest, current);
+        current.next();
+        events.heartbeat();
+        assertThat(current.next()).isEqualTo(": heartbeat\n\n");
+
+        RecordingSink oneBehind = new RecordingSink();
+        events.subscribe(original, oneBehind);
+        oneBehind.next();
+        assertThat(oneBehind.next()).contains("event: delta\n").contains("\"changed\":{\"en\":\"Hi!\"}");
+
+        RecordingSink unknown = new RecordingSink();
+        events.subscribe("0123456789abcdef", unknown);
+        unknown.next();
+        assertThat(unknown.next()).contains("event: snapshot\n");
+    }
+
+    @Test
+    void testSlowSubscriberIsDisconnectedWithoutDelayingOthers() throws Exception {
+        CatalogEvents events = events(4, 10);
+        RecordingSink slow = new RecordingSink();
+        slow.gate = new CountDownLatch(1);
+        RecordingSink fast = new RecordingSink();
+        events.subscribe(null, slow);
+        events.subscribe(null, fast);
+        fast.next();
+        fast.next();
+
+        // The slow one is stuck writing the retry frame, so its queue fills up
+        for (int i = 0; i < 8; i++) {
+            events.heartbeat();
+            assertThat(fast.next()).isEqualTo(": heartbeat\n\n");
+        }
+
+        assertThat(events.subscriberCount()).isEqualTo(1);
+        assertThat(registry.get("greeting_catalog_subscribers_rejected_total").tag("reason", "slow_consumer")
+            .counter().count()).isEqualTo(1);
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.completed.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testChecksSkipTheBackendWhileNobodyIsSubscribed() throws Exception {
+        CatalogEvents events = events(16, 10);
+        RecordingSink first = new RecordingSink();
+        events.subscribe(null, first).close();
+        int read = reads.get();
+
+        catalog = new TreeMap<>(Map.of("en", "Hi!"));
+        events.check();
+        assertThat(reads.get()).isEqualTo(read);
+
+        RecordingSink next = new RecordingSink();
+        events.subscribe(null, next);
+        next.next();
+        assertThat(next.next()).contains("event: snapshot\n").contains("\"languages\":{\"en\":\"Hi!\"}");
+    }
+
+    @Test
+    void testSubscribersBeyondTheLimitAreRefused() {
+        CatalogEvents events = events(16, 1);
+        assertThat(events.subscribe(null, new RecordingSink())).isNotNull();
+        assertThat(events.subscribe(null, new RecordingSink())).isNull();
+        assertThat(registry.get("greeting_catalog_subscribers_rejected_total").tag("reason", "at_capacity")
+            .counter().count()).isEqualTo(1);
+    }
+
+    private static String id(String frame) {
+        return frame.substring("id: ".length(), frame.indexOf('\n'));
+    }
+
+    private static final class RecordingSink implements CatalogEventSink {
+
+        private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+
+        @Override
+        public void send(byte[] frame) {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    // Closed while blocked, like a socket write failing
+                }
+            }
+            frames.add(new String(frame, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        String next() throws InterruptedException {
+            return frames.poll(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -63,4 +63,18 @@ class GlobalExceptionHandlerIntegrationTest {
         assertThat(errorResponse).isNotNull();
         assertThat(errorResponse.get("error")).isEqualTo("Validation Failed");
     }
+
+    @Test
+    void testValidationErrorReportsConstraintMessages() {
+        ResponseEntity<Map> response = restTemplate
+            .withBasicAuth("greeting-user", "dev-password-123")
+            .getForEntity(createURLWithPort("/api/v2/greeting?lang=eng"), Map.class);
+        
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Map<String, Object> errorResponse = response.getBody();
+        assertThat(errorResponse).isNotNull();
+        assertThat(errorResponse.get("message")).isEqualTo(
+            "Language code must be exactly 2 lowercase letters, Language code must be exactly 2 characters");
+        assertThat(errorResponse.get("timestamp")).isNotNull();
+    }
 }
\ No newline at end of file
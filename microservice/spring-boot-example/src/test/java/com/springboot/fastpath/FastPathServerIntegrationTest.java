@@ -0,0 +1,147 @@
+package com.springboot.fastpath;
+
+import com.springboot.service.GreetingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = {
+    "app.fast-path.enabled=true",
+    "app.fast-path.port=0",
+    "app.fast-path.token=fast-path-token-123"
+})
+class FastPathServerIntegrationTest {
+
+    private static final String TOKEN = "X-Fast-Path-Token: fast-path-token-123\r\n";
+
+    @Autowired
+    private FastPathServer fastPathServer;
+
+    @Autowired
+    private GreetingService greetingService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private double served() {
+        return meterRegistry.get("greeting_fast_path_requests_total").tag("outcome", "served").counter().count();
+    }
+
+    @Test
+    void testPipelinedRequestsAreAnsweredInOrderOnOneConnection() throws IOException {
+        double served = served();
+        try (Socket socket = connect()) {
+            send(socket, "GET /?lang=es HTTP/1.1\r\nHost: localhost\r\n" + TOKEN + "\r\n"
+                + "GET / HTTP/1.1\r\nHost: localhost\r\n" + TOKEN + "\r\n"
+                + "GET /?lang=fr HTTP/1.1\r\nHost: localhost\r\n" + TOKEN + "\r\n");
+
+            Response spanish = Response.read(socket.getInputStream());
+            Response byDefault = Response.read(socket.getInputStream());
+            Response french = Response.read(socket.getInputStream());
+
+            assertThat(spanish.status()).isEqualTo(200);
+            assertThat(spanish.headers()).containsEntry("content-type", "text/plain;charset=UTF-8");
+            assertThat(spanish.body()).isEqualTo(greetingService.getGreeting("es"));
+            assertThat(byDefault.body()).isEqualTo(greetingService.getGreeting("en"));
+            assertThat(french.body()).isEqualTo(greetingService.getGreeting("fr"));
+
+            // Still open for the next request
+            send(socket, "GET /?lang=es HTTP/1.1\r\n" + TOKEN + "\r\n");
+            assertThat(Response.read(socket.getInputStream()).body()).isEqualTo(spanish.body());
+        }
+        assertThat(served()).isEqualTo(served + 4);
+    }
+
+    @Test
+    void testMissingOrWrongTokenIsRejectedAndClosesTheConnection() throws IOException {
+        try (Socket socket = connect()) {
+            send(socket, "GET /?lang=es HTTP/1.1\r\nHost: localhost\r\n\r\n");
+
+            Response response = Response.read(socket.getInputStream());
+            assertThat(response.status()).isEqualTo(401);
+            assertThat(response.headers()).containsEntry("connection", "close");
+            assertThat(socket.getInputStream().read()).isEqualTo(-1);
+        }
+        try (Socket socket = connect()) {
+            send(socket, "GET /?lang=es HTTP/1.1\r\nX-Fast-Path-Token: fast-path-token-124\r\n\r\n");
+
+            assertThat(Response.read(socket.getInputStream()).status()).isEqualTo(401);
+        }
+    }
+
+    @Test
+    void testOnlyTheGreetingIsServed() throws IOException {
+        try (Socket socket = connect()) {
+            send(socket, "GET /api/v1/greeting HTTP/1.1\r\n" + TOKEN + "\r\n"
+                + "DELETE / HTTP/1.1\r\n" + TOKEN + "\r\n"
+                + "GET /?lang=english HTTP/1.1\r\n" + TOKEN + "\r\n");
+
+            assertThat(Response.read(socket.getInputStream()).status()).isEqualTo(404);
+            Response notAllowed = Response.read(socket.getInputStream());
+            assertThat(notAllowed.status()).isEqualTo(405);
+            assertThat(notAllowed.headers()).containsEntry("allow", "GET");
+            assertThat(Response.read(socket.getInputStream()).status()).isEqualTo(400);
+        }
+        try (Socket socket = connect()) {
+            // A body would desynchronize the pipeline, so the connection is closed
+            send(socket, "GET / HTTP/1.1\r\n" + TOKEN + "Content-Length: 5\r\n\r\nhello");
+
+            assertThat(Response.read(socket.getInputStream()).status()).isEqualTo(400);
+            assertThat(socket.getInputStream().read()).isEqualTo(-1);
+        }
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket("localhost", fastPathServer.port());
+        socket.setSoTimeout(5000);
+        return socket;
+    }
+
+    private static void send(Socket socket, String requests) throws IOException {
+        OutputStream out = socket.getOutputStream();
+        out.write(requests.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private record Response(int status, Map<String, String> headers, String body) {
+
+        static Response read(InputStream in) throws IOException {
+            String statusLine = readLine(in);
+            int status = Integer.parseInt(statusLine.substring(9, 12));
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+                int colon = line.indexOf(':');
+                headers.put(line.substring(0, colon).toLowerCase(), line.substring(colon + 1).trim());
+            }
+            byte[] body = in.readNBytes(Integer.parseInt(headers.get("content-length")));
+            return new Response(status, headers, new String(body, StandardCharsets.UTF_8));
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            for (int b = in.read(); b != '\n'; b = in.read()) {
+                if (b < 0) {
+                    throw new IOException("Connection closed mid-response");
+                }
+                if (b != '\r') {
+                    line.write(b);
+                }
+            }
+            return line.toString(StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.springboot.invalidation;
+
+import com.springboot.service.GreetingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uses the file transport; another instance is simulated by appending records to the log.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = {
+    "app.security.admin.username=greeting-admin",
+    "app.security.admin.password=admin-password-123",
+    "app.invalidation.transport=file",
+    "app.invalidation.file.poll-interval=10ms",
+    "app.invalidation.coalesce-window=200ms"
+})
+class InvalidationIntegrationTest {
+
+    private static final Path LOG = createLog();
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private GreetingService greetingService;
+
+    @Autowired
+    private CacheInvalidator cacheInvalidator;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void invalidationLog(DynamicPropertyRegistry registry) {
+        registry.add("app.invalidation.file.path", LOG::toString);
+    }
+
+    private static Path createLog() {
+        try {
+            return Files.createTempDirectory("invalidations").resolve("invalidations.log");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ResponseEntity<Map> delete(String user, String password, String uri) {
+        return restTemplate.withBasicAuth(user, password).exchange(
+            "http://localhost:" + managementPort + uri, HttpMethod.DELETE, HttpEntity.EMPTY, Map.class);
+    }
+
+    private boolean cached(String language) {
+        return ((CaffeineCache) cacheManager.getCache("greetings")).getNativeCache().asMap().containsKey(language);
+    }
+
+    private boolean catalogCached() {
+        return ((CaffeineCache) cacheManager.getCache("languages")).getNativeCache().asMap().containsKey("all");
+    }
+
+    private double received(String outcome) {
+        Counter counter = meterRegistry.find("greeting_invalidations_received_total").tag("outcome", outcome).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static List<InvalidationMessage> records() throws IOException {
+        ByteBuffer log = ByteBuffer.wrap(Files.readAllBytes(LOG));
+        List<InvalidationMessage> records = new ArrayList<>();
+        while (log.remaining() >= Integer.BYTES) {
+            byte[] record = new byte[log.getInt()];
+            log.get(record);
+            records.add(InvalidationMessage.decode(record));
+        }
+        return records;
+    }
+
+    private static List<InvalidationMessage> recordsAfter(int skip) {
+        try {
+            List<InvalidationMessage> records = records();
+            return records.subList(Math.min(skip, records.size()), records.size());
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    private static void append(InvalidationMessage message) throws IOException {
+        byte[] encoded = message.encode();
+        Files.write(LOG, ByteBuffer.allocate(Integer.BYTES + encoded.length).putInt(encoded.length).put(encoded).array(),
+            StandardOpenOption.APPEND);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    @Test
+    void testInvalidationsAreAppliedLocallyAndBroadcastAsOneCoalescedMessage() throws IOException {
+        greetingService.getGreeting("es");
+        greetingService.getGreeting("fr");
+        int before = records().size();
+
+        cacheInvalidator.invalidate("es");
+        cacheInvalidator.invalidate("fr");
+        assertThat(cached("es")).isFalse();
+        assertThat(cached("fr")).isFalse();
+
+        // One message for both, whatever other tests appended around it
+        await(() -> recordsAfter(before).stream().anyMatch(message -> message.languages().equals(Set.of("es", "fr"))));
+        assertThat(recordsAfter(before)).noneMatch(message -> message.languages().equals(Set.of("es")));
+    }
+
+    @Test
+    void testInvalidateAllAlsoEvictsTheLanguageCatalog() {
+        greetingService.getGreeting("zh");
+        greetingService.getAllLanguages();
+        assertThat(catalogCached()).isTrue();
+
+        cacheInvalidator.invalidateAll();
+
+        assertThat(cached("zh")).isFalse();
+        assertThat(catalogCached()).isFalse();
+    }
+
+    @Test
+    void testInvalidationEndpointIsAdminOnly() {
+        greetingService.getGreeting("pt");
+
+        assertThat(delete("greeting-admin", "admin-password-123", "/actuator/invalidations/pt").getBody())
+            .containsEntry("invalidated", "pt");
+        assertThat(cached("pt")).isFalse();
+        assertThat(delete("greeting-admin", "admin-password-123", "/actuator/invalidations/PT").getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(delete("greeting-user", "dev-password-123", "/actuator/invalidations").getStatusCode())
+            .isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void testPeerMessagesAreAppliedOnceAndTimed() throws IOException {
+        greetingService.getGreeting("de");
+        greetingService.getGreeting("it");
+        double applied = received("applied");
+        double duplicates = received("duplicate");
+        InvalidationMessage fromPeer = new InvalidationMessage(42L, 7, System.currentTimeMillis(), false, Set.of("de"));
+
+        append(fromPeer);
+        append(fromPeer);
+        await(() -> received("duplicate") == duplicates + 1);
+        assertThat(received("applied")).isEqualTo(applied + 1);
+        assertThat(cached("de")).isFalse();
+        assertThat(cached("it")).isTrue();
+        assertThat(meterRegistry.get("greeting_invalidation_lag_seconds").timer().count()).isPositive();
+
+        // Overtaken by a newer message, but not applied yet
+        greetingService.getAllLanguages();
+        append(new InvalidationMessage(42L, 9, System.currentTimeMillis(), true, Set.of()));
+        append(new InvalidationMessage(42L, 8, System.currentTimeMillis(), false, Set.of("it")));
+        await(() -> received("applied") == applied + 3);
+        assertThat(cached("it")).isFalse();
+        assertThat(catalogCached()).isFalse();
+    }
+}
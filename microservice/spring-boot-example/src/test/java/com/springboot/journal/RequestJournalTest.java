@@ -0,0 +1,113 @@
+package com.springboot.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestJournalTest {
+
+    private static final long TEN_RECORDS = JournalFormat.HEADER_SIZE + 10L * JournalFormat.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordsRoundTripAcrossSegments() throws IOException {
+        try (RequestJournal journal = new RequestJournal(directory, TEN_RECORDS, 16)) {
+            for (int i = 0; i < 25; i++) {
+                journal.append(1_700_000_000_000L + i, 1_000_000L * (i + 1), 200,
+                        JournalFormat.endpointCode("/api/v2/greeting"), "es",
+                        " 203.0.113.7, 10.0.0.1", "greeting-user");
+            }
+        }
+
+        List<JournalFormat.Entry> entries = decode();
+        assertThat(segmentCount()).isEqualTo(3);
+        assertThat(entries).hasSize(25);
+        assertThat(entries.get(0)).isEqualTo(new JournalFormat.Entry(1_700_000_000_000L, 1_000_000L, 200,
+                "/api/v2/greeting", "es", "203.0.113.7", "greeting-user"));
+        assertThat(entries.get(24).timestamp()).isEqualTo(1_700_000_000_024L);
+    }
+
+    @Test
+    void testOldestSegmentsAreDeletedAndLongFieldsTruncated() throws IOException {
+        try (RequestJournal journal = new RequestJournal(directory, TEN_RECORDS, 2)) {
+            for (int i = 0; i < 25; i++) {
+                journal.append(1_700_000_000_000L + i, 1, 429, JournalFormat.endpointCode("/"), null,
+                        "2001:db8:85a3:0:0:8a2e:370:7334:ffff:ffff", "ü-user-with-a-rather-long-name-over-33");
+            }
+        }
+
+        List<JournalFormat.Entry> entries = decode();
+        assertThat(segmentCount()).isEqualTo(2);
+        assertThat(entries).hasSize(15);
+        assertThat(entries.get(0).language()).isEmpty();
+        assertThat(entries.get(0).client()).hasSize(39);
+        assertThat(entries.get(0).principal()).hasSize(33).startsWith("?-user");
+    }
+
+    @Test
+    void testRecordsAfterAnUnwrittenSlotAreStillRead() throws IOException {
+        try (RequestJournal journal = new RequestJournal(directory, TEN_RECORDS, 16)) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(1_700_000_000_000L + i, 1, 200, 1, "en", "127.0.0.1", "u");
+            }
+        }
+        // A slot claimed by a writer that never filled it
+        try (Stream<Path> files = Files.list(directory);
+             FileChannel channel = FileChannel.open(files.findFirst().orElseThrow(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES), JournalFormat.HEADER_SIZE + 2L * JournalFormat.RECORD_SIZE);
+        }
+
+        assertThat(decode()).extracting(JournalFormat.Entry::timestamp)
+                .containsExactly(1_700_000_000_000L, 1_700_000_000_001L, 1_700_000_000_003L, 1_700_000_000_004L);
+    }
+
+    @Test
+    void testLatencyReportHasPercentilesPerLanguage() throws IOException {
+        try (RequestJournal journal = new RequestJournal(directory, TEN_RECORDS * 20, 16)) {
+            for (int i = 1; i <= 100; i++) {
+                journal.append(1_700_000_000_000L + i, i * 1_000_000L, 200, 1, "en", "127.0.0.1", "u");
+            }
+            journal.append(1_700_000_000_200L, 5_000_000L, 200, 1, "fr", "127.0.0.1", "u");
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int exitCode = JournalDecoder.run(new String[] {"latency", directory.toString()},
+                new PrintStream(out, true, StandardCharsets.UTF_8), System.err);
+
+        assertThat(exitCode).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).containsExactly(
+                "language,count,p50_ms,p99_ms,max_ms",
+                "en,100,50.000,99.000,100.000",
+                "fr,1,5.000,5.000,5.000");
+    }
+
+    private List<JournalFormat.Entry> decode() throws IOException {
+        List<JournalFormat.Entry> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            JournalDecoder.read(files.sorted().toList(), entries::add);
+        }
+        return entries;
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
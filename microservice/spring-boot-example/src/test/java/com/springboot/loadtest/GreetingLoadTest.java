@@ -0,0 +1,118 @@
+package com.springboot.loadtest;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.springboot.service.GreetingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test against the application on a random port. Excluded from the
+ * default build; run with {@code mvn test -Pload-test}, or a single scenario with
+ * {@code -Dtest=GreetingLoadTest#hotCache}. Reports are printed and written to
+ * {@code target/load-test/<scenario>.txt}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.security.admin.username=greeting-admin",
+    "app.security.admin.password=load-test-admin-123",
+    "app.security.rate-limit.requests-per-second=100000"
+})
+class GreetingLoadTest {
+
+    private static final int MAX_IN_FLIGHT = 2_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private GreetingService greetingService;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Value("${app.security.user.username}")
+    private String username;
+
+    @Value("${app.security.user.password}")
+    private String password;
+
+    @Value("${app.security.admin.username}")
+    private String adminUsername;
+
+    @Value("${app.security.admin.password}")
+    private String adminPassword;
+
+    private double configuredRate;
+
+    @BeforeEach
+    void setUp() {
+        configuredRate = rateLimiter.getRate();
+    }
+
+    @Test
+    void coldCache() throws Exception {
+        greetingService.clearCache();
+        LoadReport report = run(LoadScenario.of("cold", 50, Duration.ofSeconds(10)));
+
+        assertThat(report.errors()).isZero();
+    }
+
+    @Test
+    void hotCache() throws Exception {
+        run(LoadScenario.of("warmup", 20, Duration.ofSeconds(2)));
+        LoadReport report = run(LoadScenario.of("hot", 100, Duration.ofSeconds(15)));
+
+        assertThat(report.errors()).isZero();
+        assertThat(report.rejected()).isZero();
+    }
+
+    @Test
+    void overload() throws Exception {
+        double limit = Double.parseDouble(System.getProperty("loadtest.overload.limit", "20"));
+        rateLimiter.setRate(limit);
+        try {
+            LoadScenario scenario = LoadScenario.of("overload", limit * 4, Duration.ofSeconds(10));
+            LoadReport report = run(scenario);
+
+            // Roughly three quarters of the offered load is over the limit
+            assertThat(report.rejected()).isGreaterThan(report.completed() / 2);
+            assertThat(report.errors()).isZero();
+        } finally {
+            rateLimiter.setRate(configuredRate);
+        }
+    }
+
+    private LoadReport run(LoadScenario scenario) throws InterruptedException, IOException {
+        List<OpenModelLoadGenerator.Credentials> users = List.of(
+                new OpenModelLoadGenerator.Credentials(username, password),
+                new OpenModelLoadGenerator.Credentials(adminUsername, adminPassword));
+        try (OpenModelLoadGenerator generator =
+                     new OpenModelLoadGenerator("http://localhost:" + port, users, MAX_IN_FLIGHT)) {
+            long start = System.nanoTime();
+            LoadReport report = generator.run(scenario);
+            String formatted = report.format(scenario, (System.nanoTime() - start) / 1e9);
+            System.out.println(formatted);
+            Path file = Path.of("target", "load-test", scenario.name() + ".txt");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, formatted);
+            return report;
+        }
+    }
+}
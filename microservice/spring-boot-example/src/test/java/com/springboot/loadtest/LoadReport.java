@@ -0,0 +1,96 @@
+package com.springboot.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counts per endpoint. Latencies are measured from each request's
+ * intended start time, not from when it was actually sent, so a stalled server shows up
+ * as queueing delay instead of disappearing from the percentiles (coordinated omission).
+ */
+final class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Endpoint total = new Endpoint();
+    private final LongAdder notSent = new LongAdder();
+
+    void record(String endpoint, long latencyNanos, int status) {
+        endpoints.computeIfAbsent(endpoint, e -> new Endpoint()).record(latencyNanos, status);
+        total.record(latencyNanos, status);
+    }
+
+    void recordNotSent() {
+        notSent.increment();
+    }
+
+    long completed() {
+        return total.latencies.getTotalCount();
+    }
+
+    long rejected() {
+        return total.rejected.sum();
+    }
+
+    long errors() {
+        return total.errors.sum();
+    }
+
+    long notSent() {
+        return notSent.sum();
+    }
+
+    double percentileMillis(double percentile) {
+        return total.latencies.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    String format(LoadScenario scenario, double elapsedSeconds) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Scenario %s: target %.0f req/s for %s, elapsed %.1f s, not sent %d%n",
+                scenario.name(), scenario.ratePerSecond(), scenario.duration(), elapsedSeconds, notSent()));
+        report.append(String.format(Locale.ROOT, "%-18s %8s %9s %9s %9s %9s %9s %7s %7s%n",
+                "endpoint", "count", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "429 %", "err %"));
+        new TreeMap<>(endpoints).forEach((name, endpoint) -> endpoint.format(report, name, elapsedSeconds));
+        total.format(report, "total", elapsedSeconds);
+        return report.toString();
+    }
+
+    private static final class Endpoint {
+
+        final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        final LongAdder rejected = new LongAdder();
+        final LongAdder errors = new LongAdder();
+
+        void record(long latencyNanos, int status) {
+            latencies.recordValue(Math.min(Math.max(latencyNanos, 1), HIGHEST_TRACKABLE_NANOS));
+            if (status == 429) {
+                rejected.increment();
+            } else if (status < 200 || status >= 300) {
+                errors.increment();
+            }
+        }
+
+        void format(StringBuilder report, String name, double elapsedSeconds) {
+            long count = latencies.getTotalCount();
+            report.append(String.format(Locale.ROOT, "%-18s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %7.2f %7.2f%n",
+                    name, count, count / elapsedSeconds,
+                    latencies.getValueAtPercentile(50) / 1e6,
+                    latencies.getValueAtPercentile(99) / 1e6,
+                    latencies.getValueAtPercentile(99.9) / 1e6,
+                    latencies.getMaxValue() / 1e6,
+                    percent(rejected.sum(), count), percent(errors.sum(), count)));
+        }
+
+        private static double percent(long part, long count) {
+            return count == 0 ? 0 : 100.0 * part / count;
+        }
+    }
+}
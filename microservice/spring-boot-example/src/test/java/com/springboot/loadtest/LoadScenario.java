@@ -0,0 +1,27 @@
+package com.springboot.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * One load-test run: a constant arrival rate held for a duration over a round-robin mix
+ * of request paths. Rate and duration can be overridden per scenario with the system
+ * properties {@code loadtest.<name>.rate} and {@code loadtest.<name>.duration}
+ * (an ISO-8601 duration such as {@code PT30S}).
+ */
+record LoadScenario(String name, double ratePerSecond, Duration duration, List<String> paths) {
+
+    static final List<String> DEFAULT_MIX = List.of(
+            "/?lang=en", "/?lang=es", "/async?lang=fr", "/languages",
+            "/api/v2/greeting?lang=de", "/?lang=ja", "/api/v2/greeting?lang=zh", "/async?lang=xx");
+
+    static LoadScenario of(String name, double defaultRate, Duration defaultDuration) {
+        double rate = Double.parseDouble(System.getProperty("loadtest." + name + ".rate", Double.toString(defaultRate)));
+        Duration duration = Duration.parse(System.getProperty("loadtest." + name + ".duration", defaultDuration.toString()));
+        return new LoadScenario(name, rate, duration, DEFAULT_MIX);
+    }
+
+    long requestCount() {
+        return (long) (ratePerSecond * duration.toNanos() / 1e9);
+    }
+}
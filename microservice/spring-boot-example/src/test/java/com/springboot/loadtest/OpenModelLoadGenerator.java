@@ -0,0 +1,98 @@
+package com.springboot.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Constant-arrival-rate (open model) load generator on the JDK {@link HttpClient}.
+ * Request {@code i} is due at {@code start + i / rate} whether or not earlier requests
+ * have completed; if the generator falls behind it sends the overdue requests at once
+ * but still measures them from their due time. Requests over {@code maxInFlight} are
+ * counted as not sent rather than queued in the client.
+ */
+final class OpenModelLoadGenerator implements AutoCloseable {
+
+    private final String baseUrl;
+    private final List<String> authorizations;
+    private final int maxInFlight;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client;
+
+    OpenModelLoadGenerator(String baseUrl, List<Credentials> users, int maxInFlight) {
+        this.baseUrl = baseUrl;
+        this.authorizations = users.stream().map(Credentials::basicAuthorization).toList();
+        this.maxInFlight = maxInFlight;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    LoadReport run(LoadScenario scenario) throws InterruptedException {
+        LoadReport report = new LoadReport();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = (long) (1e9 / scenario.ratePerSecond());
+        long requests = scenario.requestCount();
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long due = start + i * intervalNanos;
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                report.recordNotSent();
+                continue;
+            }
+            String path = scenario.paths().get((int) (i % scenario.paths().size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", authorizations.get((int) (i % authorizations.size())))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            String endpoint = endpoint(path);
+            CompletableFuture<HttpResponse<Void>> response = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            response.whenComplete((result, failure) -> {
+                report.record(endpoint, System.nanoTime() - due, failure == null ? result.statusCode() : 0);
+                inFlight.release();
+            });
+        }
+        // Wait for stragglers; whatever is still in flight after the timeout stays unrecorded
+        if (inFlight.tryAcquire(maxInFlight, 60, TimeUnit.SECONDS)) {
+            inFlight.release(maxInFlight);
+        }
+        return report;
+    }
+
+    private static String endpoint(String path) {
+        int query = path.indexOf('?');
+        return query < 0 ? path : path.substring(0, query);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        executor.close();
+    }
+
+    record Credentials(String username, String password) {
+
+        String basicAuthorization() {
+            String token = username + ":" + password;
+            return "Basic " + Base64.getEncoder().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.springboot.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+    private final ListAppender<ILoggingEvent> target = new ListAppender<>();
+    private final RingBufferAppender appender = new RingBufferAppender();
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        target.setContext(context);
+        target.start();
+        appender.setContext(context);
+        appender.setName("ASYNC");
+        appender.addAppender(target);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    void testEventsAreDeliveredInOrderAndDrainedOnStop() {
+        appender.start();
+        for (int i = 0; i < 1000; i++) {
+            logger.info("event {}", i);
+        }
+        appender.stop();
+
+        assertThat(target.list).hasSize(1000);
+        assertThat(target.list.get(0).getFormattedMessage()).isEqualTo("event 0");
+        assertThat(target.list.get(999).getFormattedMessage()).isEqualTo("event 999");
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void testRepetitiveEventsAreSampledButErrorsAreNot() {
+        appender.setSampleLimit(5);
+        appender.setSampleIntervalMillis(60_000);
+        appender.start();
+        for (int i = 0; i < 100; i++) {
+            logger.warn("Rate limit exceeded for IP: {}", "203.0.113." + i);
+            logger.error("Failure {}", i);
+        }
+        logger.warn("A different pattern");
+        appender.stop();
+
+        List<String> warnings = target.list.stream()
+            .filter(event -> event.getLevel() == Level.WARN)
+            .map(ILoggingEvent::getMessage)
+            .toList();
+        assertThat(warnings).hasSize(6).endsWith("A different pattern");
+        assertThat(target.list).filteredOn(event -> event.getLevel() == Level.ERROR).hasSize(100);
+        assertThat(appender.getSampledCount()).isEqualTo(95);
+    }
+
+    @Test
+    void testFullBufferDropsInsteadOfBlocking() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        AppenderBase<ILoggingEvent> slow = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                writerBlocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        slow.setContext(context);
+        slow.start();
+        appender.addAppender(slow);
+        appender.setBufferSize(16);
+        appender.setDiscardingThreshold(0);
+        appender.start();
+
+        logger.info("blocks the writer");
+        assertThat(writerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 100; i++) {
+            logger.error("event {}", i);
+        }
+        assertThat(appender.getDroppedCount()).isEqualTo(100 - 16);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RingBufferAppenderMetrics.bindTo(registry, RingBufferAppenderMetrics.appenders(context));
+        assertThat(registry.get("logging_events_dropped_total").tag("reason", "overflow").functionCounter().count())
+            .isEqualTo(84.0);
+        assertThat(registry.get("logging_ring_buffer_pending").gauge().value()).isEqualTo(16.0);
+
+        release.countDown();
+    }
+}
@@ -0,0 +1,59 @@
+package com.springboot.peer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+
+    private static final List<String> MEMBERS = List.of(
+        "http://localhost:8080", "http://localhost:8081", "http://localhost:8082");
+
+    private static List<String> keys() {
+        return IntStream.range(0, 30_000).mapToObj(i -> "key-" + i).toList();
+    }
+
+    @Test
+    void testKeysAreSpreadEvenlyAcrossMembers() {
+        ConsistentHashRing ring = ConsistentHashRing.of(MEMBERS, 128);
+        Map<String, Integer> counts = new HashMap<>();
+        keys().forEach(key -> counts.merge(ring.owner(key), 1, Integer::sum));
+
+        assertThat(counts).containsOnlyKeys(MEMBERS);
+        // 10,000 each with perfect balance
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(8_000, 12_000));
+    }
+
+    @Test
+    void testAddingAMemberOnlyMovesKeysToIt() {
+        ConsistentHashRing before = ConsistentHashRing.of(MEMBERS, 128);
+        ConsistentHashRing after = ConsistentHashRing.of(
+            List.of("http://localhost:8083", "http://localhost:8080", "http://localhost:8081", "http://localhost:8082"),
+            128);
+
+        int moved = 0;
+        for (String key : keys()) {
+            if (!before.owner(key).equals(after.owner(key))) {
+                assertThat(after.owner(key)).isEqualTo("http://localhost:8083");
+                moved++;
+            }
+        }
+        // A quarter of the keys with perfect balance
+        assertThat(moved).isBetween(5_500, 9_500);
+    }
+
+    @Test
+    void testOwnersDoNotDependOnMemberOrder() {
+        ConsistentHashRing ring = ConsistentHashRing.of(MEMBERS, 16);
+        ConsistentHashRing reversed = ConsistentHashRing.of(MEMBERS.reversed(), 16);
+
+        assertThat(keys().subList(0, 1000)).allSatisfy(key -> assertThat(reversed.owner(key)).isEqualTo(ring.owner(key)));
+        assertThatThrownBy(() -> ConsistentHashRing.of(List.of(), 16)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
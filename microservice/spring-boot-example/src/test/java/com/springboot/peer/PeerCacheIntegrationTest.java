@@ -0,0 +1,160 @@
+package com.springboot.peer;
+
+import com.springboot.SpringBootExampleApplication;
+import com.springboot.service.GreetingCatalog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two instances on localhost sharing one ring with a third member that is never started.
+ */
+class PeerCacheIntegrationTest {
+
+    private static final String SECRET = "peer-secret-123";
+
+    private static final TestRestTemplate restTemplate = new TestRestTemplate("greeting-user", "dev-password-123");
+
+    private static String firstUrl;
+    private static String secondUrl;
+    private static String deadUrl;
+    private static ConsistentHashRing ring;
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    @BeforeAll
+    static void startInstances() throws IOException {
+        firstUrl = "http://localhost:" + freePort();
+        secondUrl = "http://localhost:" + freePort();
+        deadUrl = "http://localhost:" + freePort();
+        ring = ConsistentHashRing.of(List.of(firstUrl, secondUrl, deadUrl), 128);
+        String members = String.join(",", firstUrl, secondUrl, deadUrl);
+        first = start(firstUrl, members);
+        second = start(secondUrl, members);
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (second != null) {
+            second.close();
+        }
+        if (first != null) {
+            first.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String self, String members) {
+        return new SpringApplicationBuilder(SpringBootExampleApplication.class).run(
+            "--spring.profiles.active=test",
+            "--server.port=" + self.substring(self.lastIndexOf(':') + 1),
+            "--management.server.port=0",
+            "--app.security.user.username=greeting-user",
+            "--app.security.user.password=dev-password-123",
+            "--app.backend.local.greeting-latency=0ms",
+            "--app.cache.peers.enabled=true",
+            "--app.cache.peers.self=" + self,
+            "--app.cache.peers.members=" + members,
+            "--app.cache.peers.secret=" + SECRET);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // Any two-letter code is a valid key; unsupported ones load the default greeting
+    private static String languageOwnedBy(String owner, int skip) {
+        for (char a = 'a'; a <= 'z'; a++) {
+            for (char b = 'a'; b <= 'z'; b++) {
+                String language = "" + a + b;
+                if (ring.owner(language).equals(owner) && skip-- == 0) {
+                    return language;
+                }
+            }
+        }
+        throw new IllegalStateException("No language owned by " + owner);
+    }
+
+    private static double peerLoads(ConfigurableApplicationContext context, String outcome) {
+        Counter counter = context.getBean(MeterRegistry.class)
+            .find("greeting_peer_loads_total").tag("outcome", outcome).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static boolean cached(ConfigurableApplicationContext context, String language) {
+        CaffeineCache greetings = (CaffeineCache) context.getBean(CacheManager.class).getCache("greetings");
+        return greetings.getNativeCache().asMap().containsKey(language);
+    }
+
+    private static String expectedGreeting(String language) {
+        return first.getBean(GreetingCatalog.class).greetingOrDefault(language);
+    }
+
+    private static ResponseEntity<Map> peerRequest(String url, String secret, String languages) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(PeerClient.SECRET_HEADER, secret);
+        return new TestRestTemplate().exchange(url + PeerClient.GREETINGS_PATH + "?languages=" + languages,
+            HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+    }
+
+    @Test
+    void testNonOwnerLoadsThroughOwnerAndKeepsTheResult() {
+        String language = languageOwnedBy(firstUrl, 0);
+        double before = peerLoads(second, "peer");
+
+        assertThat(restTemplate.getForObject(secondUrl + "/?lang=" + language, String.class))
+            .isEqualTo(expectedGreeting(language));
+        assertThat(peerLoads(second, "peer")).isEqualTo(before + 1);
+        assertThat(cached(first, language)).isTrue();
+        assertThat(cached(second, language)).isTrue();
+
+        // Served from the local copy from now on
+        assertThat(restTemplate.getForObject(secondUrl + "/?lang=" + language, String.class))
+            .isEqualTo(expectedGreeting(language));
+        assertThat(peerLoads(second, "peer")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void testUnreachableOwnerFallsBackToBackend() {
+        String language = languageOwnedBy(deadUrl, 0);
+        double before = peerLoads(second, "fallback");
+
+        assertThat(restTemplate.getForObject(secondUrl + "/?lang=" + language, String.class))
+            .isEqualTo(expectedGreeting(language));
+        assertThat(peerLoads(second, "fallback")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void testEndpointServesOnlyOwnedLanguagesToPeers() {
+        String owned = languageOwnedBy(firstUrl, 1);
+        String notOwned = languageOwnedBy(secondUrl, 1);
+
+        ResponseEntity<Map> answer = peerRequest(firstUrl, SECRET, owned);
+        assertThat(answer.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(answer.getBody()).containsEntry(owned, expectedGreeting(owned));
+
+        assertThat(peerRequest(firstUrl, SECRET, owned + "," + notOwned).getStatusCode().value()).isEqualTo(421);
+        assertThat(peerRequest(firstUrl, "wrong-secret", owned).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(peerRequest(firstUrl, SECRET, "EN").getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,98 @@
+package com.springboot.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = {
+    "app.security.admin.username=greeting-admin",
+    "app.security.admin.password=admin-password-123"
+})
+class FlightRecorderEndpointIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + uri;
+    }
+
+    private String createManagementURL(String uri) {
+        return "http://localhost:" + managementPort + uri;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecordingCapturesGreetingEvents() throws Exception {
+        TestRestTemplate admin = restTemplate.withBasicAuth("greeting-admin", "admin-password-123");
+        TestRestTemplate user = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+
+        ResponseEntity<Map> started = admin.postForEntity(createManagementURL("/actuator/jfr"),
+            Map.of("duration", "1m", "settings", "default"), Map.class);
+        assertThat(started.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(started.getBody()).containsEntry("state", "RUNNING");
+        String name = (String) started.getBody().get("name");
+
+        ResponseEntity<Map> again = admin.postForEntity(createManagementURL("/actuator/jfr"), Map.of(), Map.class);
+        assertThat(again.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+        user.getForEntity(createURLWithPort("/?lang=it"), String.class);
+        user.getForEntity(createURLWithPort("/async?lang=pt"), String.class);
+        user.getForEntity(createURLWithPort("/api/v2/greeting?lang=de"), String.class);
+
+        assertThat(admin.getForEntity(createManagementURL("/actuator/jfr/" + name), byte[].class).getStatusCode())
+            .isEqualTo(HttpStatus.CONFLICT);
+        ResponseEntity<Map> stopped = admin.exchange(createManagementURL("/actuator/jfr"), HttpMethod.DELETE,
+            HttpEntity.EMPTY, Map.class);
+        assertThat(stopped.getBody()).containsEntry("state", "CLOSED");
+
+        ResponseEntity<byte[]> download = admin.getForEntity(createManagementURL("/actuator/jfr/" + name), byte[].class);
+        assertThat(download.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Path file = Files.createTempFile("recording", ".jfr");
+        try {
+            Files.write(file, download.getBody());
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events).anyMatch(event -> event.getEventType().getName().equals("com.springboot.GreetingRequest")
+                && event.getString("endpoint").equals("/api/v2/greeting") && !event.getBoolean("failed"));
+            assertThat(events).anyMatch(event -> event.getEventType().getName().equals("com.springboot.GreetingRequest")
+                && event.getString("endpoint").equals("/async"));
+            assertThat(events).anyMatch(event -> event.getEventType().getName().equals("com.springboot.CacheMiss")
+                && event.getString("key").equals("it"));
+            assertThat(events).anyMatch(event -> event.getEventType().getName().equals("com.springboot.ExecutorQueue")
+                && event.getString("executor").equals("greetingTaskExecutor"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testEndpointRequiresAdmin() {
+        ResponseEntity<String> response = restTemplate.withBasicAuth("greeting-user", "dev-password-123")
+            .getForEntity(createManagementURL("/actuator/jfr"), String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+}
@@ -0,0 +1,72 @@
+package com.springboot.search;
+
+import com.springboot.model.LanguageMatch;
+import com.springboot.service.GreetingCatalog;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LanguageSearchIndexTest {
+
+    private final LanguageSearchIndex index = LanguageSearchIndex.build(new GreetingCatalog("en").greetings());
+
+    @Test
+    void testPrefixMatchesNamesCodesAndGreetings() {
+        assertThat(codes(index.search("por", 10))).containsExactly("pt");
+        assertThat(codes(index.search("Bonj", 10))).containsExactly("fr");
+        assertThat(codes(index.search("hola mun", 10))).containsExactly("es");
+        assertThat(index.search("ja", 10).get(0))
+            .isEqualTo(new LanguageMatch("ja", "Japanese", "こんにちは世界!", 6.0));
+    }
+
+    @Test
+    void testNativeNamesMatchWithoutDiacritics() {
+        assertThat(codes(index.search("portugues", 10))).containsExactly("pt");
+        assertThat(codes(index.search("deutsch", 10))).containsExactly("de");
+        assertThat(codes(index.search("русский", 10))).containsExactly("ru");
+    }
+
+    @Test
+    void testFuzzyMatchesRankBelowPrefixMatches() {
+        assertThat(codes(index.search("portugese", 10))).containsExactly("pt");
+        assertThat(codes(index.search("wrold", 10))).isEmpty();
+        assertThat(codes(index.search("frnech", 10))).isEmpty();
+        assertThat(codes(index.search("itallian", 10))).containsExactly("it");
+
+        TreeMap<String, String> catalog = new TreeMap<>();
+        catalog.put("pt", "Olá Mundo!");
+        catalog.put("xx", "Portugal");
+        List<LanguageMatch> matches = LanguageSearchIndex.build(catalog).search("portug", 10);
+        assertThat(codes(matches)).containsExactly("pt", "xx");
+        assertThat(matches.get(1).name()).isNull();
+    }
+
+    @Test
+    void testFuzzyMergeStepsCountAgainstTheWordBudget() {
+        // Every "qz0…" term shares one trigram with the query but is too dissimilar to score
+        assertThat(codes(withDissimilarTerms(100).search("qzzzzy", 10))).containsExactly("zz");
+        assertThat(withDissimilarTerms(5000).search("qzzzzy", 10)).isEmpty();
+    }
+
+    @Test
+    void testLimitAndEmptyQueries() {
+        assertThat(index.search("e", 2)).hasSize(2);
+        assertThat(index.search("!!", 10)).isEmpty();
+    }
+
+    private static LanguageSearchIndex withDissimilarTerms(int count) {
+        TreeMap<String, String> catalog = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            catalog.put("x" + i, "qz%05d".formatted(i));
+        }
+        catalog.put("zz", "qzzzzx");
+        return LanguageSearchIndex.build(catalog);
+    }
+
+    private static List<String> codes(List<LanguageMatch> matches) {
+        return matches.stream().map(LanguageMatch::code).toList();
+    }
+}
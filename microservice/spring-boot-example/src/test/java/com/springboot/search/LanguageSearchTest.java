@@ -0,0 +1,126 @@
+package com.springboot.search;
+
+import com.springboot.backend.BackendException;
+import com.springboot.backend.GreetingBackend;
+import com.springboot.metrics.GreetingMetrics;
+import com.springboot.model.LanguageMatch;
+import com.springboot.service.GreetingCacheEvictedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LanguageSearchTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ScriptedBackend backend = new ScriptedBackend();
+    private final LanguageSearch search = new LanguageSearch(backend, new GreetingMetrics(registry), Duration.ofHours(1));
+
+    @Test
+    void testRebuildsCoalesceAndRerunAfterEviction() {
+        CompletableFuture<SortedMap<String, String>> first = backend.next();
+        CompletableFuture<LanguageSearchIndex> building = search.rebuild();
+        assertThat(search.rebuild()).isSameAs(building);
+        search.onGreetingCacheEvicted(GreetingCacheEvictedEvent.all());
+        assertThat(backend.calls).isEqualTo(1);
+
+        CompletableFuture<SortedMap<String, String>> second = backend.next();
+        first.complete(new TreeMap<>(Map.of("pt", "Olá Mundo!")));
+        assertThat(building.join().size()).isEqualTo(1);
+        await(() -> backend.calls == 2);
+
+        second.complete(new TreeMap<>(Map.of("pt", "Olá Mundo!", "es", "¡Hola Mundo!")));
+        await(() -> entries() == 2);
+        assertThat(codes(search.search("hola", 10))).startsWith("es");
+    }
+
+    @Test
+    void testStaleQueriesJoinTheRebuildInFlight() {
+        LanguageSearch stale = new LanguageSearch(backend, new GreetingMetrics(registry), Duration.ZERO);
+        backend.next().complete(new TreeMap<>(Map.of("pt", "Olá Mundo!")));
+        stale.rebuild().join();
+
+        CompletableFuture<SortedMap<String, String>> refresh = backend.next();
+        stale.search("ola", 10);
+        stale.search("ola", 10);
+        CompletableFuture<LanguageSearchIndex> building = stale.rebuild();
+        refresh.complete(new TreeMap<>(Map.of("pt", "Olá Mundo!", "es", "¡Hola Mundo!")));
+        building.join();
+
+        // A rerun would follow at once on the builder thread
+        long deadline = System.nanoTime() + 200_000_000L;
+        while (System.nanoTime() < deadline) {
+            assertThat(backend.calls).isEqualTo(2);
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    void testFailedRebuildKeepsThePreviousIndex() {
+        backend.next().complete(new TreeMap<>(Map.of("de", "Hallo Welt!")));
+        search.rebuild().join();
+
+        backend.next().completeExceptionally(new BackendException("down"));
+        search.onGreetingCacheEvicted(GreetingCacheEvictedEvent.all());
+
+        assertThat(codes(search.search("deu", 10))).containsExactly("de");
+        assertThat(entries()).isEqualTo(1.0);
+    }
+
+    private double entries() {
+        return registry.get("greeting_search_index_entries").gauge().value();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static List<String> codes(List<LanguageMatch> matches) {
+        return matches.stream().map(LanguageMatch::code).toList();
+    }
+
+    /**
+     * Answers each fetchAll with the next future queued by the test.
+     */
+    private static final class ScriptedBackend implements GreetingBackend {
+
+        private final Queue<CompletableFuture<SortedMap<String, String>>> responses = new ConcurrentLinkedQueue<>();
+        private volatile int calls;
+
+        CompletableFuture<SortedMap<String, String>> next() {
+            CompletableFuture<SortedMap<String, String>> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        }
+
+        @Override
+        public CompletableFuture<String> fetchGreeting(String language) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<SortedMap<String, String>> fetchAll() {
+            calls++;
+            return responses.remove();
+        }
+
+        @Override
+        public String name() {
+            return "scripted";
+        }
+    }
+}
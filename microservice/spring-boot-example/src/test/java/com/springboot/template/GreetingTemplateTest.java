@@ -0,0 +1,48 @@
+package com.springboot.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GreetingTemplateTest {
+
+    @Test
+    void testRendersNameIntoEverySlot() throws Exception {
+        GreetingTemplate template = GreetingTemplate.compile("¡Hola, {name}! {name}?");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        template.writeTo("Zoë 😀", out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("¡Hola, Zoë 😀! Zoë 😀?");
+        assertThat(template.length("Zoë 😀")).isEqualTo(out.size());
+
+        out.reset();
+        template.writeTo("  Ana  ", 2, 5, out);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("¡Hola, Ana! Ana?");
+        assertThat(template.length("  Ana  ", 2, 5)).isEqualTo(out.size());
+        assertThat(GreetingTemplate.compile("こんにちは世界!").render("ignored")).isEqualTo("こんにちは世界!");
+    }
+
+    @Test
+    void testEscapesMarkupAndDropsControlCharacters() {
+        GreetingTemplate template = GreetingTemplate.compile("Hello, {name}!");
+
+        assertThat(template.render("<script>alert('x')</script> & \"co\""))
+            .isEqualTo("Hello, &lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; &quot;co&quot;!");
+        assertThat(template.render("Ana\r\nSet-Cookie: x\u0000\u0085\u202egnp.exe"))
+            .isEqualTo("Hello, AnaSet-Cookie: xgnp.exe!");
+        assertThat(template.render("bad \ud800 pair")).isEqualTo("Hello, bad \ufffd pair!");
+        assertThat(template.length("a&b")).isEqualTo(template.render("a&b").getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void testRejectsUnknownPlaceholders() {
+        assertThatThrownBy(() -> GreetingTemplate.compile("Hello, {user}!"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("index 7");
+    }
+}
@@ -0,0 +1,121 @@
+package com.springboot.tenant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = {
+    "app.security.admin.username=greeting-admin",
+    "app.security.admin.password=admin-password-123",
+    "app.tenants.overlays.acme.greetings.es=¡Hola desde Acme!",
+    "app.tenants.overlays.globex.users[0]=greeting-admin",
+    "app.tenants.overlays.globex.greetings.de=Servus von Globex!"
+})
+class TenantCatalogsIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TenantCatalogs tenantCatalogs;
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + uri;
+    }
+
+    private String createManagementURL(String uri) {
+        return "http://localhost:" + managementPort + uri;
+    }
+
+    private ResponseEntity<String> get(String user, String password, String uri, String tenant) {
+        HttpHeaders headers = new HttpHeaders();
+        if (tenant != null) {
+            headers.set("X-Tenant", tenant);
+        }
+        return restTemplate.withBasicAuth(user, password)
+            .exchange(createURLWithPort(uri), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private ResponseEntity<String> userGet(String uri, String tenant) {
+        return get("greeting-user", "dev-password-123", uri, tenant);
+    }
+
+    @Test
+    void testTenantOverridesShareBaseCacheEntries() {
+        assertThat(userGet("/?lang=es", null).getBody()).isEqualTo("¡Hola Mundo!");
+        assertThat(userGet("/?lang=es", "acme").getBody()).isEqualTo("¡Hola desde Acme!");
+        assertThat(userGet("/?lang=es", null).getBody()).isEqualTo("¡Hola Mundo!");
+        assertThat(userGet("/?lang=ru", "acme").getBody()).isEqualTo("Привет мир!");
+        assertThat(userGet("/?lang=ru", "unknown").getBody()).isEqualTo("Привет мир!");
+        assertThat(userGet("/languages", "acme").getBody()).contains("¡Hola desde Acme!").contains("Hallo Welt!");
+
+        Cache<Object, Object> greetings = ((CaffeineCache) cacheManager.getCache("greetings")).getNativeCache();
+        assertThat(greetings.asMap().keySet())
+            .contains("es", "ru", new TenantGreetingKey("acme", "es", 0))
+            .doesNotContain(new TenantGreetingKey("acme", "ru", 0));
+    }
+
+    @Test
+    void testPrincipalTenantTakesPrecedenceOverHeader() {
+        ResponseEntity<String> admin = get("greeting-admin", "admin-password-123", "/?lang=de", "acme");
+
+        assertThat(admin.getBody()).isEqualTo("Servus von Globex!");
+        assertThat(userGet("/?lang=de", "acme").getBody()).isEqualTo("Hallo Welt!");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOverridesAreUpdatedThroughActuator() {
+        TestRestTemplate admin = restTemplate.withBasicAuth("greeting-admin", "admin-password-123");
+        assertThat(userGet("/?lang=it", "initech").getBody()).isEqualTo("Ciao Mondo!");
+
+        ResponseEntity<Map> put = admin.postForEntity(createManagementURL("/actuator/tenants/initech/it"),
+            Map.of("greeting", "Ciao da Initech!"), Map.class);
+        assertThat(put.getBody()).containsEntry("it", "Ciao da Initech!");
+        assertThat(userGet("/?lang=it", "initech").getBody()).isEqualTo("Ciao da Initech!");
+        assertThat(admin.getForObject(createManagementURL("/actuator/tenants"), Map.class))
+            .containsKeys("acme", "globex", "initech");
+
+        // A load that began before the next update finishes after it, under the old key
+        Object oldKey = tenantCatalogs.overlays().get("initech").cacheKey("it");
+        admin.postForEntity(createManagementURL("/actuator/tenants/initech/it"),
+            Map.of("greeting", "Ciao ancora da Initech!"), Map.class);
+        cacheManager.getCache("greetings").put(oldKey, "Ciao da Initech!");
+        assertThat(userGet("/?lang=it", "initech").getBody()).isEqualTo("Ciao ancora da Initech!");
+
+        admin.exchange(createManagementURL("/actuator/tenants/initech/it"), HttpMethod.DELETE, HttpEntity.EMPTY, Map.class);
+        assertThat(userGet("/?lang=it", "initech").getBody()).isEqualTo("Ciao Mondo!");
+
+        assertThat(admin.postForEntity(createManagementURL("/actuator/tenants/Bad_Id/it"),
+            Map.of("greeting", "x"), Map.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(restTemplate.withBasicAuth("greeting-user", "dev-password-123")
+            .postForEntity(createManagementURL("/actuator/tenants/acme/it"), Map.of("greeting", "x"), Map.class)
+            .getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+}
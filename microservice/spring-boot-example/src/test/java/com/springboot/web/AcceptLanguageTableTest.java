@@ -0,0 +1,44 @@
+package com.springboot.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcceptLanguageTableTest {
+
+    private final AcceptLanguageTable table = new AcceptLanguageTable(
+            List.of("de", "en", "es", "fr", "ja", "pt"), "en");
+
+    @Test
+    void testRegionFallsBackToPrimaryLanguage() {
+        assertThat(table.negotiate("pt-BR")).isEqualTo("pt");
+        assertThat(table.negotiate("zh-Hant-TW, ja-JP;q=0.5")).isEqualTo("ja");
+        assertThat(table.negotiate("ES-mx")).isEqualTo("es");
+    }
+
+    @Test
+    void testHighestQualityWinsAndFirstBreaksTies() {
+        assertThat(table.negotiate("fr;q=0.4, de;q=0.9, es;q=0.7")).isEqualTo("de");
+        assertThat(table.negotiate("fr, de")).isEqualTo("fr");
+        assertThat(table.negotiate("it-IT,it;q=0.9,pt-PT;q=0.8,en;q=0.7")).isEqualTo("pt");
+        assertThat(table.negotiate("de ; Q=0.5 ,fr;q=0.6")).isEqualTo("fr");
+    }
+
+    @Test
+    void testZeroAndMalformedQualitiesNeverMatch() {
+        assertThat(table.negotiate("fr;q=0, de;q=0.001")).isEqualTo("de");
+        assertThat(table.negotiate("fr;q=0.0000, es;q=2, de;q=abc, pt;q=1.5")).isEqualTo("en");
+        assertThat(table.negotiate("fr;q=1.000;level=1")).isEqualTo("fr");
+    }
+
+    @Test
+    void testUnsupportedWildcardAndGarbageUseDefault() {
+        assertThat(table.negotiate("ko-KR, zh")).isEqualTo("en");
+        assertThat(table.negotiate("*")).isEqualTo("en");
+        assertThat(table.negotiate("fr;q=0.5, *")).isEqualTo("en");
+        assertThat(table.negotiate("por, e, 12, ;q=1, ,,")).isEqualTo("en");
+        assertThat(table.negotiate("")).isEqualTo("en");
+    }
+}
@@ -0,0 +1,96 @@
+package com.springboot.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.springboot.model.GreetingV2Response;
+import com.springboot.model.LanguageCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml")
+class BinaryContentNegotiationIntegrationTest {
+
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final MediaType PROTOBUF = MediaType.valueOf("application/x-protobuf");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private final GreetingProtobufCodec protobufCodec = new GreetingProtobufCodec();
+
+    private ResponseEntity<byte[]> get(String uri, MediaType accept) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(accept));
+        return restTemplate
+            .withBasicAuth("greeting-user", "dev-password-123")
+            .exchange("http://localhost:" + port + uri, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+    }
+
+    @Test
+    void testEnhancedGreetingAsCbor() throws Exception {
+        ResponseEntity<byte[]> response = get("/api/v2/greeting?lang=es", CBOR);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(CBOR);
+        GreetingV2Response greeting = new CBORMapper().readValue(response.getBody(), GreetingV2Response.class);
+        assertThat(greeting.message()).isEqualTo("¡Hola Mundo!");
+        assertThat(greeting.metadata().isSupported()).isTrue();
+    }
+
+    @Test
+    void testLanguagesAsSmile() throws Exception {
+        ResponseEntity<byte[]> response = get("/languages", SMILE);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Map<String, String> languages = new SmileMapper().readValue(response.getBody(), new TypeReference<>() { });
+        assertThat(languages).hasSize(9).containsEntry("ja", "こんにちは世界!");
+    }
+
+    @Test
+    void testEnhancedGreetingAsProtobuf() throws Exception {
+        ResponseEntity<byte[]> response = get("/api/v2/greeting?lang=ru", PROTOBUF);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(PROTOBUF);
+        GreetingV2Response greeting = protobufCodec.decodeGreeting(response.getBody());
+        assertThat(greeting.message()).isEqualTo("Привет мир!");
+        assertThat(greeting.language()).isEqualTo("ru");
+        assertThat(greeting.metadata().characterCount()).isEqualTo(11);
+    }
+
+    @Test
+    void testLanguagesAsProtobuf() throws Exception {
+        ResponseEntity<byte[]> response = get("/languages", PROTOBUF);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        LanguageCatalog catalog = protobufCodec.decodeCatalog(response.getBody());
+        assertThat(catalog.languages()).hasSize(9)
+            .contains(new LanguageCatalog.LanguageEntry("zh", "你好世界!"));
+    }
+
+    @Test
+    void testApiInfoIsNotAvailableAsProtobuf() {
+        assertThat(get("/api/v2/info", PROTOBUF).getStatusCode()).isEqualTo(HttpStatus.NOT_ACCEPTABLE);
+    }
+}
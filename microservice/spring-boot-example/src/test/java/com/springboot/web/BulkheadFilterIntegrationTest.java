@@ -0,0 +1,93 @@
+package com.springboot.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = {
+    "app.bulkhead.greeting=1",
+    "app.bulkhead.async=1",
+    "app.backend.local.greeting-latency=500ms"
+})
+class BulkheadFilterIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + uri;
+    }
+
+    @Test
+    void testFullPartitionIsRefusedWhileOthersKeepServing() throws Exception {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+        CompletableFuture<ResponseEntity<String>> slow = CompletableFuture.supplyAsync(
+            () -> client.getForEntity(createURLWithPort("/?lang=fr"), String.class));
+        awaitInUse("greeting", 1);
+
+        ResponseEntity<Map> refused = client.getForEntity(createURLWithPort("/?lang=de"), Map.class);
+        assertThat(refused.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(refused.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(refused.getBody()).containsEntry("status", 503)
+            .containsEntry("message", "Too many concurrent requests for this endpoint. Please try again later.");
+
+        assertThat(client.getForEntity(createURLWithPort("/api/v2/greeting?lang=it"), String.class).getStatusCode())
+            .isEqualTo(HttpStatus.OK);
+        assertThat(client.getForEntity(createURLWithPort("/languages"), String.class).getStatusCode())
+            .isEqualTo(HttpStatus.OK);
+
+        assertThat(slow.get().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(inUse("greeting")).isZero();
+        assertThat(meterRegistry.get("greeting_bulkhead_rejected_total").tag("partition", "greeting")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("greeting_bulkhead_limit").tag("partition", "v2").gauge().value())
+            .isEqualTo(64.0);
+    }
+
+    @Test
+    void testAsyncPermitIsHeldUntilCompletion() throws Exception {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+        CompletableFuture<ResponseEntity<String>> slow = CompletableFuture.supplyAsync(
+            () -> client.getForEntity(createURLWithPort("/async?lang=ja"), String.class));
+        awaitInUse("async", 1);
+
+        assertThat(client.getForEntity(createURLWithPort("/async?lang=zh"), String.class).getStatusCode())
+            .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+        assertThat(slow.get().getStatusCode()).isEqualTo(HttpStatus.OK);
+        awaitInUse("async", 0);
+        assertThat(client.getForEntity(createURLWithPort("/async?lang=ja"), String.class).getStatusCode())
+            .isEqualTo(HttpStatus.OK);
+    }
+
+    private double inUse(String partition) {
+        return meterRegistry.get("greeting_bulkhead_in_use").tag("partition", partition).gauge().value();
+    }
+
+    private void awaitInUse(String partition, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (inUse(partition) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(inUse(partition)).isEqualTo(expected);
+    }
+}
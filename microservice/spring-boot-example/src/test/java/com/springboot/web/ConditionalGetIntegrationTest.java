@@ -0,0 +1,122 @@
+package com.springboot.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml")
+class ConditionalGetIntegrationTest {
+
+    private static final int REVALIDATIONS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CatalogRepresentations representations;
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + uri;
+    }
+
+    private ResponseEntity<byte[]> get(String uri, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.ALL));
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return restTemplate
+            .withBasicAuth("greeting-user", "dev-password-123")
+            .exchange(createURLWithPort(uri), HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+    }
+
+    private double counter(String name, String endpoint) {
+        var counter = meterRegistry.find(name).tag("endpoint", endpoint).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    void testLanguagesRevalidationIsAnsweredWithNotModified() {
+        ResponseEntity<byte[]> first = get("/languages", null);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isEqualTo(representations.languages().etag());
+        assertThat(first.getBody()).isEqualTo(representations.languages().body());
+        assertThat(first.getHeaders().getCacheControl()).contains("private").doesNotContain("public").contains("max-age=60");
+        int bodyLength = first.getBody().length;
+
+        double savedBefore = counter("greeting_conditional_bytes_saved_total", "/languages");
+        int notModified = 0;
+        for (int i = 0; i < REVALIDATIONS; i++) {
+            ResponseEntity<byte[]> response = get("/languages", etag);
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                notModified++;
+                assertThat(response.getBody()).isNull();
+                assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+            }
+        }
+
+        assertThat(notModified).isEqualTo(REVALIDATIONS);
+        assertThat(counter("greeting_conditional_bytes_saved_total", "/languages") - savedBefore)
+            .isEqualTo((double) REVALIDATIONS * bodyLength);
+    }
+
+    @Test
+    void testStaleEtagReturnsFullBody() {
+        ResponseEntity<byte[]> response = get("/api/v2/info", "\"stale\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo("\"stale\"");
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).contains("\"version\":\"2.0\"");
+    }
+
+    @Test
+    void testGreetingEtagMatchesServedBody() {
+        ResponseEntity<byte[]> spanish = get("/?lang=es", null);
+        ResponseEntity<byte[]> french = get("/?lang=fr", null);
+
+        assertThat(new String(spanish.getBody(), StandardCharsets.UTF_8)).isEqualTo("¡Hola Mundo!");
+        assertThat(spanish.getHeaders().getETag()).isNotEqualTo(french.getHeaders().getETag());
+        assertThat(get("/?lang=es", spanish.getHeaders().getETag()).getStatusCode())
+            .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(get("/?lang=fr", spanish.getHeaders().getETag()).getStatusCode())
+            .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void testNegotiatedGreetingUsesLanguageEtag() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.ALL));
+        headers.set(HttpHeaders.ACCEPT_LANGUAGE, "de-AT,de;q=0.9");
+        headers.setIfNoneMatch(representations.greeting("de").etag());
+
+        ResponseEntity<byte[]> response = restTemplate
+            .withBasicAuth("greeting-user", "dev-password-123")
+            .exchange(createURLWithPort("/"), HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE);
+    }
+}
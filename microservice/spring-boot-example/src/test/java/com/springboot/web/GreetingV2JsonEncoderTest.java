@@ -0,0 +1,59 @@
+package com.springboot.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.model.GreetingV2Response;
+import com.springboot.util.CoarseClock;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GreetingV2JsonEncoderTest {
+
+    private final CoarseClock clock = new CoarseClock(Clock.systemUTC(), Duration.ofMillis(10));
+    private final GreetingV2JsonEncoder encoder = new GreetingV2JsonEncoder(clock);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testEncodingMatchesJackson() throws Exception {
+        GreetingV2Response response = GreetingV2Response.of(
+            "¡Hola Mundo!", "es", clock.tick().text(), true, "127.0.0.1");
+
+        assertThat(new String(encoder.encode(response), StandardCharsets.UTF_8))
+            .isEqualTo(objectMapper.writeValueAsString(response));
+    }
+
+    @Test
+    void testUnsupportedLanguageAndEscapedClientIP() throws Exception {
+        GreetingV2Response response = GreetingV2Response.of(
+            "Hello World!", "xx", "2024-01-15T10:30:00", false, "evil\"\\ip\n");
+
+        assertThat(new String(encoder.encode(response), StandardCharsets.UTF_8))
+            .isEqualTo(objectMapper.writeValueAsString(response));
+    }
+
+    @Test
+    void testFragmentsRefreshWhenMessageChanges() throws Exception {
+        encoder.encode(GreetingV2Response.of("Hello World!", "en", null, true, "10.0.0.1"));
+        GreetingV2Response changed = GreetingV2Response.of("Hi there!", "en", null, true, "10.0.0.1");
+
+        assertThat(new String(encoder.encode(changed), StandardCharsets.UTF_8))
+            .isEqualTo(objectMapper.writeValueAsString(changed));
+    }
+
+    @Test
+    void testTenantOverridesKeepTheirOwnFragments() throws Exception {
+        GreetingV2Response catalog = GreetingV2Response.of("Hello World!", "en", null, true, "10.0.0.1");
+        GreetingV2Response tenant = GreetingV2Response.of("Welcome to Acme!", "en", null, true, "10.0.0.2");
+
+        GreetingV2JsonEncoder.Fragments first = encoder.fragmentsFor(catalog);
+        encoder.encode(tenant);
+
+        assertThat(encoder.fragmentsFor(catalog)).isSameAs(first);
+        assertThat(new String(encoder.encode(tenant), StandardCharsets.UTF_8))
+            .isEqualTo(objectMapper.writeValueAsString(tenant));
+    }
+}
@@ -0,0 +1,51 @@
+package com.springboot.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml",
+        properties = "app.security.rate-limit.requests-per-second=0.001")
+class RateLimitFilterIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + uri;
+    }
+
+    @Test
+    void testRejectionIsWrittenFromPreEncodedBody() {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+        client.getForEntity(createURLWithPort("/languages"), String.class);
+
+        ResponseEntity<Map> response = client.getForEntity(createURLWithPort("/languages"), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        Map<String, Object> errorResponse = response.getBody();
+        assertThat(errorResponse).isNotNull();
+        assertThat(errorResponse.get("status")).isEqualTo(429);
+        assertThat(errorResponse.get("error")).isEqualTo("Too Many Requests");
+        assertThat(errorResponse.get("message")).isEqualTo("Rate limit exceeded. Please try again later.");
+        assertThat(errorResponse.get("retryAfter")).isEqualTo("1 second");
+        assertThat(errorResponse.get("timestamp")).isNotNull();
+    }
+}
@@ -0,0 +1,105 @@
+package com.springboot.web;
+
+import com.springboot.journal.JournalFormat;
+import com.springboot.journal.JournalDecoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = "app.journal.enabled=true")
+class RequestJournalFilterIntegrationTest {
+
+    private static final Path JOURNAL_DIRECTORY = createTempDirectory();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) {
+        registry.add("app.journal.directory", JOURNAL_DIRECTORY::toString);
+    }
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + uri;
+    }
+
+    @Test
+    void testGreetingRequestsAreJournaled() throws Exception {
+        TestRestTemplate client = restTemplate.withBasicAuth("greeting-user", "dev-password-123");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", "198.51.100.23, 10.0.0.1");
+        client.exchange(createURLWithPort("/?lang=es"), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        client.getForEntity(createURLWithPort("/api/v2/greeting?lang=eng"), String.class);
+        client.getForEntity(createURLWithPort("/async?lang=fr"), String.class);
+        client.getForEntity(createURLWithPort("/api/v2/info"), String.class);
+
+        List<JournalFormat.Entry> entries = awaitEntries(3);
+        assertThat(entries).hasSize(3);
+        assertThat(entries).extracting(JournalFormat.Entry::endpoint)
+            .containsExactlyInAnyOrder("/", "/api/v2/greeting", "/async");
+        assertThat(entries).allSatisfy(entry -> {
+            assertThat(entry.principal()).isEqualTo("greeting-user");
+            assertThat(entry.latencyNanos()).isPositive();
+        });
+        JournalFormat.Entry greeting = find(entries, "/");
+        assertThat(greeting.client()).isEqualTo("198.51.100.23");
+        assertThat(greeting.language()).isEqualTo("es");
+        assertThat(greeting.status()).isEqualTo(200);
+        JournalFormat.Entry invalid = find(entries, "/api/v2/greeting");
+        assertThat(invalid.language()).isEmpty();
+        assertThat(invalid.status()).isEqualTo(400);
+        assertThat(find(entries, "/async").status()).isEqualTo(200);
+    }
+
+    private static JournalFormat.Entry find(List<JournalFormat.Entry> entries, String endpoint) {
+        return entries.stream().filter(entry -> entry.endpoint().equals(endpoint)).findFirst().orElseThrow();
+    }
+
+    private static List<JournalFormat.Entry> entries() throws IOException {
+        List<JournalFormat.Entry> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(JOURNAL_DIRECTORY)) {
+            JournalDecoder.read(files.sorted().toList(), entries::add);
+        }
+        return entries;
+    }
+
+    private static List<JournalFormat.Entry> awaitEntries(int count) throws IOException, InterruptedException {
+        // The async request is journaled on completion, which may trail the response
+        long deadline = System.currentTimeMillis() + 5_000;
+        List<JournalFormat.Entry> entries = entries();
+        while (entries.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            entries = entries();
+        }
+        return entries;
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("request-journal");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
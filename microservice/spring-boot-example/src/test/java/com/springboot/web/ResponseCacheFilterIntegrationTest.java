@@ -0,0 +1,104 @@
+package com.springboot.web;
+
+import com.springboot.service.GreetingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.yml", properties = "app.response-cache.enabled=true")
+class ResponseCacheFilterIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private GreetingService greetingService;
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + uri;
+    }
+
+    private ResponseEntity<String> get(String uri) {
+        return restTemplate
+            .withBasicAuth("greeting-user", "dev-password-123")
+            .getForEntity(createURLWithPort(uri), String.class);
+    }
+
+    private ResponseEntity<String> getWithAcceptLanguage(String acceptLanguage) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_LANGUAGE, acceptLanguage);
+        return restTemplate
+            .withBasicAuth("greeting-user", "dev-password-123")
+            .exchange(createURLWithPort("/"), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private double lookups(String endpoint, String result) {
+        var counter = meterRegistry.find("greeting_response_cache_requests_total")
+            .tag("endpoint", endpoint).tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    void testRepeatedGreetingIsServedFromCache() {
+        double hitsBefore = lookups("/", "hit");
+
+        ResponseEntity<String> first = get("/?lang=de");
+        ResponseEntity<String> second = get("/?lang=de");
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getBody()).isEqualTo("Hallo Welt!");
+        assertThat(second.getHeaders().getContentType()).isEqualTo(first.getHeaders().getContentType());
+        assertThat(lookups("/", "hit") - hitsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void testEvictGreetingInvalidatesCachedResponse() {
+        get("/?lang=it");
+        double missesBefore = lookups("/", "miss");
+
+        greetingService.evictGreeting("it");
+        ResponseEntity<String> response = get("/?lang=it");
+
+        assertThat(response.getBody()).isEqualTo("Ciao Mondo!");
+        assertThat(lookups("/", "miss") - missesBefore).isEqualTo(1);
+    }
+
+    @Test
+    void testInvalidRequestsAreNeverCached() {
+        double before = lookups("/", "hit") + lookups("/", "miss");
+
+        assertThat(get("/?lang=xyz").getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(get("/?lang=xyz").getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        assertThat(lookups("/", "hit") + lookups("/", "miss")).isEqualTo(before);
+    }
+
+    @Test
+    void testNegotiatedGreetingsAreCachedPerLanguage() {
+        for (int i = 0; i < 2; i++) {
+            assertThat(getWithAcceptLanguage("ja-JP").getBody()).isEqualTo("こんにちは世界!");
+            ResponseEntity<String> russian = getWithAcceptLanguage("ru;q=0.8, xx");
+            assertThat(russian.getBody()).isEqualTo("Привет мир!");
+            assertThat(russian.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_LANGUAGE);
+        }
+    }
+}